@@ -0,0 +1,267 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Flowable;
+
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.websocket.events.Notification;
+
+/**
+ * A {@link Web3jService} decorator that coalesces concurrent asynchronous requests into JSON-RPC
+ * batches.
+ *
+ * <p>Requests sent via {@link #sendAsync(Request, Class)} are held for up to the configured window,
+ * or until the configured number of requests has been gathered, and are then sent to the
+ * underlying service as a single batch. Each request's {@link CompletableFuture} is completed
+ * individually with its own response.
+ *
+ * <p>Synchronous requests, explicit batches and subscriptions are passed straight through to the
+ * underlying service.
+ *
+ * <p>Unless a scheduler is provided, the window is timed on a single daemon thread owned by this
+ * service, which is shut down by {@link #close()}. A provided scheduler is left running.
+ */
+public class CoalescingWeb3jService implements Web3jService {
+
+    public static final long DEFAULT_WINDOW_MILLIS = 2;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    private final Web3jService web3jService;
+    private final long windowMillis;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduledExecutorService;
+    private final boolean ownsScheduledExecutorService;
+
+    private final Object lock = new Object();
+    private List<PendingRequest<?>> pendingRequests = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public CoalescingWeb3jService(Web3jService web3jService) {
+        this(web3jService, DEFAULT_WINDOW_MILLIS, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    public CoalescingWeb3jService(Web3jService web3jService, long windowMillis, int maxBatchSize) {
+        this(web3jService, windowMillis, maxBatchSize, newScheduledExecutorService(), true);
+    }
+
+    public CoalescingWeb3jService(
+            Web3jService web3jService,
+            long windowMillis,
+            int maxBatchSize,
+            ScheduledExecutorService scheduledExecutorService) {
+        this(web3jService, windowMillis, maxBatchSize, scheduledExecutorService, false);
+    }
+
+    private CoalescingWeb3jService(
+            Web3jService web3jService,
+            long windowMillis,
+            int maxBatchSize,
+            ScheduledExecutorService scheduledExecutorService,
+            boolean ownsScheduledExecutorService) {
+        if (windowMillis < 0) {
+            throw new IllegalArgumentException("Coalescing window must not be negative");
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Maximum batch size must be at least 1");
+        }
+        this.web3jService = web3jService;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.scheduledExecutorService = scheduledExecutorService;
+        this.ownsScheduledExecutorService = ownsScheduledExecutorService;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        return web3jService.send(request, responseType);
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        if (request.getResponseType() == null) {
+            // Batches are decoded by each request's own response type
+            return web3jService.sendAsync(request, responseType);
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        List<PendingRequest<?>> toFlush = null;
+
+        synchronized (lock) {
+            pendingRequests.add(new PendingRequest<>(request, responseType, result));
+            if (pendingRequests.size() >= maxBatchSize) {
+                toFlush = drainPendingRequests();
+            } else if (scheduledFlush == null) {
+                scheduledFlush =
+                        scheduledExecutorService.schedule(
+                                this::flush, windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (toFlush != null) {
+            dispatch(toFlush);
+        }
+        return result;
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return web3jService.sendBatch(batchRequest);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return web3jService.sendBatchAsync(batchRequest);
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        return web3jService.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    /** Send all pending requests immediately, without waiting for the window to elapse. */
+    public void flush() {
+        List<PendingRequest<?>> toFlush;
+        synchronized (lock) {
+            toFlush = drainPendingRequests();
+        }
+        dispatch(toFlush);
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        if (ownsScheduledExecutorService) {
+            scheduledExecutorService.shutdown();
+        }
+        web3jService.close();
+    }
+
+    private static ScheduledExecutorService newScheduledExecutorService() {
+        return Executors.newSingleThreadScheduledExecutor(
+                runnable -> {
+                    Thread thread = new Thread(runnable, "web3j-coalescing");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    private List<PendingRequest<?>> drainPendingRequests() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        List<PendingRequest<?>> drained = pendingRequests;
+        pendingRequests = new ArrayList<>();
+        return drained;
+    }
+
+    private void dispatch(List<PendingRequest<?>> requests) {
+        if (requests.isEmpty()) {
+            return;
+        } else if (requests.size() == 1) {
+            requests.get(0).sendIndividually();
+            return;
+        }
+
+        BatchRequest batchRequest = new BatchRequest(web3jService);
+        for (PendingRequest<?> pendingRequest : requests) {
+            batchRequest.add(pendingRequest.request);
+        }
+
+        web3jService
+                .sendBatchAsync(batchRequest)
+                .whenComplete(
+                        (batchResponse, throwable) -> {
+                            if (throwable != null) {
+                                requests.forEach(r -> r.result.completeExceptionally(throwable));
+                            } else {
+                                completeAll(requests, batchResponse);
+                            }
+                        });
+    }
+
+    private static void completeAll(
+            List<PendingRequest<?>> requests, BatchResponse batchResponse) {
+        List<? extends Response<?>> responses =
+                batchResponse == null ? null : batchResponse.getResponses();
+
+        for (int i = 0; i < requests.size(); i++) {
+            PendingRequest<?> pendingRequest = requests.get(i);
+            Response<?> response =
+                    responses != null && i < responses.size() ? responses.get(i) : null;
+            if (response != null) {
+                pendingRequest.complete(response);
+            } else {
+                pendingRequest.result.completeExceptionally(
+                        new IOException(
+                                String.format(
+                                        "No response received for request with id %d",
+                                        pendingRequest.request.getId())));
+            }
+        }
+    }
+
+    private class PendingRequest<T extends Response> {
+        private final Request<?, ? extends Response<?>> request;
+        private final Class<T> responseType;
+        private final CompletableFuture<T> result;
+
+        @SuppressWarnings("unchecked")
+        PendingRequest(Request request, Class<T> responseType, CompletableFuture<T> result) {
+            this.request = (Request<?, ? extends Response<?>>) request;
+            this.responseType = responseType;
+            this.result = result;
+        }
+
+        void complete(Response<?> response) {
+            try {
+                result.complete(responseType.cast(response));
+            } catch (ClassCastException e) {
+                result.completeExceptionally(
+                        new IOException(
+                                String.format(
+                                        "Unexpected response type %s for request with id %d",
+                                        response.getClass().getName(), request.getId()),
+                                e));
+            }
+        }
+
+        void sendIndividually() {
+            web3jService
+                    .sendAsync(request, responseType)
+                    .whenComplete(
+                            (response, throwable) -> {
+                                if (throwable != null) {
+                                    result.completeExceptionally(throwable);
+                                } else {
+                                    result.complete(response);
+                                }
+                            });
+        }
+    }
+}
@@ -0,0 +1,449 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.reactivex.Flowable;
+
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.websocket.events.Notification;
+
+/**
+ * A {@link Web3jService} that hedges slow read-only requests.
+ *
+ * <p>Every request is sent to the first service, so that filters and pending transactions it
+ * knows about are always queried on the same node. If no response has arrived after the hedge
+ * delay, a duplicate request is sent to the next distinct service and whichever response arrives
+ * first is used; the other request is cancelled. By default the hedge delay tracks the 95th
+ * percentile of observed response times, so that roughly one request in twenty is hedged.
+ *
+ * <p>Only methods in the allowlist are hedged, which defaults to {@link
+ * IdempotentMethods#READ_ONLY_METHODS}. Methods that submit transactions can never be hedged.
+ * Batches and subscriptions are passed straight through to the first service. With a single
+ * service nothing is hedged, as a duplicate request to the same service would reuse its id.
+ */
+public class HedgingWeb3jService implements Web3jService {
+
+    public static final long DEFAULT_HEDGE_DELAY_MILLIS = 100;
+    public static final double DEFAULT_HEDGE_PERCENTILE = 0.95;
+
+    private static final Set<String> NEVER_HEDGED =
+            Collections.unmodifiableSet(
+                    new HashSet<>(
+                            Arrays.asList(
+                                    "eth_sendRawTransaction",
+                                    "eth_sendTransaction",
+                                    "eth_sign",
+                                    "eth_signTransaction",
+                                    "personal_sendTransaction")));
+
+    private final List<Web3jService> web3jServices;
+    private final Set<String> hedgedMethods;
+    private final ScheduledExecutorService scheduledExecutorService;
+    private final boolean ownsScheduledExecutorService;
+    private final LatencyTracker latencyTracker;
+    private final long fixedDelayNanos;
+    // Service that slow requests are duplicated to, or null if there is only one distinct service
+    private final Web3jService secondary;
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong hedgeCount = new AtomicLong();
+    private final AtomicLong hedgeWinCount = new AtomicLong();
+
+    public HedgingWeb3jService(List<? extends Web3jService> web3jServices) {
+        this(new Builder(web3jServices));
+    }
+
+    private HedgingWeb3jService(Builder builder) {
+        this.web3jServices = Collections.unmodifiableList(new ArrayList<>(builder.web3jServices));
+        this.hedgedMethods = builder.hedgedMethods;
+        this.ownsScheduledExecutorService = builder.scheduledExecutorService == null;
+        this.scheduledExecutorService =
+                ownsScheduledExecutorService
+                        ? newScheduledExecutorService()
+                        : builder.scheduledExecutorService;
+        this.fixedDelayNanos = TimeUnit.MILLISECONDS.toNanos(builder.hedgeDelayMillis);
+        this.latencyTracker =
+                builder.hedgePercentile > 0 ? new LatencyTracker(builder.hedgePercentile) : null;
+        this.secondary = secondaryOf(this.web3jServices);
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        if (!isHedged(request.getMethod())) {
+            return web3jServices.get(0).send(request, responseType);
+        }
+
+        try {
+            return sendAsync(request, responseType).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for response", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        Web3jService primary = web3jServices.get(0);
+        if (!isHedged(request.getMethod())) {
+            return primary.sendAsync(request, responseType);
+        }
+
+        requestCount.incrementAndGet();
+        HedgedRequest<T> hedgedRequest = new HedgedRequest<>(request, responseType);
+        hedgedRequest.start(primary);
+        return hedgedRequest.result;
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return web3jServices.get(0).sendBatch(batchRequest);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return web3jServices.get(0).sendBatchAsync(batchRequest);
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        return web3jServices.get(0).subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (ownsScheduledExecutorService) {
+            scheduledExecutorService.shutdown();
+        }
+        IOException failure = null;
+        for (Web3jService web3jService : web3jServices) {
+            try {
+                web3jService.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /** @return the number of requests eligible for hedging */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /** @return the number of duplicate requests sent */
+    public long getHedgeCount() {
+        return hedgeCount.get();
+    }
+
+    /** @return the number of duplicate requests that answered before the original request */
+    public long getHedgeWinCount() {
+        return hedgeWinCount.get();
+    }
+
+    /** @return the delay currently applied before a duplicate request is sent */
+    public long getHedgeDelayMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(hedgeDelayNanos());
+    }
+
+    private boolean isHedged(String method) {
+        return secondary != null && hedgedMethods.contains(method);
+    }
+
+    /** Returns the first service that is not the primary itself. */
+    private static Web3jService secondaryOf(List<Web3jService> web3jServices) {
+        Web3jService primary = web3jServices.get(0);
+        for (Web3jService candidate : web3jServices) {
+            if (candidate != primary) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static ScheduledExecutorService newScheduledExecutorService() {
+        return Executors.newSingleThreadScheduledExecutor(
+                runnable -> {
+                    Thread thread = new Thread(runnable, "web3j-hedging");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    private long hedgeDelayNanos() {
+        if (latencyTracker == null) {
+            return fixedDelayNanos;
+        }
+        long percentile = latencyTracker.percentileNanos();
+        return percentile > 0 ? percentile : fixedDelayNanos;
+    }
+
+    private static <T extends Response> CompletableFuture<T> sendAttempt(
+            Web3jService web3jService, Request request, Class<T> responseType) {
+        try {
+            return web3jService.sendAsync(request, responseType);
+        } catch (RuntimeException e) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+    }
+
+    private final class HedgedRequest<T extends Response> {
+
+        private final Request request;
+        private final Class<T> responseType;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final AtomicBoolean hedged = new AtomicBoolean();
+        private final AtomicBoolean answered = new AtomicBoolean();
+        // Attempts still in flight; the request fails only once every attempt has failed
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private volatile CompletableFuture<T> primaryAttempt;
+        private volatile CompletableFuture<T> hedgeAttempt;
+        private volatile ScheduledFuture<?> scheduledHedge;
+
+        HedgedRequest(Request request, Class<T> responseType) {
+            this.request = request;
+            this.responseType = responseType;
+        }
+
+        void start(Web3jService primary) {
+            long start = System.nanoTime();
+            pending.incrementAndGet();
+            primaryAttempt = sendAttempt(primary, request, responseType);
+            primaryAttempt.whenComplete(
+                    (response, throwable) -> {
+                        // Failed and cancelled attempts are recorded too, otherwise the slowest
+                        // responses, which lose to the hedge, would never count towards the delay
+                        if (latencyTracker != null) {
+                            latencyTracker.record(System.nanoTime() - start);
+                        }
+                        onComplete(response, throwable, false);
+                    });
+
+            if (!result.isDone()) {
+                scheduledHedge =
+                        scheduledExecutorService.schedule(
+                                this::hedge, hedgeDelayNanos(), TimeUnit.NANOSECONDS);
+            }
+            result.whenComplete((response, throwable) -> cancelOutstanding());
+        }
+
+        private void hedge() {
+            if (answered.get() || result.isDone() || !hedged.compareAndSet(false, true)) {
+                return;
+            }
+            hedgeCount.incrementAndGet();
+            pending.incrementAndGet();
+            hedgeAttempt = sendAttempt(secondary, request, responseType);
+            hedgeAttempt.whenComplete(
+                    (response, throwable) -> onComplete(response, throwable, true));
+        }
+
+        private void onComplete(T response, Throwable throwable, boolean fromHedge) {
+            if (throwable == null) {
+                if (answered.compareAndSet(false, true)) {
+                    // Cancel the losing attempt before the caller sees the response
+                    cancelOutstanding();
+                    if (fromHedge) {
+                        hedgeWinCount.incrementAndGet();
+                    }
+                    result.complete(response);
+                }
+                return;
+            }
+
+            if (!fromHedge) {
+                // Don't wait for the delay to elapse if the original request has already failed
+                hedge();
+            }
+            if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(unwrap(throwable));
+            }
+        }
+
+        private void cancelOutstanding() {
+            ScheduledFuture<?> scheduledHedge = this.scheduledHedge;
+            if (scheduledHedge != null) {
+                scheduledHedge.cancel(false);
+            }
+            cancel(primaryAttempt);
+            cancel(hedgeAttempt);
+        }
+
+        private void cancel(CompletableFuture<T> attempt) {
+            if (attempt != null && !attempt.isDone()) {
+                attempt.cancel(true);
+            }
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    /** Keeps a window of recent response times and their percentile. */
+    private static final class LatencyTracker {
+
+        private static final int WINDOW_SIZE = 1024;
+        private static final int MIN_SAMPLES = 20;
+        // Recalculate the percentile after this many new samples, rather than on every request
+        private static final int RECALCULATE_INTERVAL = 64;
+
+        private final double percentile;
+        private final long[] samples = new long[WINDOW_SIZE];
+        private int count;
+        private int next;
+        private int sinceRecalculated;
+        private volatile long percentileNanos;
+
+        LatencyTracker(double percentile) {
+            this.percentile = percentile;
+        }
+
+        synchronized void record(long latencyNanos) {
+            samples[next] = latencyNanos;
+            next = (next + 1) % WINDOW_SIZE;
+            if (count < WINDOW_SIZE) {
+                count++;
+            }
+            if (count >= MIN_SAMPLES
+                    && (percentileNanos == 0 || ++sinceRecalculated >= RECALCULATE_INTERVAL)) {
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                percentileNanos = sorted[Math.min(count - 1, (int) (count * percentile))];
+                sinceRecalculated = 0;
+            }
+        }
+
+        long percentileNanos() {
+            return percentileNanos;
+        }
+    }
+
+    public static class Builder {
+
+        private final List<? extends Web3jService> web3jServices;
+        private Set<String> hedgedMethods = IdempotentMethods.READ_ONLY_METHODS;
+        private long hedgeDelayMillis = DEFAULT_HEDGE_DELAY_MILLIS;
+        private double hedgePercentile = DEFAULT_HEDGE_PERCENTILE;
+        private ScheduledExecutorService scheduledExecutorService;
+
+        public Builder(List<? extends Web3jService> web3jServices) {
+            if (web3jServices == null || web3jServices.isEmpty()) {
+                throw new IllegalArgumentException("At least one service is required");
+            }
+            this.web3jServices = web3jServices;
+        }
+
+        /**
+         * Methods that may be hedged. Methods that submit or sign transactions are rejected.
+         *
+         * @param hedgedMethods allowlist of JSON-RPC method names
+         * @return this builder
+         */
+        public Builder withHedgedMethods(Set<String> hedgedMethods) {
+            for (String method : hedgedMethods) {
+                if (NEVER_HEDGED.contains(method)) {
+                    throw new IllegalArgumentException("Method cannot be hedged: " + method);
+                }
+            }
+            this.hedgedMethods = Collections.unmodifiableSet(new HashSet<>(hedgedMethods));
+            return this;
+        }
+
+        /**
+         * Always wait for a fixed delay before hedging, rather than tracking observed response
+         * times.
+         *
+         * @param hedgeDelayMillis hedge delay in milliseconds
+         * @return this builder
+         */
+        public Builder withHedgeDelayMillis(long hedgeDelayMillis) {
+            if (hedgeDelayMillis < 0) {
+                throw new IllegalArgumentException("Invalid hedge delay: " + hedgeDelayMillis);
+            }
+            this.hedgeDelayMillis = hedgeDelayMillis;
+            this.hedgePercentile = 0;
+            return this;
+        }
+
+        /**
+         * Hedge requests that take longer than the given percentile of recent response times.
+         * Until enough responses have been observed, the default hedge delay is used.
+         *
+         * @param hedgePercentile percentile between 0 and 1, exclusive
+         * @return this builder
+         */
+        public Builder withHedgePercentile(double hedgePercentile) {
+            if (hedgePercentile <= 0 || hedgePercentile >= 1) {
+                throw new IllegalArgumentException("Invalid hedge percentile: " + hedgePercentile);
+            }
+            this.hedgePercentile = hedgePercentile;
+            return this;
+        }
+
+        /**
+         * Executor to schedule hedges on. It is left running when the service is closed. By
+         * default hedges are scheduled on a single daemon thread owned by the service.
+         *
+         * @param scheduledExecutorService executor for scheduling hedges
+         * @return this builder
+         */
+        public Builder withScheduledExecutorService(
+                ScheduledExecutorService scheduledExecutorService) {
+            this.scheduledExecutorService = scheduledExecutorService;
+            return this;
+        }
+
+        public HedgingWeb3jService build() {
+            return new HedgingWeb3jService(this);
+        }
+    }
+}
@@ -0,0 +1,746 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import io.reactivex.Flowable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.exceptions.ClientConnectionException;
+import org.web3j.protocol.websocket.events.Notification;
+
+/**
+ * A {@link Web3jService} that spreads requests across several replicas of the same node.
+ *
+ * <p>Each request is routed to the healthiest endpoint according to the configured {@link
+ * RoutingStrategy}. Endpoints that fail repeatedly are ejected for a period, and endpoints whose
+ * chain head lags the best known head by more than the configured number of blocks are avoided.
+ * Chain heads are tracked by periodically polling {@code eth_blockNumber} on every endpoint.
+ *
+ * <p>Requests for read-only methods (see {@link IdempotentMethods}) that fail with an I/O error are
+ * retried on a different endpoint. Other requests are never retried, so a transaction is never
+ * submitted twice. Filters are state held by a single node, so requests for a filter are sent to
+ * the endpoint that created it. Filter requests for unknown filter ids are sent to the first
+ * available endpoint.
+ */
+public class LoadBalancedWeb3jService implements Web3jService {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadBalancedWeb3jService.class);
+
+    public static final int DEFAULT_MAX_RETRIES = 2;
+    public static final int DEFAULT_FAILURE_THRESHOLD = 3;
+    public static final long DEFAULT_EJECTION_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    public static final long DEFAULT_HEALTH_CHECK_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(5);
+    public static final long DEFAULT_MAX_BLOCK_LAG = 2;
+
+    // Weight given to the most recent latency sample
+    private static final double EWMA_ALPHA = 0.3;
+
+    private static final Set<String> STICKY_METHODS =
+            Collections.unmodifiableSet(
+                    new HashSet<>(
+                            Arrays.asList(
+                                    "eth_newFilter",
+                                    "eth_newBlockFilter",
+                                    "eth_newPendingTransactionFilter",
+                                    "eth_getFilterChanges",
+                                    "eth_getFilterLogs",
+                                    "eth_uninstallFilter")));
+
+    private static final Set<String> FILTER_CREATION_METHODS =
+            Collections.unmodifiableSet(
+                    new HashSet<>(
+                            Arrays.asList(
+                                    "eth_newFilter",
+                                    "eth_newBlockFilter",
+                                    "eth_newPendingTransactionFilter")));
+
+    private static final Set<String> FILTER_METHODS =
+            Collections.unmodifiableSet(
+                    new HashSet<>(
+                            Arrays.asList(
+                                    "eth_getFilterChanges",
+                                    "eth_getFilterLogs",
+                                    "eth_uninstallFilter")));
+
+    /** How requests are distributed between healthy endpoints. */
+    public enum RoutingStrategy {
+        /** Send each request to the endpoint with the fewest requests in flight. */
+        LEAST_OUTSTANDING_REQUESTS,
+        /**
+         * Send each request to the endpoint with the lowest average latency, weighted by the
+         * number of requests in flight.
+         */
+        LATENCY_EWMA
+    }
+
+    private final List<Endpoint> endpoints;
+    private final RoutingStrategy routingStrategy;
+    private final int maxRetries;
+    private final int failureThreshold;
+    private final long ejectionNanos;
+    private final long maxBlockLag;
+    private final ScheduledExecutorService scheduledExecutorService;
+    private final boolean ownsScheduledExecutorService;
+    // Endpoint that created each filter, by normalised filter id
+    private final Map<String, Endpoint> endpointForFilterId = new ConcurrentHashMap<>();
+
+    public LoadBalancedWeb3jService(List<? extends Web3jService> web3jServices) {
+        this(new Builder(web3jServices));
+    }
+
+    private LoadBalancedWeb3jService(Builder builder) {
+        List<Endpoint> endpoints = new ArrayList<>(builder.web3jServices.size());
+        for (Web3jService web3jService : builder.web3jServices) {
+            endpoints.add(new Endpoint(web3jService));
+        }
+        this.endpoints = Collections.unmodifiableList(endpoints);
+        this.routingStrategy = builder.routingStrategy;
+        this.maxRetries = builder.maxRetries;
+        this.failureThreshold = builder.failureThreshold;
+        this.ejectionNanos = TimeUnit.MILLISECONDS.toNanos(builder.ejectionMillis);
+        this.maxBlockLag = builder.maxBlockLag;
+
+        if (builder.healthCheckIntervalMillis > 0) {
+            this.ownsScheduledExecutorService = builder.scheduledExecutorService == null;
+            this.scheduledExecutorService =
+                    ownsScheduledExecutorService
+                            ? newScheduledExecutorService()
+                            : builder.scheduledExecutorService;
+            scheduledExecutorService.scheduleWithFixedDelay(
+                    this::checkHealth,
+                    0,
+                    builder.healthCheckIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        } else {
+            this.ownsScheduledExecutorService = false;
+            this.scheduledExecutorService = builder.scheduledExecutorService;
+        }
+    }
+
+    private static ScheduledExecutorService newScheduledExecutorService() {
+        return Executors.newSingleThreadScheduledExecutor(
+                runnable -> {
+                    Thread thread = new Thread(runnable, "web3j-health-check");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        return execute(
+                request,
+                IdempotentMethods.isIdempotent(request.getMethod()),
+                service -> service.send(request, responseType),
+                (endpoint, response) -> trackFilters(endpoint, request, response));
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        return executeAsync(
+                request,
+                Collections.singletonList(request.getMethod()),
+                service -> service.sendAsync(request, responseType),
+                (endpoint, response) -> trackFilters(endpoint, request, response));
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return execute(
+                firstRequest(batchRequest),
+                isIdempotent(methodsOf(batchRequest)),
+                service -> service.sendBatch(batchRequest),
+                this::trackFilters);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return executeAsync(
+                firstRequest(batchRequest),
+                methodsOf(batchRequest),
+                service -> service.sendBatchAsync(batchRequest),
+                this::trackFilters);
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        Endpoint endpoint = select(Collections.emptySet(), false, null);
+        if (endpoint == null) {
+            return Flowable.error(noEndpointAvailable());
+        }
+        return endpoint.web3jService.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (ownsScheduledExecutorService) {
+            scheduledExecutorService.shutdown();
+        }
+        IOException failure = null;
+        for (Endpoint endpoint : endpoints) {
+            try {
+                endpoint.web3jService.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /** Poll every endpoint for its chain head, restoring ejected endpoints that respond. */
+    public void checkHealth() {
+        for (Endpoint endpoint : endpoints) {
+            CompletableFuture<EthBlockNumber> future;
+            try {
+                future =
+                        endpoint.web3jService.sendAsync(
+                                new Request<>(
+                                        "eth_blockNumber",
+                                        Collections.<String>emptyList(),
+                                        endpoint.web3jService,
+                                        EthBlockNumber.class),
+                                EthBlockNumber.class);
+            } catch (RuntimeException e) {
+                endpoint.onHealthCheckFailure(ejectionNanos);
+                continue;
+            }
+            future.whenComplete(
+                    (ethBlockNumber, throwable) -> {
+                        if (throwable == null && !ethBlockNumber.hasError()) {
+                            endpoint.onHealthCheckSuccess(
+                                    ethBlockNumber.getBlockNumber().longValue());
+                        } else {
+                            log.debug("Health check failed for endpoint {}", endpoint, throwable);
+                            endpoint.onHealthCheckFailure(ejectionNanos);
+                        }
+                    });
+        }
+    }
+
+    private <T> T execute(
+            Request<?, ?> request,
+            boolean retryable,
+            ServiceCall<T> call,
+            BiConsumer<Endpoint, T> onResult)
+            throws IOException {
+        String method = request == null ? null : request.getMethod();
+        boolean sticky = STICKY_METHODS.contains(method);
+        Endpoint pinned = filterEndpoint(request);
+        Set<Endpoint> tried = new HashSet<>();
+        int retriesLeft = retryable ? maxRetries : 0;
+
+        while (true) {
+            Endpoint endpoint = select(tried, sticky, pinned);
+            if (endpoint == null) {
+                throw noEndpointAvailable();
+            }
+            tried.add(endpoint);
+
+            long start = endpoint.onRequestStart();
+            try {
+                T result = call.apply(endpoint.web3jService);
+                endpoint.onSuccess(start);
+                onResult.accept(endpoint, result);
+                return result;
+            } catch (IOException | ClientConnectionException e) {
+                endpoint.onFailure(start, failureThreshold, ejectionNanos);
+                if (retriesLeft-- <= 0 || select(tried, sticky, pinned) == null) {
+                    throw e;
+                }
+                log.debug("Retrying {} on another endpoint", method, e);
+            } catch (RuntimeException e) {
+                endpoint.onSuccess(start);
+                throw e;
+            }
+        }
+    }
+
+    private <T> CompletableFuture<T> executeAsync(
+            Request<?, ?> request,
+            List<String> methods,
+            Function<Web3jService, CompletableFuture<T>> call,
+            BiConsumer<Endpoint, T> onResult) {
+        boolean sticky = !methods.isEmpty() && STICKY_METHODS.contains(methods.get(0));
+        CompletableFuture<T> result = new CompletableFuture<>();
+        executeAsync(
+                call,
+                onResult,
+                sticky,
+                filterEndpoint(request),
+                Collections.synchronizedSet(new HashSet<>()),
+                isIdempotent(methods) ? maxRetries : 0,
+                result);
+        return result;
+    }
+
+    private <T> void executeAsync(
+            Function<Web3jService, CompletableFuture<T>> call,
+            BiConsumer<Endpoint, T> onResult,
+            boolean sticky,
+            Endpoint pinned,
+            Set<Endpoint> tried,
+            int retriesLeft,
+            CompletableFuture<T> result) {
+        Endpoint endpoint = select(tried, sticky, pinned);
+        if (endpoint == null) {
+            result.completeExceptionally(noEndpointAvailable());
+            return;
+        }
+        tried.add(endpoint);
+
+        long start = endpoint.onRequestStart();
+        CompletableFuture<T> attempt;
+        try {
+            attempt = call.apply(endpoint.web3jService);
+        } catch (RuntimeException e) {
+            attempt = new CompletableFuture<>();
+            attempt.completeExceptionally(e);
+        }
+
+        attempt.whenComplete(
+                (value, throwable) -> {
+                    if (throwable == null) {
+                        endpoint.onSuccess(start);
+                        onResult.accept(endpoint, value);
+                        result.complete(value);
+                        return;
+                    }
+
+                    Throwable cause = unwrap(throwable);
+                    if (!isConnectionFailure(cause)) {
+                        endpoint.onSuccess(start);
+                        result.completeExceptionally(cause);
+                        return;
+                    }
+
+                    endpoint.onFailure(start, failureThreshold, ejectionNanos);
+                    if (retriesLeft > 0 && select(tried, sticky, pinned) != null) {
+                        log.debug("Retrying request on another endpoint", cause);
+                        executeAsync(
+                                call, onResult, sticky, pinned, tried, retriesLeft - 1, result);
+                    } else {
+                        result.completeExceptionally(cause);
+                    }
+                });
+    }
+
+    /**
+     * Choose the best endpoint that has not been tried yet. Healthy endpoints that are in sync with
+     * the best known chain head are preferred; if there are none, any untried endpoint is used
+     * rather than failing outright. A pinned endpoint is used even if it is unhealthy, as no other
+     * endpoint can serve the request.
+     */
+    private Endpoint select(Set<Endpoint> excluded, boolean sticky, Endpoint pinned) {
+        if (pinned != null) {
+            return excluded.contains(pinned) ? null : pinned;
+        }
+        long now = System.nanoTime();
+        long highestBlock = -1;
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint.isAvailable(now)) {
+                highestBlock = Math.max(highestBlock, endpoint.blockNumber);
+            }
+        }
+
+        Endpoint best = null;
+        Endpoint fallback = null;
+        for (Endpoint endpoint : endpoints) {
+            if (excluded.contains(endpoint)) {
+                continue;
+            }
+            if (fallback == null || score(endpoint) < score(fallback)) {
+                fallback = endpoint;
+            }
+            if (!endpoint.isAvailable(now) || isLagging(endpoint, highestBlock)) {
+                continue;
+            }
+            if (sticky) {
+                return endpoint;
+            }
+            if (best == null || score(endpoint) < score(best)) {
+                best = endpoint;
+            }
+        }
+        return best != null ? best : fallback;
+    }
+
+    private boolean isLagging(Endpoint endpoint, long highestBlock) {
+        return endpoint.blockNumber >= 0 && highestBlock - endpoint.blockNumber > maxBlockLag;
+    }
+
+    private double score(Endpoint endpoint) {
+        int outstanding = endpoint.outstanding.get();
+        switch (routingStrategy) {
+            case LATENCY_EWMA:
+                return endpoint.latencyEwmaNanos * (outstanding + 1);
+            case LEAST_OUTSTANDING_REQUESTS:
+            default:
+                return outstanding;
+        }
+    }
+
+    /** Returns the endpoint that created the filter a request is for, if it is known. */
+    private Endpoint filterEndpoint(Request<?, ?> request) {
+        if (request == null
+                || !FILTER_METHODS.contains(request.getMethod())
+                || request.getParams().isEmpty()) {
+            return null;
+        }
+        return endpointForFilterId.get(filterKey(request.getParams().get(0)));
+    }
+
+    private void trackFilters(Endpoint endpoint, Request<?, ?> request, Response<?> response) {
+        if (FILTER_CREATION_METHODS.contains(request.getMethod())
+                || FILTER_METHODS.contains(request.getMethod())) {
+            trackFilter(endpoint, request, response);
+        }
+    }
+
+    private void trackFilters(Endpoint endpoint, BatchResponse batchResponse) {
+        if (batchResponse == null) {
+            return;
+        }
+        List<Request<?, ? extends Response<?>>> requests = batchResponse.getRequests();
+        List<? extends Response<?>> responses = batchResponse.getResponses();
+        // Batch responses are in the same order as their requests
+        for (int i = 0; i < requests.size() && i < responses.size(); i++) {
+            trackFilters(endpoint, requests.get(i), responses.get(i));
+        }
+    }
+
+    private void trackFilter(Endpoint endpoint, Request<?, ?> request, Response<?> response) {
+        if (response == null) {
+            return;
+        }
+        String method = request.getMethod();
+        if (FILTER_CREATION_METHODS.contains(method)) {
+            if (!response.hasError() && response.getResult() instanceof String) {
+                endpointForFilterId.put(filterKey(response.getResult()), endpoint);
+            }
+        } else if (!request.getParams().isEmpty()
+                && (method.equals("eth_uninstallFilter") || isFilterNotFound(response))) {
+            endpointForFilterId.remove(filterKey(request.getParams().get(0)));
+        }
+    }
+
+    private static boolean isFilterNotFound(Response<?> response) {
+        return response.hasError()
+                && response.getError().getMessage() != null
+                && response.getError().getMessage().toLowerCase().contains("filter not found");
+    }
+
+    /**
+     * Filter ids are quantities, which nodes may return with leading zeros while {@link
+     * org.web3j.protocol.Web3j} sends them without.
+     */
+    private static String filterKey(Object filterId) {
+        String key = String.valueOf(filterId).toLowerCase();
+        if (key.startsWith("0x")) {
+            key = key.substring(2);
+        }
+        int start = 0;
+        while (start < key.length() - 1 && key.charAt(start) == '0') {
+            start++;
+        }
+        return key.substring(start);
+    }
+
+    private static Request<?, ?> firstRequest(BatchRequest batchRequest) {
+        return batchRequest.getRequests().isEmpty() ? null : batchRequest.getRequests().get(0);
+    }
+
+    private static List<String> methodsOf(BatchRequest batchRequest) {
+        List<String> methods = new ArrayList<>(batchRequest.getRequests().size());
+        for (Request<?, ? extends Response<?>> request : batchRequest.getRequests()) {
+            methods.add(request.getMethod());
+        }
+        return methods;
+    }
+
+    private static boolean isIdempotent(List<String> methods) {
+        for (String method : methods) {
+            if (!IdempotentMethods.isIdempotent(method)) {
+                return false;
+            }
+        }
+        return !methods.isEmpty();
+    }
+
+    private static boolean isConnectionFailure(Throwable throwable) {
+        return throwable instanceof IOException || throwable instanceof ClientConnectionException;
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        while ((throwable instanceof CompletionException
+                        || throwable instanceof ExecutionException)
+                && throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+        return throwable;
+    }
+
+    private static IOException noEndpointAvailable() {
+        return new IOException("No endpoint available");
+    }
+
+    @FunctionalInterface
+    private interface ServiceCall<T> {
+        T apply(Web3jService web3jService) throws IOException;
+    }
+
+    /** Routing state for a single underlying service. */
+    public static class Endpoint {
+
+        private final Web3jService web3jService;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private volatile double latencyEwmaNanos;
+        private volatile long blockNumber = -1;
+        private volatile long ejectedUntilNanos;
+        private volatile boolean ejected;
+        // Whether the current ejection was caused by failed requests rather than health checks
+        private volatile boolean ejectedForFailedRequests;
+
+        Endpoint(Web3jService web3jService) {
+            this.web3jService = web3jService;
+        }
+
+        public Web3jService getWeb3jService() {
+            return web3jService;
+        }
+
+        public int getOutstandingRequests() {
+            return outstanding.get();
+        }
+
+        public double getLatencyEwmaMillis() {
+            return latencyEwmaNanos / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        /** @return the last chain head reported by this endpoint, or -1 if not yet known */
+        public long getBlockNumber() {
+            return blockNumber;
+        }
+
+        public boolean isEjected() {
+            return !isAvailable(System.nanoTime());
+        }
+
+        boolean isAvailable(long now) {
+            return !ejected || now - ejectedUntilNanos >= 0;
+        }
+
+        long onRequestStart() {
+            outstanding.incrementAndGet();
+            return System.nanoTime();
+        }
+
+        void onSuccess(long start) {
+            outstanding.decrementAndGet();
+            consecutiveFailures.set(0);
+            recordLatency(System.nanoTime() - start);
+        }
+
+        void onFailure(long start, int failureThreshold, long ejectionNanos) {
+            outstanding.decrementAndGet();
+            recordLatency(System.nanoTime() - start);
+            if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+                eject(ejectionNanos);
+                ejectedForFailedRequests = true;
+            }
+        }
+
+        void onHealthCheckSuccess(long blockNumber) {
+            this.blockNumber = blockNumber;
+            // A successful health check only lifts an ejection caused by failed health checks,
+            // an endpoint failing requests stays out for the whole ejection period
+            if (!ejectedForFailedRequests || isAvailable(System.nanoTime())) {
+                consecutiveFailures.set(0);
+                ejected = false;
+                ejectedForFailedRequests = false;
+            }
+        }
+
+        void onHealthCheckFailure(long ejectionNanos) {
+            if (isAvailable(System.nanoTime())) {
+                ejectedForFailedRequests = false;
+            }
+            eject(ejectionNanos);
+        }
+
+        private void eject(long ejectionNanos) {
+            ejectedUntilNanos = System.nanoTime() + ejectionNanos;
+            ejected = true;
+        }
+
+        private void recordLatency(long latencyNanos) {
+            double previous = latencyEwmaNanos;
+            latencyEwmaNanos =
+                    previous == 0
+                            ? latencyNanos
+                            : EWMA_ALPHA * latencyNanos + (1 - EWMA_ALPHA) * previous;
+        }
+
+        @Override
+        public String toString() {
+            return web3jService.getClass().getSimpleName() + "@" + blockNumber;
+        }
+    }
+
+    public static class Builder {
+
+        private final List<? extends Web3jService> web3jServices;
+        private RoutingStrategy routingStrategy = RoutingStrategy.LEAST_OUTSTANDING_REQUESTS;
+        private int maxRetries = DEFAULT_MAX_RETRIES;
+        private int failureThreshold = DEFAULT_FAILURE_THRESHOLD;
+        private long ejectionMillis = DEFAULT_EJECTION_MILLIS;
+        private long healthCheckIntervalMillis = DEFAULT_HEALTH_CHECK_INTERVAL_MILLIS;
+        private long maxBlockLag = DEFAULT_MAX_BLOCK_LAG;
+        private ScheduledExecutorService scheduledExecutorService;
+
+        public Builder(List<? extends Web3jService> web3jServices) {
+            if (web3jServices == null || web3jServices.isEmpty()) {
+                throw new IllegalArgumentException("At least one service is required");
+            }
+            this.web3jServices = web3jServices;
+        }
+
+        public Builder withRoutingStrategy(RoutingStrategy routingStrategy) {
+            this.routingStrategy = routingStrategy;
+            return this;
+        }
+
+        /**
+         * Number of times a failed read-only request is retried on another endpoint.
+         *
+         * @param maxRetries maximum number of retries
+         * @return this builder
+         */
+        public Builder withMaxRetries(int maxRetries) {
+            if (maxRetries < 0) {
+                throw new IllegalArgumentException("Invalid max retries: " + maxRetries);
+            }
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * Number of consecutive failed requests after which an endpoint is ejected.
+         *
+         * @param failureThreshold consecutive failures before ejection
+         * @return this builder
+         */
+        public Builder withFailureThreshold(int failureThreshold) {
+            if (failureThreshold < 1) {
+                throw new IllegalArgumentException(
+                        "Invalid failure threshold: " + failureThreshold);
+            }
+            this.failureThreshold = failureThreshold;
+            return this;
+        }
+
+        /**
+         * How long an ejected endpoint is avoided, unless a health check succeeds first.
+         *
+         * @param ejectionMillis ejection period in milliseconds
+         * @return this builder
+         */
+        public Builder withEjectionMillis(long ejectionMillis) {
+            if (ejectionMillis < 0) {
+                throw new IllegalArgumentException("Invalid ejection period: " + ejectionMillis);
+            }
+            this.ejectionMillis = ejectionMillis;
+            return this;
+        }
+
+        /**
+         * Interval between {@code eth_blockNumber} health checks, or 0 to disable them.
+         *
+         * @param healthCheckIntervalMillis health check interval in milliseconds
+         * @return this builder
+         */
+        public Builder withHealthCheckIntervalMillis(long healthCheckIntervalMillis) {
+            if (healthCheckIntervalMillis < 0) {
+                throw new IllegalArgumentException(
+                        "Invalid health check interval: " + healthCheckIntervalMillis);
+            }
+            this.healthCheckIntervalMillis = healthCheckIntervalMillis;
+            return this;
+        }
+
+        /**
+         * Number of blocks an endpoint may fall behind the best known chain head before it is
+         * avoided.
+         *
+         * @param maxBlockLag maximum block lag
+         * @return this builder
+         */
+        public Builder withMaxBlockLag(long maxBlockLag) {
+            if (maxBlockLag < 0) {
+                throw new IllegalArgumentException("Invalid max block lag: " + maxBlockLag);
+            }
+            this.maxBlockLag = maxBlockLag;
+            return this;
+        }
+
+        /**
+         * Executor to run health checks on. It is left running when the service is closed. By
+         * default health checks run on a single daemon thread owned by the service.
+         *
+         * @param scheduledExecutorService executor for health checks
+         * @return this builder
+         */
+        public Builder withScheduledExecutorService(
+                ScheduledExecutorService scheduledExecutorService) {
+            this.scheduledExecutorService = scheduledExecutorService;
+            return this;
+        }
+
+        public LoadBalancedWeb3jService build() {
+            return new LoadBalancedWeb3jService(this);
+        }
+    }
+}
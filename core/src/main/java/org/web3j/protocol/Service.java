@@ -14,17 +14,17 @@ package org.web3j.protocol;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import io.reactivex.Flowable;
 
 import org.web3j.protocol.core.BatchRequest;
 import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.BatchResponseDecoder;
 import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.Response;
 import org.web3j.protocol.websocket.events.Notification;
@@ -35,8 +35,23 @@ public abstract class Service implements Web3jService {
 
     protected final ObjectMapper objectMapper;
 
+    private final BatchResponseDecoder batchResponseDecoder;
+
+    private final boolean includeRawResponses;
+
     public Service(boolean includeRawResponses) {
         objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
+        batchResponseDecoder = new BatchResponseDecoder(objectMapper);
+        this.includeRawResponses = includeRawResponses;
+    }
+
+    /**
+     * Returns whether the raw JSON of each response is kept alongside the deserialized response.
+     *
+     * @return true if raw responses are included
+     */
+    protected boolean isIncludeRawResponses() {
+        return includeRawResponses;
     }
 
     protected abstract InputStream performIO(String payload) throws IOException;
@@ -46,11 +61,25 @@ public abstract class Service implements Web3jService {
         String payload = objectMapper.writeValueAsString(request);
 
         try (InputStream result = performIO(payload)) {
-            if (result != null) {
-                return objectMapper.readValue(result, responseType);
-            } else {
-                return null;
-            }
+            return readResponse(result, responseType);
+        }
+    }
+
+    /**
+     * Deserialize a JSON-RPC response.
+     *
+     * @param result response body, or null if there is none
+     * @param responseType class of a data item returned by the request
+     * @param <T> type of a data item returned by the request
+     * @return deserialized JSON-RPC response, or null if there is no response body
+     * @throws IOException thrown if the response cannot be deserialized
+     */
+    protected <T extends Response> T readResponse(InputStream result, Class<T> responseType)
+            throws IOException {
+        if (result != null) {
+            return objectMapper.readValue(result, responseType);
+        } else {
+            return null;
         }
     }
 
@@ -69,21 +98,28 @@ public abstract class Service implements Web3jService {
         String payload = objectMapper.writeValueAsString(batchRequest.getRequests());
 
         try (InputStream result = performIO(payload)) {
-            if (result != null) {
-                ArrayNode nodes = (ArrayNode) objectMapper.readTree(result);
-                List<Response<?>> responses = new ArrayList<>(nodes.size());
-
-                for (int i = 0; i < nodes.size(); i++) {
-                    Request<?, ? extends Response<?>> request = batchRequest.getRequests().get(i);
-                    Response<?> response =
-                            objectMapper.treeToValue(nodes.get(i), request.getResponseType());
-                    responses.add(response);
-                }
-
-                return new BatchResponse(batchRequest.getRequests(), responses);
-            } else {
-                return null;
-            }
+            return readBatchResponse(batchRequest, result);
+        }
+    }
+
+    /**
+     * Deserialize a JSON-RPC batch response.
+     *
+     * @param batchRequest requests the response is for
+     * @param result response body, or null if there is none
+     * @return deserialized JSON-RPC responses, or null if there is no response body
+     * @throws IOException thrown if the response cannot be deserialized
+     */
+    protected BatchResponse readBatchResponse(BatchRequest batchRequest, InputStream result)
+            throws IOException {
+        if (result != null) {
+            JsonNode reply = objectMapper.readTree(result);
+            List<Response<?>> responses =
+                    batchResponseDecoder.decode(batchRequest.getRequests(), reply);
+
+            return new BatchResponse(batchRequest.getRequests(), responses);
+        } else {
+            return null;
         }
     }
 
@@ -18,6 +18,7 @@ import org.web3j.protocol.core.Batcher;
 import org.web3j.protocol.core.BlobFee;
 import org.web3j.protocol.core.Ethereum;
 import org.web3j.protocol.core.JsonRpc2_0Web3j;
+import org.web3j.protocol.core.filters.FilterPolling;
 import org.web3j.protocol.rx.Web3jRx;
 
 /** JSON-RPC Request object building factory. */
@@ -49,6 +50,26 @@ public interface Web3j extends Ethereum, Web3jRx, Batcher, BlobFee, AutoCloseabl
         return new JsonRpc2_0Web3j(web3jService, pollingInterval, scheduledExecutorService);
     }
 
+    /**
+     * Construct a new Web3j instance.
+     *
+     * @param web3jService web3j service instance - i.e. HTTP or IPC
+     * @param pollingInterval polling interval for responses from network nodes
+     * @param scheduledExecutorService executor service to use for scheduled tasks. <strong>You are
+     *     responsible for terminating this thread pool</strong>
+     * @param filterPolling how filter based Flowables poll for changes. See {@link
+     *     FilterPolling}
+     * @return new Web3j instance
+     */
+    static Web3j build(
+            Web3jService web3jService,
+            long pollingInterval,
+            ScheduledExecutorService scheduledExecutorService,
+            FilterPolling filterPolling) {
+        return new JsonRpc2_0Web3j(
+                web3jService, pollingInterval, scheduledExecutorService, filterPolling);
+    }
+
     /** Shutdowns a Web3j instance and closes opened resources. */
     void shutdown();
 }
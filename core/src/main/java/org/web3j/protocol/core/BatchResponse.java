@@ -12,12 +12,15 @@
  */
 package org.web3j.protocol.core;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class BatchResponse {
 
     private List<Request<?, ? extends Response<?>>> requests;
     private List<? extends Response<?>> responses;
+    private Map<Long, Response<?>> responseForId;
 
     public BatchResponse(
             List<Request<?, ? extends Response<?>>> requests,
@@ -34,4 +37,31 @@ public class BatchResponse {
     public List<Request<?, ? extends Response<?>>> getRequests() {
         return requests;
     }
+
+    /**
+     * Returns the response to a request of this batch. Batches sent by the services of this
+     * library already hold their responses in request order, responses of other services are
+     * matched with the request by id.
+     *
+     * @param index position of the request in the batch
+     * @return the response to the request, or {@code null} if there is none
+     */
+    public Response<?> getResponse(int index) {
+        long id = requests.get(index).getId();
+        if (index < responses.size()
+                && responses.get(index) != null
+                && responses.get(index).getId() == id) {
+            return responses.get(index);
+        }
+
+        if (responseForId == null) {
+            responseForId = new HashMap<>();
+            for (Response<?> response : responses) {
+                if (response != null) {
+                    responseForId.putIfAbsent(response.getId(), response);
+                }
+            }
+        }
+        return responseForId.get(id);
+    }
 }
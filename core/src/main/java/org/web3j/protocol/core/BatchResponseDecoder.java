@@ -0,0 +1,221 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Decodes JSON-RPC batch replies.
+ *
+ * <p>The JSON-RPC specification does not guarantee that batch responses are returned in the same
+ * order as the requests, so responses are correlated with their requests by id. Responses with an
+ * id that does not match any outstanding request are paired positionally with the remaining
+ * requests, provided the number of each is the same.
+ *
+ * <p>Each response is decoded independently when it is first accessed. If a response is missing or
+ * cannot be decoded, an instance of the request's response type is returned carrying an {@link
+ * Response.Error} describing the failure, rather than failing the whole batch.
+ */
+public class BatchResponseDecoder {
+
+    private final ObjectMapper objectMapper;
+
+    public BatchResponseDecoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Decode a batch reply.
+     *
+     * @param requests requests that were sent in the batch
+     * @param reply batch reply, usually an array of responses
+     * @return responses in the same order as the requests
+     * @throws IOException if the reply is neither an array of responses nor an error response
+     */
+    public List<Response<?>> decode(
+            List<Request<?, ? extends Response<?>>> requests, JsonNode reply) throws IOException {
+        if (!reply.isArray()) {
+            return decodeBatchError(requests, reply);
+        }
+
+        JsonNode[] nodes = new JsonNode[requests.size()];
+        Map<Long, Integer> indexForId = indexRequestsById(requests);
+        List<JsonNode> unmatched = new ArrayList<>();
+
+        for (JsonNode node : reply) {
+            Long id = getId(node);
+            Integer index = id == null ? null : indexForId.get(id);
+            if (index != null && nodes[index] == null) {
+                nodes[index] = node;
+            } else {
+                unmatched.add(node);
+            }
+        }
+
+        if (!unmatched.isEmpty()) {
+            pairPositionally(nodes, unmatched);
+        }
+
+        return new DecodedResponses(requests, nodes);
+    }
+
+    private List<Response<?>> decodeBatchError(
+            List<Request<?, ? extends Response<?>>> requests, JsonNode reply) throws IOException {
+        Response<?> response = objectMapper.treeToValue(reply, Response.class);
+        if (response == null || !response.hasError()) {
+            throw new IOException("Batch reply is not an array of responses");
+        }
+
+        List<Response<?>> responses = new ArrayList<>(requests.size());
+        for (Request<?, ? extends Response<?>> request : requests) {
+            responses.add(errorResponse(request, response.getError()));
+        }
+        return responses;
+    }
+
+    private static Map<Long, Integer> indexRequestsById(
+            List<Request<?, ? extends Response<?>>> requests) {
+        Map<Long, Integer> indexForId = new HashMap<>(requests.size() * 4 / 3 + 1);
+        for (int i = 0; i < requests.size(); i++) {
+            indexForId.putIfAbsent(requests.get(i).getId(), i);
+        }
+        return indexForId;
+    }
+
+    private static void pairPositionally(JsonNode[] nodes, List<JsonNode> unmatched) {
+        int missing = 0;
+        for (JsonNode node : nodes) {
+            if (node == null) {
+                missing++;
+            }
+        }
+
+        if (missing != unmatched.size()) {
+            return;
+        }
+
+        int next = 0;
+        for (int i = 0; i < nodes.length; i++) {
+            if (nodes[i] == null) {
+                nodes[i] = unmatched.get(next++);
+            }
+        }
+    }
+
+    private static Long getId(JsonNode node) {
+        JsonNode idField = node.get("id");
+        if (idField == null) {
+            return null;
+        } else if (idField.isIntegralNumber()) {
+            return idField.longValue();
+        } else if (idField.isTextual()) {
+            try {
+                return Long.parseLong(idField.asText());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static Response<?> errorResponse(
+            Request<?, ? extends Response<?>> request, Response.Error error) {
+        Response<?> response;
+        try {
+            response = request.getResponseType().getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            response = new Response<>();
+        }
+        response.setId(request.getId());
+        response.setJsonrpc(request.getJsonrpc());
+        response.setError(error);
+        return response;
+    }
+
+    private class DecodedResponses extends AbstractList<Response<?>> {
+
+        private final List<Request<?, ? extends Response<?>>> requests;
+        private final JsonNode[] nodes;
+        private final Response<?>[] responses;
+
+        DecodedResponses(List<Request<?, ? extends Response<?>>> requests, JsonNode[] nodes) {
+            this.requests = requests;
+            this.nodes = nodes;
+            this.responses = new Response<?>[nodes.length];
+        }
+
+        @Override
+        public synchronized Response<?> get(int index) {
+            Response<?> response = responses[index];
+            if (response == null) {
+                response = decode(index);
+                responses[index] = response;
+                // the tree is no longer needed once decoded
+                nodes[index] = null;
+            }
+            return response;
+        }
+
+        @Override
+        public int size() {
+            return responses.length;
+        }
+
+        private Response<?> decode(int index) {
+            Request<?, ? extends Response<?>> request = requests.get(index);
+            JsonNode node = nodes[index];
+            if (node == null) {
+                return errorResponse(
+                        request,
+                        new Response.Error(
+                                RpcErrors.INTERNAL_ERROR,
+                                String.format(
+                                        "No response received for request with id %d",
+                                        request.getId())));
+            }
+
+            try {
+                Response<?> response = objectMapper.treeToValue(node, request.getResponseType());
+                if (response != null) {
+                    return response;
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                return errorResponse(
+                        request,
+                        new Response.Error(
+                                RpcErrors.PARSE_ERROR,
+                                String.format(
+                                        "Failed to parse response for request with id %d as"
+                                                + " type %s: %s",
+                                        request.getId(),
+                                        request.getResponseType().getName(),
+                                        e.getMessage())));
+            }
+
+            return errorResponse(
+                    request,
+                    new Response.Error(
+                            RpcErrors.PARSE_ERROR,
+                            String.format(
+                                    "Empty response for request with id %d", request.getId())));
+        }
+    }
+}
@@ -25,6 +25,7 @@ import io.reactivex.Flowable;
 
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.filters.FilterPolling;
 import org.web3j.protocol.core.methods.request.ShhFilter;
 import org.web3j.protocol.core.methods.request.ShhPost;
 import org.web3j.protocol.core.methods.request.Transaction;
@@ -98,9 +99,12 @@ import org.web3j.protocol.core.methods.response.Web3Sha3;
 import org.web3j.protocol.core.methods.response.admin.AdminDataDir;
 import org.web3j.protocol.core.methods.response.admin.AdminNodeInfo;
 import org.web3j.protocol.core.methods.response.admin.AdminPeers;
+import org.web3j.protocol.rx.BlockWithReceipts;
 import org.web3j.protocol.rx.JsonRpc2_0Rx;
+import org.web3j.protocol.websocket.events.FullPendingTransactionNotification;
 import org.web3j.protocol.websocket.events.LogNotification;
 import org.web3j.protocol.websocket.events.NewHeadsNotification;
+import org.web3j.protocol.websocket.events.PendingTransactionNotification;
 import org.web3j.utils.Async;
 import org.web3j.utils.Numeric;
 
@@ -124,8 +128,16 @@ public class JsonRpc2_0Web3j implements Web3j {
             Web3jService web3jService,
             long pollingInterval,
             ScheduledExecutorService scheduledExecutorService) {
+        this(web3jService, pollingInterval, scheduledExecutorService, FilterPolling.INDIVIDUAL);
+    }
+
+    public JsonRpc2_0Web3j(
+            Web3jService web3jService,
+            long pollingInterval,
+            ScheduledExecutorService scheduledExecutorService,
+            FilterPolling filterPolling) {
         this.web3jService = web3jService;
-        this.web3jRx = new JsonRpc2_0Rx(this, scheduledExecutorService);
+        this.web3jRx = new JsonRpc2_0Rx(this, scheduledExecutorService, filterPolling);
         this.blockTime = pollingInterval;
         this.scheduledExecutorService = scheduledExecutorService;
     }
@@ -837,6 +849,30 @@ public class JsonRpc2_0Web3j implements Web3j {
                 LogNotification.class);
     }
 
+    @Override
+    public Flowable<PendingTransactionNotification> pendingTransactionsNotifications() {
+        return web3jService.subscribe(
+                new Request<>(
+                        "eth_subscribe",
+                        Collections.singletonList("newPendingTransactions"),
+                        web3jService,
+                        EthSubscribe.class),
+                "eth_unsubscribe",
+                PendingTransactionNotification.class);
+    }
+
+    @Override
+    public Flowable<FullPendingTransactionNotification> fullPendingTransactionsNotifications() {
+        return web3jService.subscribe(
+                new Request<>(
+                        "eth_subscribe",
+                        Arrays.asList("newPendingTransactions", true),
+                        web3jService,
+                        EthSubscribe.class),
+                "eth_unsubscribe",
+                FullPendingTransactionNotification.class);
+    }
+
     @Override
     public Request<?, LineaGetTransactionExclusionStatusV1> lineaGetTransactionExclusionStatusV1(
             String transactionHash) {
@@ -890,6 +926,20 @@ public class JsonRpc2_0Web3j implements Web3j {
         return web3jRx.blockFlowable(fullTransactionObjects, blockTime);
     }
 
+    @Override
+    public Flowable<BlockWithReceipts> blockWithReceiptsFlowable(boolean fullTransactionObjects) {
+        return web3jRx.blockWithReceiptsFlowable(fullTransactionObjects, blockTime);
+    }
+
+    @Override
+    public Flowable<BlockWithReceipts> replayPastBlocksWithReceiptsFlowable(
+            DefaultBlockParameter startBlock,
+            DefaultBlockParameter endBlock,
+            boolean fullTransactionObjects) {
+        return web3jRx.replayBlocksWithReceiptsFlowable(
+                startBlock, endBlock, fullTransactionObjects);
+    }
+
     @Override
     public Flowable<EthBlock> replayPastBlocksFlowable(
             DefaultBlockParameter startBlock,
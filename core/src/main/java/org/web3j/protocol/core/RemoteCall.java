@@ -14,6 +14,7 @@ package org.web3j.protocol.core;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import io.reactivex.Flowable;
 
@@ -51,6 +52,16 @@ public class RemoteCall<T> {
         return Async.run(this::send);
     }
 
+    /**
+     * Perform request asynchronously on the provided executor.
+     *
+     * @param executor executor to perform the request on
+     * @return a future containing our function
+     */
+    public CompletableFuture<T> sendAsync(Executor executor) {
+        return Async.run(this::send, executor);
+    }
+
     /**
      * Provide an flowable to emit result from our function.
      *
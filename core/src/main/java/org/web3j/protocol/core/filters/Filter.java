@@ -50,6 +50,8 @@ public abstract class Filter<T> {
 
     private long blockTime;
 
+    private volatile FilterPoller filterPoller;
+
     private static final String FILTER_NOT_FOUND_PATTERN = "(?i)\\bfilter\\s+not\\s+found\\b";
 
     public Filter(Web3j web3j, Callback<T> callback) {
@@ -108,6 +110,17 @@ public abstract class Filter<T> {
         }
     }
 
+    /**
+     * Run this filter on a shared {@link FilterPoller}, which polls it together with the poller's
+     * other filters in a single batch request.
+     *
+     * @param filterPoller poller to run this filter on
+     */
+    public void run(FilterPoller filterPoller) {
+        this.filterPoller = filterPoller;
+        filterPoller.register(this);
+    }
+
     private void getInitialFilterLogs() {
         try {
             Optional<Request<?, EthLog>> maybeRequest = this.getFilterLogs(this.filterId);
@@ -139,22 +152,24 @@ public abstract class Filter<T> {
         }
         if (ethLog.hasError()) {
             Error error = ethLog.getError();
-            String message = error.getMessage();
-            switch (error.getCode()) {
-                case RpcErrors.FILTER_NOT_FOUND:
-                    reinstallFilter();
-                    break;
-                default:
-                    if (Pattern.compile(FILTER_NOT_FOUND_PATTERN).matcher(message).find())
-                        reinstallFilter();
-                    else throwException(error);
-                    break;
+            if (isFilterNotFound(error)) {
+                reinstallFilter();
+            } else {
+                throwException(error);
             }
         } else {
             process(ethLog.getLogs());
         }
     }
 
+    static boolean isFilterNotFound(Error error) {
+        return error.getCode() == RpcErrors.FILTER_NOT_FOUND
+                || (error.getMessage() != null
+                        && Pattern.compile(FILTER_NOT_FOUND_PATTERN)
+                                .matcher(error.getMessage())
+                                .find());
+    }
+
     protected abstract EthFilter sendRequest() throws IOException;
 
     protected abstract void process(List<EthLog.LogResult> logResults);
@@ -168,6 +183,11 @@ public abstract class Filter<T> {
     }
 
     public void cancel() {
+        if (filterPoller != null) {
+            filterPoller.unregister(this);
+            return;
+        }
+
         schedule.cancel(false);
 
         try {
@@ -0,0 +1,407 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core.filters;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthFilter;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.EthUninstallFilter;
+
+/**
+ * Polls many filters with a single timer and a single batch of {@code eth_getFilterChanges}
+ * requests per polling interval.
+ *
+ * <p>Alternatively a poller can be driven by a {@link HeadTracker}, in which case its filters are
+ * polled each time the chain head advances rather than at a fixed interval.
+ *
+ * <p>Filters with identical definitions, such as two {@link LogFilter}s for the same {@link
+ * org.web3j.protocol.core.methods.request.EthFilter}, share one filter installed on the node, and
+ * its changes are passed to each of them. The node filter is uninstalled once the last filter
+ * sharing it is cancelled.
+ *
+ * <p>Filters are run on a poller with {@link Filter#run(FilterPoller)} and stopped as usual with
+ * {@link Filter#cancel()}.
+ */
+public class FilterPoller {
+
+    private static final Logger log = LoggerFactory.getLogger(FilterPoller.class);
+
+    private final Web3j web3j;
+    private final ScheduledExecutorService scheduledExecutorService;
+    private final long pollingInterval;
+    private final HeadTracker headTracker;
+    private final Consumer<BigInteger> headListener = blockNumber -> pollQuietly();
+
+    // Both maps are guarded by this
+    private final Map<Object, InstalledFilter> installedFilters = new LinkedHashMap<>();
+    private final Map<Filter<?>, InstalledFilter> registrations = new IdentityHashMap<>();
+    private ScheduledFuture<?> schedule;
+    private boolean polling;
+
+    public FilterPoller(
+            Web3j web3j, ScheduledExecutorService scheduledExecutorService, long pollingInterval) {
+        this.web3j = web3j;
+        this.scheduledExecutorService = scheduledExecutorService;
+        this.pollingInterval = pollingInterval;
+        this.headTracker = null;
+    }
+
+    /**
+     * Create a poller that polls its filters each time the chain head advances.
+     *
+     * @param web3j client to poll filters with
+     * @param headTracker tracker of the chain head
+     */
+    public FilterPoller(Web3j web3j, HeadTracker headTracker) {
+        this.web3j = web3j;
+        this.scheduledExecutorService = null;
+        this.pollingInterval = 0;
+        this.headTracker = headTracker;
+    }
+
+    /**
+     * Start polling a filter. The filter is installed on the node unless an identical filter is
+     * already installed, and its existing logs are passed to it before this method returns.
+     *
+     * @param filter filter to poll
+     * @throws FilterException if the filter could not be installed
+     */
+    void register(Filter<?> filter) {
+        InstalledFilter installedFilter;
+        boolean installing;
+        synchronized (this) {
+            if (registrations.containsKey(filter)) {
+                return;
+            }
+
+            String filterKey = filterKey(filter);
+            installedFilter = filterKey != null ? installedFilters.get(filterKey) : null;
+            installing = installedFilter == null;
+            if (installing) {
+                installedFilter =
+                        new InstalledFilter(filterKey != null ? filterKey : new Object(), filter);
+                installedFilters.put(installedFilter.key, installedFilter);
+            }
+            installedFilter.registering++;
+            registrations.put(filter, installedFilter);
+        }
+
+        // The node requests and the filter's callbacks are made without holding the lock, so a
+        // slow node or callback does not hold up polling or the other filters
+        try {
+            BigInteger filterId =
+                    installing ? installedFilter.install() : installedFilter.awaitInstalled();
+            getInitialFilterLogs(filter, filterId);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                installedFilter.registering--;
+                registrations.remove(filter, installedFilter);
+                removeIfUnused(installedFilter);
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            installedFilter.registering--;
+            if (registrations.get(filter) == installedFilter) {
+                installedFilter.filters.add(filter);
+                startPolling();
+                return;
+            }
+            // Cancelled while it was being registered
+            if (!removeIfUnused(installedFilter)) {
+                return;
+            }
+        }
+        uninstall(filter, installedFilter.filterId);
+    }
+
+    /**
+     * Stop polling a filter, uninstalling it from the node if no other filter shares it.
+     *
+     * @param filter filter to stop polling
+     * @throws FilterException if the filter could not be uninstalled
+     */
+    void unregister(Filter<?> filter) {
+        InstalledFilter installedFilter;
+        synchronized (this) {
+            installedFilter = registrations.remove(filter);
+            if (installedFilter == null) {
+                return;
+            }
+            installedFilter.filters.remove(filter);
+            if (!removeIfUnused(installedFilter)) {
+                return;
+            }
+        }
+        uninstall(filter, installedFilter.filterId);
+    }
+
+    private void startPolling() {
+        if (!polling) {
+            polling = true;
+            if (headTracker != null) {
+                headTracker.addListener(headListener);
+            } else {
+                schedule =
+                        scheduledExecutorService.scheduleAtFixedRate(
+                                this::pollQuietly, 0, pollingInterval, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Removes an installed filter once no filter uses it or is being registered with it, and
+     * stops polling when it was the last one. Must be called holding the lock.
+     */
+    private boolean removeIfUnused(InstalledFilter installedFilter) {
+        if (!installedFilter.filters.isEmpty()
+                || installedFilter.registering > 0
+                || installedFilters.get(installedFilter.key) != installedFilter) {
+            return false;
+        }
+
+        installedFilters.remove(installedFilter.key);
+        if (installedFilters.isEmpty() && polling) {
+            polling = false;
+            if (headTracker != null) {
+                headTracker.removeListener(headListener);
+            } else {
+                schedule.cancel(false);
+                schedule = null;
+            }
+        }
+        return true;
+    }
+
+    private static void uninstall(Filter<?> filter, BigInteger filterId) {
+        try {
+            EthUninstallFilter ethUninstallFilter = filter.uninstallFilter(filterId);
+            if (ethUninstallFilter.hasError()) {
+                filter.throwException(ethUninstallFilter.getError());
+            }
+            if (!ethUninstallFilter.isUninstalled()) {
+                throw new FilterException(
+                        "Filter with id '" + filterId + "' failed to uninstall");
+            }
+        } catch (IOException e) {
+            filter.throwException(e);
+        }
+    }
+
+    /**
+     * Returns the number of filters installed on the node by this poller.
+     *
+     * @return number of installed filters
+     */
+    public synchronized int getInstalledFilterCount() {
+        return installedFilters.size();
+    }
+
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (Throwable e) {
+            // All exceptions must be caught, otherwise polling stops without any notification
+            log.warn("Error polling filters", e);
+        }
+    }
+
+    void poll() throws IOException {
+        List<InstalledFilter> snapshot;
+        synchronized (this) {
+            snapshot = new ArrayList<>();
+            for (InstalledFilter installedFilter : installedFilters.values()) {
+                // Filters still being installed have no id to poll yet
+                if (installedFilter.filterId != null) {
+                    snapshot.add(installedFilter);
+                }
+            }
+        }
+        if (snapshot.isEmpty()) {
+            return;
+        }
+
+        BatchRequest batchRequest = web3j.newBatch();
+        for (InstalledFilter installedFilter : snapshot) {
+            batchRequest.add(web3j.ethGetFilterChanges(installedFilter.filterId));
+        }
+        BatchResponse batchResponse = batchRequest.send();
+
+        for (int i = 0; i < snapshot.size(); i++) {
+            InstalledFilter installedFilter = snapshot.get(i);
+            EthLog ethLog = (EthLog) batchResponse.getResponse(i);
+            if (ethLog == null) {
+                log.warn("No response for filter {}", installedFilter.filterId);
+            } else if (ethLog.hasError()) {
+                if (Filter.isFilterNotFound(ethLog.getError())) {
+                    reinstall(installedFilter);
+                } else {
+                    log.warn(
+                            "Error polling filter {}: {}",
+                            installedFilter.filterId,
+                            ethLog.getError().getMessage());
+                }
+            } else {
+                dispatch(installedFilter, ethLog.getLogs());
+            }
+        }
+    }
+
+    private void dispatch(InstalledFilter installedFilter, List<EthLog.LogResult> logResults) {
+        for (Filter<?> filter : installedFilter.filters) {
+            try {
+                filter.process(logResults);
+            } catch (RuntimeException e) {
+                // One failing callback should not stop the others sharing the filter
+                log.warn("Error processing filter changes", e);
+            }
+        }
+    }
+
+    private void reinstall(InstalledFilter installedFilter) {
+        synchronized (this) {
+            if (installedFilters.get(installedFilter.key) != installedFilter) {
+                return;
+            }
+        }
+        log.warn(
+                "Previously installed filter has not been found, trying to re-install. "
+                        + "Filter id: {}",
+                installedFilter.filterId);
+        try {
+            installedFilter.filterId = install(installedFilter.installer);
+        } catch (FilterException e) {
+            log.warn("Failed to re-install filter", e);
+        }
+    }
+
+    private static BigInteger install(Filter<?> filter) {
+        try {
+            EthFilter ethFilter = filter.sendRequest();
+            if (ethFilter.hasError()) {
+                filter.throwException(ethFilter.getError());
+            }
+            return ethFilter.getFilterId();
+        } catch (IOException e) {
+            filter.throwException(e);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void getInitialFilterLogs(Filter<?> filter, BigInteger filterId) {
+        Optional<Request<?, EthLog>> request = filter.getFilterLogs(filterId);
+        if (!request.isPresent()) {
+            return;
+        }
+        try {
+            EthLog ethLog = request.get().send();
+            if (ethLog.hasError()) {
+                filter.throwException(ethLog.getError());
+            }
+            filter.process(ethLog.getLogs());
+        } catch (IOException e) {
+            filter.throwException(e);
+        }
+    }
+
+    /**
+     * Returns a key identifying the node filter the given filter installs, or {@code null} if it
+     * cannot be shared. Only the filter types of this package are shared, as subclasses may
+     * install filters differently.
+     */
+    private static String filterKey(Filter<?> filter) {
+        Class<?> type = filter.getClass();
+        if (type == BlockFilter.class || type == BlocksFilter.class) {
+            return "eth_newBlockFilter";
+        } else if (type == PendingTransactionFilter.class
+                || type == PendingTransactionsFilter.class) {
+            return "eth_newPendingTransactionFilter";
+        } else if (type == LogFilter.class) {
+            return logFilterKey(((LogFilter) filter).ethFilter);
+        } else if (type == LogsFilter.class) {
+            return logFilterKey(((LogsFilter) filter).ethFilter);
+        }
+        return null;
+    }
+
+    private static String logFilterKey(
+            org.web3j.protocol.core.methods.request.EthFilter ethFilter) {
+        try {
+            return "eth_newFilter:"
+                    + ObjectMapperFactory.getObjectMapper().writeValueAsString(ethFilter);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static class InstalledFilter {
+
+        private final Object key;
+        private final Filter<?> installer;
+        private final List<Filter<?>> filters = new CopyOnWriteArrayList<>();
+        private final CompletableFuture<BigInteger> installation = new CompletableFuture<>();
+        private volatile BigInteger filterId;
+        // Guarded by the poller
+        private int registering;
+
+        private InstalledFilter(Object key, Filter<?> installer) {
+            this.key = key;
+            this.installer = installer;
+        }
+
+        private BigInteger install() {
+            try {
+                filterId = FilterPoller.install(installer);
+                installation.complete(filterId);
+                return filterId;
+            } catch (RuntimeException e) {
+                installation.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        /** Waits for the filter being installed by another registration. */
+        private BigInteger awaitInstalled() {
+            try {
+                return installation.join();
+            } catch (CompletionException e) {
+                throw (RuntimeException) e.getCause();
+            }
+        }
+    }
+}
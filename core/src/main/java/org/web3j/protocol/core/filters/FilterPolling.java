@@ -0,0 +1,29 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core.filters;
+
+/** How the filter based Flowables of a Web3j instance poll for changes. */
+public enum FilterPolling {
+
+    /** Each filter polls on its own timer at the polling interval. */
+    INDIVIDUAL,
+
+    /** All filters are polled by a {@link FilterPoller} in one batch per polling interval. */
+    SHARED,
+
+    /**
+     * All filters are polled by a {@link FilterPoller} in one batch each time the chain head
+     * advances, as seen by a {@link HeadTracker} whose longest interval is the polling interval.
+     */
+    HEAD_DRIVEN
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core.filters;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import io.reactivex.disposables.Disposable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.utils.Numeric;
+
+/**
+ * Tracks the chain head and notifies listeners each time it advances.
+ *
+ * <p>If the service supports subscriptions, the head is followed with a {@code newHeads}
+ * subscription. Otherwise {@code eth_blockNumber} is polled, starting at the minimum polling
+ * interval. Each poll that finds no new block doubles the interval, up to the maximum, and a new
+ * block resets it to the minimum. Fast chains are therefore followed closely while idle chains
+ * cost few requests.
+ *
+ * <p>Tracking starts when the first listener is added and stops when the last one is removed.
+ * Listeners are called on the scheduled executor, one head at a time.
+ */
+public class HeadTracker {
+
+    private static final Logger log = LoggerFactory.getLogger(HeadTracker.class);
+
+    public static final long DEFAULT_MIN_POLLING_INTERVAL = 250;
+
+    private final Web3j web3j;
+    private final ScheduledExecutorService scheduledExecutorService;
+    private final long minPollingInterval;
+    private final long maxPollingInterval;
+    private final List<Consumer<BigInteger>> listeners = new CopyOnWriteArrayList<>();
+    // Separate from this, so listeners can add and remove listeners while being notified
+    private final Object headLock = new Object();
+
+    private volatile BigInteger headBlockNumber;
+    private volatile long pollingInterval;
+
+    // Guarded by this
+    private boolean running;
+    private boolean polling;
+    // Incremented on each start and stop, so a poll from an earlier run doesn't reschedule itself
+    private long generation;
+    private ScheduledFuture<?> schedule;
+    private Disposable subscription;
+
+    /**
+     * @param web3j client to follow the head with
+     * @param scheduledExecutorService executor to poll and call listeners on
+     * @param minPollingInterval polling interval in milliseconds while the head is advancing
+     * @param maxPollingInterval longest polling interval in milliseconds while the chain is idle
+     */
+    public HeadTracker(
+            Web3j web3j,
+            ScheduledExecutorService scheduledExecutorService,
+            long minPollingInterval,
+            long maxPollingInterval) {
+        if (minPollingInterval < 1 || maxPollingInterval < minPollingInterval) {
+            throw new IllegalArgumentException(
+                    "Polling intervals must be positive, with the minimum not above the maximum");
+        }
+        this.web3j = web3j;
+        this.scheduledExecutorService = scheduledExecutorService;
+        this.minPollingInterval = minPollingInterval;
+        this.maxPollingInterval = maxPollingInterval;
+        this.pollingInterval = minPollingInterval;
+    }
+
+    /**
+     * Add a listener to be called with the block number of each new head.
+     *
+     * @param listener listener to add
+     */
+    public synchronized void addListener(Consumer<BigInteger> listener) {
+        listeners.add(listener);
+        if (!running) {
+            start();
+        }
+    }
+
+    /**
+     * Remove a listener, stopping tracking if it was the last one.
+     *
+     * @param listener listener to remove
+     */
+    public synchronized void removeListener(Consumer<BigInteger> listener) {
+        listeners.remove(listener);
+        if (running && listeners.isEmpty()) {
+            stop();
+        }
+    }
+
+    /**
+     * Returns the latest head seen, or {@code null} if none has been seen yet.
+     *
+     * @return latest head block number
+     */
+    public BigInteger getHeadBlockNumber() {
+        return headBlockNumber;
+    }
+
+    /**
+     * Returns the interval until the next {@code eth_blockNumber} poll, in milliseconds.
+     *
+     * @return current polling interval
+     */
+    public long getPollingInterval() {
+        return pollingInterval;
+    }
+
+    private void start() {
+        generation++;
+        running = true;
+        polling = false;
+        pollingInterval = minPollingInterval;
+        try {
+            subscription =
+                    web3j.newHeadsNotifications()
+                            .subscribe(
+                                    notification -> {
+                                        BigInteger blockNumber =
+                                                Numeric.decodeQuantity(
+                                                        notification
+                                                                .getParams()
+                                                                .getResult()
+                                                                .getNumber());
+                                        // Listeners may send requests, which must not block the
+                                        // thread delivering subscription events
+                                        scheduledExecutorService.execute(
+                                                () -> onHead(blockNumber));
+                                    },
+                                    this::onSubscriptionError);
+        } catch (UnsupportedOperationException e) {
+            startPolling();
+        }
+    }
+
+    private void stop() {
+        generation++;
+        running = false;
+        polling = false;
+        if (schedule != null) {
+            schedule.cancel(false);
+            schedule = null;
+        }
+        if (subscription != null) {
+            subscription.dispose();
+            subscription = null;
+        }
+    }
+
+    private synchronized void onSubscriptionError(Throwable throwable) {
+        log.warn("newHeads subscription failed, polling eth_blockNumber instead", throwable);
+        if (running && !polling) {
+            startPolling();
+        }
+    }
+
+    private void startPolling() {
+        polling = true;
+        schedulePoll(0);
+    }
+
+    private void schedulePoll(long delay) {
+        long scheduledGeneration = generation;
+        schedule =
+                scheduledExecutorService.schedule(
+                        () -> poll(scheduledGeneration), delay, TimeUnit.MILLISECONDS);
+    }
+
+    // Method visible for unit-tests
+    void poll() {
+        long currentGeneration;
+        synchronized (this) {
+            currentGeneration = generation;
+        }
+        poll(currentGeneration);
+    }
+
+    private void poll(long pollGeneration) {
+        boolean advanced = false;
+        try {
+            EthBlockNumber ethBlockNumber = web3j.ethBlockNumber().send();
+            if (ethBlockNumber.hasError()) {
+                log.warn("Error polling head: {}", ethBlockNumber.getError().getMessage());
+            } else {
+                advanced = onHead(ethBlockNumber.getBlockNumber());
+            }
+        } catch (Throwable e) {
+            // All exceptions must be caught, otherwise polling stops without any notification
+            log.warn("Error polling head", e);
+        }
+
+        synchronized (this) {
+            // Tracking may have been stopped, and perhaps restarted, while this poll was running
+            if (running && polling && generation == pollGeneration) {
+                pollingInterval =
+                        advanced
+                                ? minPollingInterval
+                                : Math.min(maxPollingInterval, pollingInterval * 2);
+                schedulePoll(pollingInterval);
+            }
+        }
+    }
+
+    private boolean onHead(BigInteger blockNumber) {
+        synchronized (headLock) {
+            if (headBlockNumber != null && blockNumber.compareTo(headBlockNumber) <= 0) {
+                return false;
+            }
+            headBlockNumber = blockNumber;
+            for (Consumer<BigInteger> listener : listeners) {
+                try {
+                    listener.accept(blockNumber);
+                } catch (RuntimeException e) {
+                    log.warn("Error notifying head listener", e);
+                }
+            }
+            return true;
+        }
+    }
+}
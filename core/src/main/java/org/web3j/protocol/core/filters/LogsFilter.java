@@ -28,7 +28,7 @@ import org.web3j.protocol.core.methods.response.Log;
 /** Logs filter handler. */
 public class LogsFilter extends Filter<List<Log>> {
 
-    private final org.web3j.protocol.core.methods.request.EthFilter ethFilter;
+    protected final org.web3j.protocol.core.methods.request.EthFilter ethFilter;
 
     public LogsFilter(
             Web3j web3j,
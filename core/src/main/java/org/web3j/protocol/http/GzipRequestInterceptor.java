@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.http;
+
+import java.io.IOException;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.Okio;
+
+/** Interceptor that compresses request bodies with gzip. */
+class GzipRequestInterceptor implements Interceptor {
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        RequestBody body = request.body();
+        if (body == null || request.header("Content-Encoding") != null) {
+            return chain.proceed(request);
+        }
+
+        Request compressedRequest =
+                request.newBuilder()
+                        .header("Content-Encoding", "gzip")
+                        .method(request.method(), gzip(body))
+                        .build();
+        return chain.proceed(compressedRequest);
+    }
+
+    private static RequestBody gzip(RequestBody body) throws IOException {
+        // Buffer the compressed body so that the Content-Length is known up front
+        Buffer buffer = new Buffer();
+        try (BufferedSink gzipSink = Okio.buffer(new GzipSink(buffer))) {
+            body.writeTo(gzipSink);
+        }
+        MediaType contentType = body.contentType();
+        return RequestBody.create(buffer.readByteString(), contentType);
+    }
+}
@@ -19,7 +19,10 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.CipherSuite;
 import okhttp3.ConnectionSpec;
 import okhttp3.Headers;
@@ -32,6 +35,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.web3j.protocol.Service;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
 import org.web3j.protocol.exceptions.ClientConnectionException;
 
 import static okhttp3.ConnectionSpec.CLEARTEXT;
@@ -94,6 +101,10 @@ public class HttpService extends Service {
 
     private HashMap<String, String> headers = new HashMap<>();
 
+    private volatile boolean streamResponses = false;
+
+    private volatile boolean nonBlockingAsync = false;
+
     public HttpService(String url, OkHttpClient httpClient, boolean includeRawResponses) {
         super(includeRawResponses);
         this.url = url;
@@ -128,6 +139,16 @@ public class HttpService extends Service {
         this(DEFAULT_URL);
     }
 
+    public HttpService(String url, HttpServiceConfig config) {
+        this(url, config, false);
+    }
+
+    public HttpService(String url, HttpServiceConfig config, boolean includeRawResponses) {
+        this(url, getOkHttpClientBuilder(config).build(), includeRawResponses);
+        this.streamResponses = config.isStreamResponses();
+        this.nonBlockingAsync = config.isNonBlockingAsync();
+    }
+
     public static OkHttpClient.Builder getOkHttpClientBuilder() {
         final OkHttpClient.Builder builder =
                 new OkHttpClient.Builder().connectionSpecs(CONNECTION_SPEC_LIST);
@@ -135,6 +156,17 @@ public class HttpService extends Service {
         return builder;
     }
 
+    /**
+     * Create an OkHttp client builder with the connection pool, dispatcher and protocol settings
+     * of the provided configuration applied.
+     *
+     * @param config HTTP service configuration
+     * @return configured OkHttp client builder
+     */
+    public static OkHttpClient.Builder getOkHttpClientBuilder(HttpServiceConfig config) {
+        return config.applyTo(getOkHttpClientBuilder());
+    }
+
     private static OkHttpClient createOkHttpClient() {
         return getOkHttpClientBuilder().build();
     }
@@ -149,14 +181,83 @@ public class HttpService extends Service {
 
     @Override
     protected InputStream performIO(String request) throws IOException {
+        okhttp3.Response response = httpClient.newCall(buildHttpRequest(request)).execute();
+        return readResponseBody(response);
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        if (!nonBlockingAsync) {
+            return super.sendAsync(request, responseType);
+        }
+
+        try {
+            String payload = objectMapper.writeValueAsString(request);
+            return performAsyncIO(payload, result -> readResponse(result, responseType));
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        if (!nonBlockingAsync || batchRequest.getRequests().isEmpty()) {
+            return super.sendBatchAsync(batchRequest);
+        }
+
+        try {
+            String payload = objectMapper.writeValueAsString(batchRequest.getRequests());
+            return performAsyncIO(payload, result -> readBatchResponse(batchRequest, result));
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 
+    private <T> CompletableFuture<T> performAsyncIO(String payload, ResponseReader<T> reader) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Call call = httpClient.newCall(buildHttpRequest(payload));
+
+        call.enqueue(
+                new Callback() {
+                    @Override
+                    public void onFailure(Call call, IOException e) {
+                        result.completeExceptionally(e);
+                    }
+
+                    @Override
+                    public void onResponse(Call call, okhttp3.Response response) {
+                        try (InputStream inputStream = readResponseBody(response)) {
+                            result.complete(reader.read(inputStream));
+                        } catch (Throwable e) {
+                            result.completeExceptionally(e);
+                        }
+                    }
+                });
+
+        // Cancelling the future abandons the HTTP call
+        result.whenComplete(
+                (value, throwable) -> {
+                    if (result.isCancelled()) {
+                        call.cancel();
+                    }
+                });
+        return result;
+    }
+
+    private okhttp3.Request buildHttpRequest(String request) {
         RequestBody requestBody = RequestBody.create(request, JSON_MEDIA_TYPE);
         Headers headers = buildHeaders();
 
-        okhttp3.Request httpRequest =
-                new okhttp3.Request.Builder().url(url).headers(headers).post(requestBody).build();
+        return new okhttp3.Request.Builder().url(url).headers(headers).post(requestBody).build();
+    }
+
+    private InputStream readResponseBody(okhttp3.Response response) throws IOException {
+        if (isStreamingEnabled() && response.isSuccessful() && response.body() != null) {
+            return buildStreamingInputStream(response);
+        }
 
-        try (okhttp3.Response response = httpClient.newCall(httpRequest).execute()) {
+        try (response) {
             processHeaders(response.headers());
             ResponseBody responseBody = response.body();
             if (response.isSuccessful()) {
@@ -183,6 +284,23 @@ public class HttpService extends Service {
         return new ByteArrayInputStream(responseBody.bytes());
     }
 
+    private InputStream buildStreamingInputStream(okhttp3.Response response) throws IOException {
+        try {
+            processHeaders(response.headers());
+        } catch (RuntimeException e) {
+            response.close();
+            throw e;
+        }
+        // Closing the stream releases the underlying connection, which is done by the caller
+        // once the response has been deserialized.
+        return response.body().byteStream();
+    }
+
+    private boolean isStreamingEnabled() {
+        // Raw responses require a resettable stream, so they are always buffered
+        return streamResponses && !isIncludeRawResponses();
+    }
+
     private Headers buildHeaders() {
         return Headers.of(headers);
     }
@@ -203,6 +321,50 @@ public class HttpService extends Service {
         return url;
     }
 
+    /**
+     * Enable or disable streaming of response bodies.
+     *
+     * <p>When enabled, responses are deserialized directly from the open HTTP connection rather
+     * than being read into memory first. This halves the peak memory required for large responses
+     * such as full blocks, wide log queries or traces, and allows parsing to overlap with the
+     * network transfer. Streaming is ignored if raw responses are included, as these require the
+     * full response body.
+     *
+     * @param streamResponses true to stream response bodies, false to buffer them (the default)
+     */
+    public void setStreamResponses(boolean streamResponses) {
+        this.streamResponses = streamResponses;
+    }
+
+    public boolean isStreamResponses() {
+        return streamResponses;
+    }
+
+    /**
+     * Enable or disable non-blocking asynchronous requests.
+     *
+     * <p>When enabled, {@link #sendAsync(Request, Class)} and {@link #sendBatchAsync(BatchRequest)}
+     * enqueue the call with OkHttp and complete the returned future from OkHttp's callback, rather
+     * than holding a thread for the whole round-trip. The number of concurrent requests is then
+     * bounded by the {@link okhttp3.Dispatcher} of the client, which allows 5 requests per host by
+     * default.
+     *
+     * @param nonBlockingAsync true to enqueue asynchronous requests, false to run them on the
+     *     {@link org.web3j.utils.Async} executor (the default)
+     */
+    public void setNonBlockingAsync(boolean nonBlockingAsync) {
+        this.nonBlockingAsync = nonBlockingAsync;
+    }
+
+    public boolean isNonBlockingAsync() {
+        return nonBlockingAsync;
+    }
+
+    @FunctionalInterface
+    private interface ResponseReader<T> {
+        T read(InputStream inputStream) throws IOException;
+    }
+
     @Override
     public void close() throws IOException {}
 }
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.http;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+/**
+ * Connection and concurrency settings for {@link HttpService}.
+ *
+ * <p>The defaults match those of OkHttp, which allow at most 5 idle connections and 5 concurrent
+ * requests to a single host. Applications sending many concurrent requests to a single node will
+ * usually want to raise {@link Builder#withMaxIdleConnections(int)} and {@link
+ * Builder#withMaxRequestsPerHost(int)}.
+ *
+ * <p>Responses are always requested with gzip compression and are decompressed transparently by
+ * OkHttp.
+ */
+public final class HttpServiceConfig {
+
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+    public static final long DEFAULT_KEEP_ALIVE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    public static final int DEFAULT_MAX_REQUESTS = 64;
+    public static final int DEFAULT_MAX_REQUESTS_PER_HOST = 5;
+
+    private final int maxIdleConnections;
+    private final long keepAliveMillis;
+    private final int maxRequests;
+    private final int maxRequestsPerHost;
+    private final boolean http2PriorKnowledge;
+    private final boolean gzipRequests;
+    private final boolean streamResponses;
+    private final boolean nonBlockingAsync;
+
+    private HttpServiceConfig(Builder builder) {
+        this.maxIdleConnections = builder.maxIdleConnections;
+        this.keepAliveMillis = builder.keepAliveMillis;
+        this.maxRequests = builder.maxRequests;
+        this.maxRequestsPerHost = builder.maxRequestsPerHost;
+        this.http2PriorKnowledge = builder.http2PriorKnowledge;
+        this.gzipRequests = builder.gzipRequests;
+        this.streamResponses = builder.streamResponses;
+        this.nonBlockingAsync = builder.nonBlockingAsync;
+    }
+
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    public long getKeepAliveMillis() {
+        return keepAliveMillis;
+    }
+
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    public int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    public boolean isHttp2PriorKnowledge() {
+        return http2PriorKnowledge;
+    }
+
+    public boolean isGzipRequests() {
+        return gzipRequests;
+    }
+
+    public boolean isStreamResponses() {
+        return streamResponses;
+    }
+
+    public boolean isNonBlockingAsync() {
+        return nonBlockingAsync;
+    }
+
+    /**
+     * Apply the connection pool, dispatcher and protocol settings to an OkHttp client builder.
+     *
+     * @param builder builder to configure
+     * @return the same builder
+     */
+    public OkHttpClient.Builder applyTo(OkHttpClient.Builder builder) {
+        builder.connectionPool(
+                new ConnectionPool(maxIdleConnections, keepAliveMillis, TimeUnit.MILLISECONDS));
+
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+        builder.dispatcher(dispatcher);
+
+        if (http2PriorKnowledge) {
+            builder.protocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE));
+        }
+        if (gzipRequests) {
+            builder.addInterceptor(new GzipRequestInterceptor());
+        }
+        return builder;
+    }
+
+    public static class Builder {
+
+        private int maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+        private long keepAliveMillis = DEFAULT_KEEP_ALIVE_MILLIS;
+        private int maxRequests = DEFAULT_MAX_REQUESTS;
+        private int maxRequestsPerHost = DEFAULT_MAX_REQUESTS_PER_HOST;
+        private boolean http2PriorKnowledge;
+        private boolean gzipRequests;
+        private boolean streamResponses;
+        private boolean nonBlockingAsync;
+
+        public Builder() {}
+
+        /**
+         * Maximum number of idle connections kept open in the connection pool.
+         *
+         * @param maxIdleConnections maximum number of idle connections
+         * @return this builder
+         */
+        public Builder withMaxIdleConnections(int maxIdleConnections) {
+            if (maxIdleConnections < 0) {
+                throw new IllegalArgumentException(
+                        "Invalid max idle connections: " + maxIdleConnections);
+            }
+            this.maxIdleConnections = maxIdleConnections;
+            return this;
+        }
+
+        /**
+         * How long idle connections are kept open in the connection pool.
+         *
+         * @param keepAliveMillis keep-alive duration in milliseconds
+         * @return this builder
+         */
+        public Builder withKeepAliveMillis(long keepAliveMillis) {
+            if (keepAliveMillis <= 0) {
+                throw new IllegalArgumentException(
+                        "Invalid keep-alive duration: " + keepAliveMillis);
+            }
+            this.keepAliveMillis = keepAliveMillis;
+            return this;
+        }
+
+        /**
+         * Maximum number of asynchronous requests executing concurrently across all hosts.
+         *
+         * @param maxRequests maximum number of concurrent requests
+         * @return this builder
+         */
+        public Builder withMaxRequests(int maxRequests) {
+            if (maxRequests < 1) {
+                throw new IllegalArgumentException("Invalid max requests: " + maxRequests);
+            }
+            this.maxRequests = maxRequests;
+            return this;
+        }
+
+        /**
+         * Maximum number of asynchronous requests executing concurrently against a single host.
+         *
+         * @param maxRequestsPerHost maximum number of concurrent requests per host
+         * @return this builder
+         */
+        public Builder withMaxRequestsPerHost(int maxRequestsPerHost) {
+            if (maxRequestsPerHost < 1) {
+                throw new IllegalArgumentException(
+                        "Invalid max requests per host: " + maxRequestsPerHost);
+            }
+            this.maxRequestsPerHost = maxRequestsPerHost;
+            return this;
+        }
+
+        /**
+         * Use cleartext HTTP/2 without an upgrade, for nodes serving h2c. All requests are then
+         * multiplexed over a single connection per host.
+         *
+         * @param http2PriorKnowledge true to use HTTP/2 with prior knowledge
+         * @return this builder
+         */
+        public Builder withHttp2PriorKnowledge(boolean http2PriorKnowledge) {
+            this.http2PriorKnowledge = http2PriorKnowledge;
+            return this;
+        }
+
+        /**
+         * Compress request bodies with gzip. The node must accept gzip encoded requests.
+         *
+         * @param gzipRequests true to compress request bodies
+         * @return this builder
+         */
+        public Builder withGzipRequests(boolean gzipRequests) {
+            this.gzipRequests = gzipRequests;
+            return this;
+        }
+
+        /**
+         * See {@link HttpService#setStreamResponses(boolean)}.
+         *
+         * @param streamResponses true to stream response bodies
+         * @return this builder
+         */
+        public Builder withStreamResponses(boolean streamResponses) {
+            this.streamResponses = streamResponses;
+            return this;
+        }
+
+        /**
+         * See {@link HttpService#setNonBlockingAsync(boolean)}.
+         *
+         * @param nonBlockingAsync true to enqueue asynchronous requests
+         * @return this builder
+         */
+        public Builder withNonBlockingAsync(boolean nonBlockingAsync) {
+            this.nonBlockingAsync = nonBlockingAsync;
+            return this;
+        }
+
+        public HttpServiceConfig build() {
+            return new HttpServiceConfig(this);
+        }
+    }
+}
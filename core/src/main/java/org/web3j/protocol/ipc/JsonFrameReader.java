@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.ipc;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Splits a stream of bytes into complete top-level JSON values.
+ *
+ * <p>Bytes are supplied in arbitrarily sized chunks as they are read from a channel. The reader
+ * tracks object and array nesting, skipping over string contents, and emits each top-level value
+ * as soon as its closing bracket has been read. Values do not need to be separated by newlines.
+ *
+ * <p>Instances are not thread safe.
+ */
+public class JsonFrameReader {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 8 * 1024;
+    // Largest buffer kept once a value has been read, larger ones are released
+    private static final int DEFAULT_MAX_RETAINED_CAPACITY = 256 * 1024;
+
+    private final int initialCapacity;
+    private final int maxRetainedCapacity;
+    private byte[] frame;
+    private int length;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+
+    public JsonFrameReader() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public JsonFrameReader(int initialCapacity) {
+        this(initialCapacity, Math.max(initialCapacity, DEFAULT_MAX_RETAINED_CAPACITY));
+    }
+
+    JsonFrameReader(int initialCapacity, int maxRetainedCapacity) {
+        this.initialCapacity = initialCapacity;
+        this.maxRetainedCapacity = maxRetainedCapacity;
+        this.frame = new byte[initialCapacity];
+    }
+
+    /**
+     * Consume all remaining bytes in the buffer, passing each completed JSON value to the
+     * listener.
+     *
+     * @param buffer bytes read from the underlying channel
+     * @param onFrame listener for completed JSON values
+     */
+    public void read(ByteBuffer buffer, Consumer<byte[]> onFrame) {
+        while (buffer.hasRemaining()) {
+            byte b = buffer.get();
+
+            if (depth == 0) {
+                if (b == '{' || b == '[') {
+                    append(b);
+                    depth = 1;
+                }
+                // whitespace and delimiters between values are skipped
+                continue;
+            }
+
+            append(b);
+
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (b == '\\') {
+                    escaped = true;
+                } else if (b == '"') {
+                    inString = false;
+                }
+            } else if (b == '"') {
+                inString = true;
+            } else if (b == '{' || b == '[') {
+                depth++;
+            } else if (b == '}' || b == ']') {
+                depth--;
+                if (depth == 0) {
+                    onFrame.accept(Arrays.copyOf(frame, length));
+                    clear();
+                }
+            }
+        }
+    }
+
+    /** Discard any partially read value. */
+    public void reset() {
+        clear();
+        depth = 0;
+        inString = false;
+        escaped = false;
+    }
+
+    // Method visible for unit-tests
+    int getCapacity() {
+        return frame.length;
+    }
+
+    private void clear() {
+        length = 0;
+        if (frame.length > maxRetainedCapacity) {
+            // Do not hold on to the memory of an unusually large value
+            frame = new byte[initialCapacity];
+        }
+    }
+
+    private void append(byte b) {
+        if (length == frame.length) {
+            frame = Arrays.copyOf(frame, frame.length * 2);
+        }
+        frame[length++] = b;
+    }
+}
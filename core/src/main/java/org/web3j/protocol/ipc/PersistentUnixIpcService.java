@@ -0,0 +1,561 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.ipc;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.subjects.BehaviorSubject;
+import jnr.unixsocket.UnixSocketAddress;
+import jnr.unixsocket.UnixSocketChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.BatchResponseDecoder;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthSubscribe;
+import org.web3j.protocol.core.methods.response.EthUnsubscribe;
+import org.web3j.protocol.websocket.SubscriptionRegistry;
+import org.web3j.protocol.websocket.WebSocketSubscription;
+import org.web3j.protocol.websocket.events.Notification;
+
+/**
+ * Unix domain socket service that keeps a single connection open to the node.
+ *
+ * <p>Unlike {@link UnixIpcService}, which opens a new socket for every request, this service
+ * connects once and multiplexes all requests over the same socket, matching replies to requests by
+ * id. Replies are read on a dedicated thread, so {@link #sendAsync(Request, Class)} does not block
+ * a thread while waiting for the node.
+ *
+ * <p>As the connection is long-lived, it also supports subscriptions to streams of notifications
+ * via {@link #subscribe(Request, String, Class)}, in the same way as the WebSocket service.
+ *
+ * <p>{@link #connect()} must be called before any requests are sent.
+ */
+public class PersistentUnixIpcService implements Web3jService {
+
+    private static final Logger log = LoggerFactory.getLogger(PersistentUnixIpcService.class);
+
+    // Timeout for JSON-RPC requests
+    static final long REQUEST_TIMEOUT = 60;
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final String ipcSocketPath;
+    // Executor to schedule request timeouts
+    private final ScheduledExecutorService executor;
+    // Object mapper to map incoming JSON objects
+    private final ObjectMapper objectMapper;
+    // Decoder to correlate batch replies with their requests
+    private final BatchResponseDecoder batchResponseDecoder;
+    private final JsonFrameReader frameReader = new JsonFrameReader();
+    private final Object writeLock = new Object();
+
+    private ReadableByteChannel readChannel;
+    private WritableByteChannel writeChannel;
+    private volatile boolean connected;
+
+    // Map of a sent request id to objects necessary to process this request
+    private final Map<Long, IpcRequest> requestForId = new ConcurrentHashMap<>();
+    // Pending and active subscriptions
+    private final SubscriptionRegistry subscriptions = new SubscriptionRegistry();
+
+    public PersistentUnixIpcService(String ipcSocketPath) {
+        this(ipcSocketPath, false);
+    }
+
+    public PersistentUnixIpcService(String ipcSocketPath, boolean includeRawResponses) {
+        this(ipcSocketPath, null, null, newTimeoutExecutor(), includeRawResponses);
+    }
+
+    PersistentUnixIpcService(
+            ReadableByteChannel readChannel,
+            WritableByteChannel writeChannel,
+            ScheduledExecutorService executor,
+            boolean includeRawResponses) {
+        this(null, readChannel, writeChannel, executor, includeRawResponses);
+    }
+
+    private PersistentUnixIpcService(
+            String ipcSocketPath,
+            ReadableByteChannel readChannel,
+            WritableByteChannel writeChannel,
+            ScheduledExecutorService executor,
+            boolean includeRawResponses) {
+        this.ipcSocketPath = ipcSocketPath;
+        this.readChannel = readChannel;
+        this.writeChannel = writeChannel;
+        this.executor = executor;
+        this.objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
+        this.batchResponseDecoder = new BatchResponseDecoder(objectMapper);
+    }
+
+    /**
+     * Connect to the IPC socket and start reading replies.
+     *
+     * @throws ConnectException thrown if the socket cannot be opened
+     */
+    public synchronized void connect() throws ConnectException {
+        if (connected) {
+            return;
+        }
+
+        if (ipcSocketPath != null) {
+            try {
+                UnixSocketChannel channel =
+                        UnixSocketChannel.open(new UnixSocketAddress(ipcSocketPath));
+                readChannel = channel;
+                writeChannel = channel;
+            } catch (IOException e) {
+                ConnectException connectException =
+                        new ConnectException(
+                                "Provided file socket cannot be opened: " + ipcSocketPath);
+                connectException.initCause(e);
+                throw connectException;
+            }
+        }
+
+        connected = true;
+        frameReader.reset();
+        Thread reader = new Thread(this::readReplies, "web3j-ipc-reader");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        try {
+            return sendAsync(request, responseType).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted IPC request", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+
+            throw new RuntimeException("Unexpected exception", e.getCause());
+        }
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        long requestId = request.getId();
+        requestForId.put(requestId, new IpcRequest(result, responseType, null));
+        sendPayload(request, requestId);
+        return result;
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        try {
+            return sendBatchAsync(batchRequest).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted IPC batch request", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+
+            throw new RuntimeException("Unexpected exception", e.getCause());
+        }
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        List<Request<?, ? extends Response<?>>> requests = batchRequest.getRequests();
+        if (requests.isEmpty()) {
+            return CompletableFuture.completedFuture(
+                    new BatchResponse(requests, Collections.emptyList()));
+        }
+
+        CompletableFuture<BatchResponse> result = new CompletableFuture<>();
+        // the batch is tracked by the id of its first request
+        long requestId = requests.get(0).getId();
+        requestForId.put(requestId, new IpcRequest(result, BatchResponse.class, requests));
+        sendPayload(requests, requestId);
+        return result;
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        // We can't use usual Observer since we can call "onError"
+        // before first client is subscribed and we need to
+        // preserve it
+        BehaviorSubject<T> subject = BehaviorSubject.create();
+
+        // We need to subscribe synchronously, since if we return
+        // an Flowable to a client before we got a reply
+        // a client can unsubscribe before we know a subscription
+        // id and this can cause a race condition
+        subscribeToEventsStream(request, subject, responseType);
+
+        return subject.doOnDispose(() -> closeSubscription(subject, unsubscribeMethod))
+                .toFlowable(BackpressureStrategy.BUFFER);
+    }
+
+    private <T extends Notification<?>> void subscribeToEventsStream(
+            Request request, BehaviorSubject<T> subject, Class<T> responseType) {
+
+        subscriptions.addPending(
+                request.getId(), new WebSocketSubscription<>(subject, responseType));
+        try {
+            send(request, EthSubscribe.class);
+        } catch (IOException e) {
+            log.error("Failed to subscribe to RPC events with request id {}", request.getId());
+            subscriptions.removePending(request.getId());
+            subject.onError(e);
+        }
+    }
+
+    private <T extends Notification<?>> void closeSubscription(
+            BehaviorSubject<T> subject, String unsubscribeMethod) {
+        String subscriptionId = subscriptions.remove(subject);
+        if (subscriptionId != null) {
+            unsubscribeFromEventsStream(subscriptionId, unsubscribeMethod);
+        } else {
+            log.warn("Trying to unsubscribe from a non-existing subscription. Race condition?");
+        }
+    }
+
+    private void unsubscribeFromEventsStream(String subscriptionId, String unsubscribeMethod) {
+        if (!connected) {
+            return;
+        }
+        sendAsync(
+                        new Request<>(
+                                unsubscribeMethod,
+                                Collections.singletonList(subscriptionId),
+                                this,
+                                EthUnsubscribe.class),
+                        EthUnsubscribe.class)
+                .thenAccept(
+                        ethUnsubscribe ->
+                                log.debug(
+                                        "Successfully unsubscribed from subscription with id {}",
+                                        subscriptionId))
+                .exceptionally(
+                        throwable -> {
+                            log.error(
+                                    "Failed to unsubscribe from subscription with id {}",
+                                    subscriptionId);
+                            return null;
+                        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        connected = false;
+        try {
+            if (readChannel instanceof UnixSocketChannel) {
+                // unblocks the reader thread
+                ((UnixSocketChannel) readChannel).shutdownInput();
+            }
+            if (readChannel != null) {
+                readChannel.close();
+            }
+            if (writeChannel != null && writeChannel != readChannel) {
+                writeChannel.close();
+            }
+        } finally {
+            executor.shutdown();
+            onClose();
+        }
+    }
+
+    private void sendPayload(Object payload, long requestId) {
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(payload);
+            if (log.isDebugEnabled()) {
+                log.debug(">> {}", new String(bytes, StandardCharsets.UTF_8));
+            }
+            write(ByteBuffer.wrap(bytes));
+            setRequestTimeout(requestId);
+        } catch (IOException e) {
+            closeRequest(requestId, e);
+        }
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        if (!connected) {
+            throw new IOException("IPC connection is not open");
+        }
+        synchronized (writeLock) {
+            while (buffer.hasRemaining()) {
+                writeChannel.write(buffer);
+            }
+        }
+    }
+
+    private void setRequestTimeout(long requestId) {
+        IpcRequest request = requestForId.get(requestId);
+        if (request == null) {
+            // Already replied to
+            return;
+        }
+        ScheduledFuture<?> timeout =
+                executor.schedule(
+                        () ->
+                                closeRequest(
+                                        requestId,
+                                        new IOException(
+                                                String.format(
+                                                        "Request with id %d timed out",
+                                                        requestId))),
+                        REQUEST_TIMEOUT,
+                        TimeUnit.SECONDS);
+        request.getOnReply().whenComplete((reply, throwable) -> timeout.cancel(false));
+    }
+
+    private static ScheduledExecutorService newTimeoutExecutor() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+        // Timeouts are cancelled as replies arrive, so they should not stay queued until they
+        // would have fired
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    void closeRequest(long requestId, Exception e) {
+        IpcRequest request = requestForId.remove(requestId);
+        if (request != null) {
+            request.getOnReply().completeExceptionally(e);
+        }
+    }
+
+    private void readReplies() {
+        ByteBuffer buffer = ByteBuffer.allocate(DEFAULT_BUFFER_SIZE);
+        try {
+            while (connected) {
+                buffer.clear();
+                if (readChannel.read(buffer) < 0) {
+                    break;
+                }
+                buffer.flip();
+                frameReader.read(buffer, this::onFrame);
+            }
+        } catch (IOException e) {
+            if (connected) {
+                log.error("Failed to read from IPC socket", e);
+            }
+        } finally {
+            connected = false;
+            onClose();
+        }
+    }
+
+    void onFrame(byte[] frame) {
+        try {
+            JsonNode replyJson = objectMapper.readTree(frame);
+            if (replyJson.isArray()) {
+                processBatchReply(replyJson);
+            } else if (replyJson.has("id")) {
+                processReply(replyJson);
+            } else if (replyJson.has("method")) {
+                processSubscriptionEvent(replyJson);
+            } else {
+                log.warn("Ignoring unknown IPC message type");
+            }
+        } catch (Exception e) {
+            log.error("Failed to process IPC message", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void processReply(JsonNode replyJson) {
+        JsonNode idField = replyJson.get("id");
+        if (!idField.canConvertToLong()) {
+            log.warn("Received reply with unexpected id: {}", idField);
+            return;
+        }
+
+        long replyId = idField.asLong();
+        IpcRequest request = requestForId.remove(replyId);
+        if (request == null) {
+            log.warn("Received reply for unexpected request id: {}", replyId);
+            return;
+        }
+
+        try {
+            Object reply = objectMapper.treeToValue(replyJson, request.getResponseType());
+            // The subscription must be established before the caller is notified, so that
+            // no events are missed
+            if (reply instanceof EthSubscribe) {
+                processSubscriptionResponse(replyId, (EthSubscribe) reply);
+            }
+            request.getOnReply().complete(reply);
+        } catch (Exception e) {
+            request.getOnReply()
+                    .completeExceptionally(
+                            new IOException(
+                                    String.format(
+                                            "Failed to parse reply as type %s",
+                                            request.getResponseType()),
+                                    e));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void processSubscriptionResponse(long replyId, EthSubscribe reply) {
+        WebSocketSubscription subscription = subscriptions.removePending(replyId);
+        if (subscription == null) {
+            return;
+        }
+
+        if (!reply.hasError()) {
+            log.debug("Subscribed to RPC events with id {}", reply.getSubscriptionId());
+            subscriptions.activate(reply.getSubscriptionId(), subscription);
+        } else {
+            Response.Error error = reply.getError();
+            log.error("Subscription request returned error: {}", error.getMessage());
+            subscription
+                    .getSubject()
+                    .onError(
+                            new IOException(
+                                    String.format(
+                                            "Subscription request failed with error: %s",
+                                            error.getMessage())));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void processSubscriptionEvent(JsonNode replyJson) {
+        JsonNode params = replyJson.get("params");
+        String subscriptionId =
+                params == null || !params.has("subscription")
+                        ? null
+                        : params.get("subscription").asText();
+        WebSocketSubscription subscription =
+                subscriptionId == null ? null : subscriptions.get(subscriptionId);
+
+        if (subscription != null) {
+            Object event = objectMapper.convertValue(replyJson, subscription.getResponseType());
+            subscription.getSubject().onNext(event);
+        } else {
+            log.warn("No subscriber for IPC event with subscription id {}", subscriptionId);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void processBatchReply(JsonNode replyJson) {
+        IpcRequest request = null;
+        for (JsonNode reply : replyJson) {
+            JsonNode idField = reply.get("id");
+            if (idField != null && idField.canConvertToLong()) {
+                IpcRequest candidate = requestForId.get(idField.asLong());
+                if (candidate != null
+                        && candidate.getRequests() != null
+                        && requestForId.remove(idField.asLong(), candidate)) {
+                    request = candidate;
+                    break;
+                }
+            }
+        }
+
+        if (request == null) {
+            log.warn("Received batch reply for unexpected requests");
+            return;
+        }
+
+        try {
+            List<Response<?>> responses =
+                    batchResponseDecoder.decode(request.getRequests(), replyJson);
+            request.getOnReply().complete(new BatchResponse(request.getRequests(), responses));
+        } catch (Exception e) {
+            request.getOnReply()
+                    .completeExceptionally(new IOException("Failed to parse batch reply", e));
+        }
+    }
+
+    void onClose() {
+        closeOutstandingRequests();
+        closeOutstandingSubscriptions();
+    }
+
+    private void closeOutstandingRequests() {
+        requestForId
+                .values()
+                .forEach(
+                        request ->
+                                request.getOnReply()
+                                        .completeExceptionally(
+                                                new IOException("Connection was closed")));
+        requestForId.clear();
+    }
+
+    private void closeOutstandingSubscriptions() {
+        for (WebSocketSubscription<?> subscription : subscriptions.removeAll()) {
+            subscription.getSubject().onError(new IOException("Connection was closed"));
+        }
+    }
+
+    // Method visible for unit-tests
+    boolean isWaitingForReply(long requestId) {
+        return requestForId.containsKey(requestId);
+    }
+
+    /** Objects necessary to process a reply for a request sent over the IPC connection. */
+    @SuppressWarnings("rawtypes")
+    private static class IpcRequest {
+        private final CompletableFuture onReply;
+        private final Class<?> responseType;
+        private final List<Request<?, ? extends Response<?>>> requests;
+
+        IpcRequest(
+                CompletableFuture onReply,
+                Class<?> responseType,
+                List<Request<?, ? extends Response<?>>> requests) {
+            this.onReply = onReply;
+            this.responseType = responseType;
+            this.requests = requests;
+        }
+
+        CompletableFuture getOnReply() {
+            return onReply;
+        }
+
+        Class<?> getResponseType() {
+            return responseType;
+        }
+
+        List<Request<?, ? extends Response<?>>> getRequests() {
+            return requests;
+        }
+    }
+}
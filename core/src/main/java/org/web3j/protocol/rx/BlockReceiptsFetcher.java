@@ -0,0 +1,186 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.reactivex.Maybe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthGetBlockReceipts;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.Transaction;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+
+/**
+ * Fetches the receipts of a block with a single {@code eth_getBlockReceipts} request. On nodes
+ * that do not support the method, the receipts are fetched with one batch of {@code
+ * eth_getTransactionReceipt} requests instead, and {@code eth_getBlockReceipts} is not tried again.
+ *
+ * <p>A block that was replaced by a reorganisation before its receipts could be fetched is skipped,
+ * as its receipts are no longer available. The block replacing it is fetched in its own right.
+ */
+class BlockReceiptsFetcher {
+
+    private static final Logger log = LoggerFactory.getLogger(BlockReceiptsFetcher.class);
+
+    private static final int METHOD_NOT_FOUND = -32601;
+
+    private final Web3j web3j;
+    private volatile boolean blockReceiptsSupported = true;
+
+    BlockReceiptsFetcher(Web3j web3j) {
+        this.web3j = web3j;
+    }
+
+    /**
+     * Fetch the receipts of a block.
+     *
+     * @param ethBlock block to fetch the receipts of
+     * @return the block with its receipts, or nothing if the block has been replaced
+     */
+    Maybe<BlockWithReceipts> fetch(EthBlock ethBlock) {
+        List<String> transactionHashes = transactionHashes(ethBlock.getBlock());
+        if (transactionHashes.isEmpty()) {
+            return Maybe.just(new BlockWithReceipts(ethBlock, Collections.emptyList()));
+        } else if (!blockReceiptsSupported) {
+            return fetchBatch(ethBlock, transactionHashes);
+        }
+
+        Request<?, EthGetBlockReceipts> request =
+                web3j.ethGetBlockReceipts(
+                        new DefaultBlockParameterNumber(ethBlock.getBlock().getNumber()));
+        return RxFutures.single(request::sendAsync)
+                .flatMapMaybe(response -> onBlockReceipts(ethBlock, transactionHashes, response));
+    }
+
+    private Maybe<BlockWithReceipts> onBlockReceipts(
+            EthBlock ethBlock, List<String> transactionHashes, EthGetBlockReceipts response) {
+        EthBlock.Block block = ethBlock.getBlock();
+        if (response.hasError()) {
+            if (!isMethodNotFound(response.getError())) {
+                return Maybe.error(
+                        new IOException(
+                                "Failed to fetch receipts for block "
+                                        + block.getHash()
+                                        + ": "
+                                        + response.getError().getMessage()));
+            }
+            blockReceiptsSupported = false;
+        } else if (matches(block, transactionHashes.size(), response.getResult())) {
+            return Maybe.just(new BlockWithReceipts(ethBlock, response.getResult()));
+        }
+        // Either the method is not supported, or the block was replaced after it was fetched and
+        // the receipts returned by number belong to another block
+        return fetchBatch(ethBlock, transactionHashes);
+    }
+
+    private Maybe<BlockWithReceipts> fetchBatch(
+            EthBlock ethBlock, List<String> transactionHashes) {
+        BatchRequest batchRequest = web3j.newBatch();
+        for (String transactionHash : transactionHashes) {
+            batchRequest.add(web3j.ethGetTransactionReceipt(transactionHash));
+        }
+        return RxFutures.single(batchRequest::sendAsync)
+                .flatMapMaybe(
+                        batchResponse -> {
+                            List<TransactionReceipt> receipts =
+                                    toReceipts(ethBlock.getBlock(), batchResponse);
+                            if (receipts == null) {
+                                log.warn(
+                                        "Skipping block {} as it was replaced before its "
+                                                + "receipts could be fetched",
+                                        ethBlock.getBlock().getHash());
+                                return Maybe.empty();
+                            }
+                            return Maybe.just(new BlockWithReceipts(ethBlock, receipts));
+                        });
+    }
+
+    /**
+     * Returns the receipts of the block in transaction order, or {@code null} if any of them is
+     * not found or belongs to another block, in which case the block has been replaced.
+     */
+    private static List<TransactionReceipt> toReceipts(
+            EthBlock.Block block, BatchResponse batchResponse) throws IOException {
+        List<Request<?, ? extends Response<?>>> requests = batchResponse.getRequests();
+        List<TransactionReceipt> receipts = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            Request<?, ?> request = requests.get(i);
+            Response<?> response = batchResponse.getResponse(i);
+            if (response == null) {
+                throw new IOException("No response for receipt " + request.getParams().get(0));
+            } else if (response.hasError()) {
+                throw new IOException(
+                        "Failed to fetch receipt "
+                                + request.getParams().get(0)
+                                + ": "
+                                + response.getError().getMessage());
+            }
+
+            TransactionReceipt receipt =
+                    ((EthGetTransactionReceipt) response).getTransactionReceipt().orElse(null);
+            if (receipt == null || !block.getHash().equals(receipt.getBlockHash())) {
+                return null;
+            }
+            receipts.add(receipt);
+        }
+        return receipts;
+    }
+
+    private static boolean matches(
+            EthBlock.Block block, int transactionCount, List<TransactionReceipt> receipts) {
+        if (receipts == null || receipts.size() != transactionCount) {
+            return false;
+        }
+        for (TransactionReceipt receipt : receipts) {
+            if (!block.getHash().equals(receipt.getBlockHash())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isMethodNotFound(Response.Error error) {
+        String message = error.getMessage() == null ? "" : error.getMessage().toLowerCase();
+        return error.getCode() == METHOD_NOT_FOUND
+                || message.contains("method not found")
+                || message.contains("does not exist");
+    }
+
+    private static List<String> transactionHashes(EthBlock.Block block) {
+        if (block.getTransactions() == null) {
+            return Collections.emptyList();
+        }
+        List<String> transactionHashes = new ArrayList<>(block.getTransactions().size());
+        for (EthBlock.TransactionResult<?> result : block.getTransactions()) {
+            Object transaction = result.get();
+            transactionHashes.add(
+                    transaction instanceof Transaction
+                            ? ((Transaction) transaction).getHash()
+                            : (String) transaction);
+        }
+        return transactionHashes;
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import io.reactivex.Flowable;
+import io.reactivex.Single;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlock;
+
+/**
+ * Replays a range of blocks with bounded concurrency.
+ *
+ * <p>Blocks are fetched in batches of {@code eth_getBlockByNumber} requests, with up to {@code
+ * parallelism} batches in flight at once. Batches may complete in any order, but blocks are always
+ * emitted in chain order. Batches are only requested as the subscriber signals demand, so at most
+ * {@code parallelism} batches are held in memory however long the range is.
+ *
+ * <p>Progress can be recorded with a checkpoint listener, which is called with the last block of
+ * each batch once all of its blocks have been emitted. A replay can later be resumed from the last
+ * checkpoint with {@link Builder#withResumeFrom(BigInteger)}.
+ *
+ * <pre>{@code
+ * new BlockReplay.Builder(web3j, BigInteger.ZERO, latest)
+ *         .withParallelism(8)
+ *         .withCheckpointListener(checkpointStore::save)
+ *         .withResumeFrom(checkpointStore.load())
+ *         .build()
+ *         .flowable()
+ *         .subscribe(block -> process(block));
+ * }</pre>
+ */
+public class BlockReplay {
+
+    public static final int DEFAULT_BATCH_SIZE = 50;
+    public static final int DEFAULT_PARALLELISM = 4;
+    public static final int DEFAULT_MAX_RETRIES = 3;
+
+    private final Web3j web3j;
+    private final BigInteger startBlock;
+    private final BigInteger endBlock;
+    private final int batchSize;
+    private final int parallelism;
+    private final int maxRetries;
+    private final boolean fullTransactionObjects;
+    private final boolean ascending;
+    private final Consumer<BigInteger> checkpointListener;
+
+    private BlockReplay(Builder builder) {
+        this.web3j = builder.web3j;
+        this.batchSize = builder.batchSize;
+        this.parallelism = builder.parallelism;
+        this.maxRetries = builder.maxRetries;
+        this.fullTransactionObjects = builder.fullTransactionObjects;
+        this.ascending = builder.ascending;
+        this.checkpointListener = builder.checkpointListener;
+
+        BigInteger start = builder.startBlock;
+        BigInteger end = builder.endBlock;
+        if (builder.resumeFrom != null) {
+            if (ascending) {
+                start = start.max(builder.resumeFrom.add(BigInteger.ONE));
+            } else {
+                end = end.min(builder.resumeFrom.subtract(BigInteger.ONE));
+            }
+        }
+        this.startBlock = start;
+        this.endBlock = end;
+    }
+
+    /**
+     * Create a {@link Flowable} that emits the blocks of this replay in chain order. Nothing is
+     * fetched until it is subscribed to.
+     *
+     * @return a {@link Flowable} instance to emit the replayed blocks
+     */
+    public Flowable<EthBlock> flowable() {
+        if (startBlock.compareTo(endBlock) > 0) {
+            return Flowable.empty();
+        }
+
+        BigInteger blockCount = endBlock.subtract(startBlock).add(BigInteger.ONE);
+        BigInteger size = BigInteger.valueOf(batchSize);
+        long batchCount = blockCount.add(size).subtract(BigInteger.ONE).divide(size).longValue();
+
+        return Flowable.rangeLong(0, batchCount)
+                .concatMapEager(batch -> fetchBatch(batch).toFlowable(), parallelism, 1)
+                .concatMap(
+                        blocks ->
+                                Flowable.fromIterable(blocks)
+                                        .doOnComplete(() -> checkpoint(blocks)),
+                        1);
+    }
+
+    private Single<List<EthBlock>> fetchBatch(long batch) {
+        BigInteger offset = BigInteger.valueOf(batch).multiply(BigInteger.valueOf(batchSize));
+        BatchRequest batchRequest = web3j.newBatch();
+        for (int i = 0; i < batchSize; i++) {
+            BigInteger blockNumber =
+                    ascending
+                            ? startBlock.add(offset).add(BigInteger.valueOf(i))
+                            : endBlock.subtract(offset).subtract(BigInteger.valueOf(i));
+            if (blockNumber.compareTo(startBlock) < 0 || blockNumber.compareTo(endBlock) > 0) {
+                break;
+            }
+            batchRequest.add(
+                    web3j.ethGetBlockByNumber(
+                            new DefaultBlockParameterNumber(blockNumber), fullTransactionObjects));
+        }
+
+        return RxFutures.single(batchRequest::sendAsync)
+                .map(BlockReplay::toBlocks)
+                .retry(maxRetries, throwable -> throwable instanceof IOException);
+    }
+
+    private void checkpoint(List<EthBlock> blocks) {
+        if (checkpointListener != null && !blocks.isEmpty()) {
+            checkpointListener.accept(blocks.get(blocks.size() - 1).getBlock().getNumber());
+        }
+    }
+
+    private static List<EthBlock> toBlocks(BatchResponse batchResponse) throws IOException {
+        List<Request<?, ? extends Response<?>>> requests = batchResponse.getRequests();
+        List<EthBlock> blocks = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            Request<?, ?> request = requests.get(i);
+            Response<?> response = batchResponse.getResponse(i);
+            if (response == null) {
+                throw new IOException("No response for block " + request.getParams().get(0));
+            } else if (response.hasError()) {
+                throw new IOException(
+                        "Failed to fetch block "
+                                + request.getParams().get(0)
+                                + ": "
+                                + response.getError().getMessage());
+            }
+
+            EthBlock ethBlock = (EthBlock) response;
+            if (ethBlock.getBlock() == null) {
+                throw new IOException("Block " + request.getParams().get(0) + " not found");
+            }
+            blocks.add(ethBlock);
+        }
+        return blocks;
+    }
+
+    public static class Builder {
+
+        private final Web3j web3j;
+        private final BigInteger startBlock;
+        private final BigInteger endBlock;
+        private int batchSize = DEFAULT_BATCH_SIZE;
+        private int parallelism = DEFAULT_PARALLELISM;
+        private int maxRetries = DEFAULT_MAX_RETRIES;
+        private boolean fullTransactionObjects;
+        private boolean ascending = true;
+        private Consumer<BigInteger> checkpointListener;
+        private BigInteger resumeFrom;
+
+        /**
+         * @param web3j client to fetch blocks with
+         * @param startBlock first block of the range, inclusive
+         * @param endBlock last block of the range, inclusive
+         */
+        public Builder(Web3j web3j, BigInteger startBlock, BigInteger endBlock) {
+            if (startBlock.signum() < 0) {
+                throw new IllegalArgumentException("Negative start block cannot be used");
+            } else if (startBlock.compareTo(endBlock) > 0) {
+                throw new IllegalArgumentException(
+                        "Start block cannot be greater than end block");
+            }
+            this.web3j = web3j;
+            this.startBlock = startBlock;
+            this.endBlock = endBlock;
+        }
+
+        /** Number of blocks fetched in each batch request. */
+        public Builder withBatchSize(int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("Batch size must be at least 1");
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /** Maximum number of batch requests in flight at once. */
+        public Builder withParallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Parallelism must be at least 1");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /** Number of times a batch is retried after an I/O error before the replay fails. */
+        public Builder withMaxRetries(int maxRetries) {
+            if (maxRetries < 0) {
+                throw new IllegalArgumentException("Max retries cannot be negative");
+            }
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        public Builder withFullTransactionObjects(boolean fullTransactionObjects) {
+            this.fullTransactionObjects = fullTransactionObjects;
+            return this;
+        }
+
+        public Builder withAscending(boolean ascending) {
+            this.ascending = ascending;
+            return this;
+        }
+
+        /**
+         * Listener called with the last block of each batch once all of the batch's blocks have
+         * been emitted.
+         */
+        public Builder withCheckpointListener(Consumer<BigInteger> checkpointListener) {
+            this.checkpointListener = checkpointListener;
+            return this;
+        }
+
+        /**
+         * Resume a replay after the given block, typically the last checkpoint of an earlier
+         * replay. A {@code null} block replays the whole range.
+         */
+        public Builder withResumeFrom(BigInteger lastProcessedBlock) {
+            this.resumeFrom = lastProcessedBlock;
+            return this;
+        }
+
+        public BlockReplay build() {
+            return new BlockReplay(this);
+        }
+    }
+}
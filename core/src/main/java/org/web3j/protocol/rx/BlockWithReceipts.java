@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.util.List;
+
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+
+/** A block paired with the receipts of all of its transactions, in transaction order. */
+public class BlockWithReceipts {
+
+    private final EthBlock ethBlock;
+    private final List<TransactionReceipt> receipts;
+
+    public BlockWithReceipts(EthBlock ethBlock, List<TransactionReceipt> receipts) {
+        this.ethBlock = ethBlock;
+        this.receipts = receipts;
+    }
+
+    public EthBlock getEthBlock() {
+        return ethBlock;
+    }
+
+    public EthBlock.Block getBlock() {
+        return ethBlock.getBlock();
+    }
+
+    public List<TransactionReceipt> getReceipts() {
+        return receipts;
+    }
+}
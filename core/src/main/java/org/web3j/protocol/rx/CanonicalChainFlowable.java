@@ -0,0 +1,357 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.reactivex.Flowable;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+
+/**
+ * Follows the canonical chain, turning a stream of chain heads into {@link ChainEvent}s that
+ * account for chain reorganisations.
+ *
+ * <p>The most recent blocks are kept in a bounded window. Each new head is linked to the window
+ * through its {@code parentHash}, fetching any missed ancestors by hash. If the head does not
+ * extend the current tip, the blocks above the common ancestor are reverted and the new branch is
+ * applied. If more blocks were missed than the window holds, after a stall or restart, they are
+ * fetched by number in order and followed one at a time instead.
+ *
+ * <p>With a confirmation depth of {@code N}, a block is only applied once {@code N} blocks have
+ * been built on top of it, so reorganisations shallower than that are never seen downstream.
+ * Blocks that are reverted before being confirmed are dropped without an event.
+ *
+ * <pre>{@code
+ * new CanonicalChainFlowable.Builder(web3j)
+ *         .withConfirmations(12)
+ *         .build()
+ *         .logs(new EthFilter().addSingleTopic(TRANSFER_TOPIC))
+ *         .subscribe(event -> {
+ *             if (event.isApply()) {
+ *                 insert(event.getValue());
+ *             } else {
+ *                 delete(event.getValue());
+ *             }
+ *         });
+ * }</pre>
+ */
+public class CanonicalChainFlowable {
+
+    public static final int DEFAULT_MAX_DEPTH = 128;
+
+    private final Web3j web3j;
+    private final Flowable<EthBlock> heads;
+    private final int confirmations;
+    private final int maxDepth;
+    private final boolean fullTransactionObjects;
+
+    private CanonicalChainFlowable(Builder builder) {
+        this.web3j = builder.web3j;
+        this.confirmations = builder.confirmations;
+        this.maxDepth = builder.maxDepth;
+        this.fullTransactionObjects = builder.fullTransactionObjects;
+        this.heads =
+                builder.heads != null
+                        ? builder.heads
+                        : web3j.blockFlowable(builder.fullTransactionObjects);
+    }
+
+    /**
+     * Create a {@link Flowable} of block events. Each subscription follows the chain
+     * independently, starting from the next head.
+     *
+     * @return a {@link Flowable} instance to emit canonical chain block events
+     */
+    public Flowable<ChainEvent<EthBlock.Block>> blocks() {
+        return Flowable.defer(
+                () -> {
+                    Chain chain = new Chain();
+                    return heads.concatMap(
+                            ethBlock -> Flowable.fromIterable(chain.onHead(ethBlock.getBlock())));
+                });
+    }
+
+    /**
+     * Create a {@link Flowable} of log events for the logs matching the address and topics of
+     * the given filter. Logs are fetched by block hash as each block is applied, and the same logs
+     * are reverted in reverse order if the block is reverted.
+     *
+     * @param ethFilter filter whose address and topics are matched. Its block range is ignored.
+     * @return a {@link Flowable} instance to emit canonical chain log events
+     */
+    public Flowable<ChainEvent<Log>> logs(EthFilter ethFilter) {
+        return Flowable.defer(
+                () -> {
+                    Map<String, List<Log>> appliedLogs = boundedMap(maxDepth);
+                    return blocks().concatMap(
+                                    event -> {
+                                        EthBlock.Block block = event.getValue();
+                                        if (event.isApply()) {
+                                            List<Log> logs = fetchLogs(ethFilter, block);
+                                            appliedLogs.put(block.getHash(), logs);
+                                            return Flowable.fromIterable(
+                                                    toEvents(ChainEvent.Type.APPLY, logs, block));
+                                        }
+                                        List<Log> logs = appliedLogs.remove(block.getHash());
+                                        if (logs == null) {
+                                            return Flowable.empty();
+                                        }
+                                        List<Log> reverted = new ArrayList<>(logs);
+                                        Collections.reverse(reverted);
+                                        return Flowable.fromIterable(
+                                                toEvents(ChainEvent.Type.REVERT, reverted, block));
+                                    });
+                });
+    }
+
+    private List<Log> fetchLogs(EthFilter ethFilter, EthBlock.Block block) throws IOException {
+        EthFilter blockFilter = new EthFilter(block.getHash(), ethFilter.getAddress());
+        blockFilter.getTopics().addAll(ethFilter.getTopics());
+
+        EthLog ethLog = web3j.ethGetLogs(blockFilter).send();
+        if (ethLog.hasError()) {
+            throw new IOException(
+                    "Failed to fetch logs for block "
+                            + block.getHash()
+                            + ": "
+                            + ethLog.getError().getMessage());
+        }
+
+        List<Log> logs = new ArrayList<>();
+        for (EthLog.LogResult<?> result : ethLog.getLogs()) {
+            logs.add((Log) result.get());
+        }
+        return logs;
+    }
+
+    private static <T> List<ChainEvent<T>> toEvents(
+            ChainEvent.Type type, List<T> values, EthBlock.Block block) {
+        List<ChainEvent<T>> events = new ArrayList<>(values.size());
+        for (T value : values) {
+            events.add(new ChainEvent<>(type, value, block));
+        }
+        return events;
+    }
+
+    private static <K, V> Map<K, V> boundedMap(int maxSize) {
+        return new LinkedHashMap<K, V>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /** The window of recent canonical blocks followed by one subscription. */
+    private class Chain {
+
+        // Oldest block first
+        private final Deque<EthBlock.Block> blocks = new ArrayDeque<>();
+        private final Map<String, EthBlock.Block> blocksByHash = new HashMap<>();
+        private BigInteger lastApplied;
+
+        List<ChainEvent<EthBlock.Block>> onHead(EthBlock.Block head) throws IOException {
+            if (head == null || blocksByHash.containsKey(head.getHash())) {
+                return Collections.emptyList();
+            }
+
+            List<ChainEvent<EthBlock.Block>> events = new ArrayList<>();
+            if (!blocks.isEmpty()) {
+                // Walking back over a gap longer than the window would never reach it, and
+                // would be mistaken for a reorganisation that is too deep
+                BigInteger next = blocks.getLast().getNumber().add(BigInteger.ONE);
+                if (head.getNumber().subtract(next).compareTo(BigInteger.valueOf(maxDepth)) >= 0) {
+                    for (BigInteger number = next;
+                            number.compareTo(head.getNumber()) < 0;
+                            number = number.add(BigInteger.ONE)) {
+                        follow(fetchBlock(number), events);
+                    }
+                }
+            }
+            follow(head, events);
+            return events;
+        }
+
+        private void follow(EthBlock.Block head, List<ChainEvent<EthBlock.Block>> events)
+                throws IOException {
+            if (blocksByHash.containsKey(head.getHash())) {
+                return;
+            }
+
+            if (blocks.isEmpty()) {
+                lastApplied = head.getNumber().subtract(BigInteger.ONE);
+                append(head);
+            } else {
+                Deque<EthBlock.Block> branch = findBranch(head);
+                EthBlock.Block ancestor = blocksByHash.get(branch.getFirst().getParentHash());
+                while (blocks.getLast() != ancestor) {
+                    revert(blocks.removeLast(), events);
+                }
+                for (EthBlock.Block block : branch) {
+                    append(block);
+                }
+            }
+
+            applyConfirmed(events);
+        }
+
+        /** Walk back from the head to the first block whose parent is in the window. */
+        private Deque<EthBlock.Block> findBranch(EthBlock.Block head) throws IOException {
+            Deque<EthBlock.Block> branch = new ArrayDeque<>();
+            EthBlock.Block block = head;
+            branch.addFirst(block);
+            while (!blocksByHash.containsKey(block.getParentHash())) {
+                if (branch.size() >= maxDepth
+                        || block.getNumber().compareTo(blocks.getFirst().getNumber()) <= 0) {
+                    throw new IOException(
+                            "Block "
+                                    + head.getHash()
+                                    + " does not connect to the last "
+                                    + maxDepth
+                                    + " blocks, the reorganisation is too deep to follow");
+                }
+                block = fetchBlock(block.getParentHash());
+                branch.addFirst(block);
+            }
+            return branch;
+        }
+
+        private void append(EthBlock.Block block) {
+            blocks.addLast(block);
+            blocksByHash.put(block.getHash(), block);
+            if (blocks.size() > maxDepth) {
+                blocksByHash.remove(blocks.removeFirst().getHash());
+            }
+        }
+
+        private void revert(EthBlock.Block block, List<ChainEvent<EthBlock.Block>> events) {
+            blocksByHash.remove(block.getHash());
+            if (block.getNumber().compareTo(lastApplied) <= 0) {
+                events.add(new ChainEvent<>(ChainEvent.Type.REVERT, block, block));
+                lastApplied = block.getNumber().subtract(BigInteger.ONE);
+            }
+        }
+
+        private void applyConfirmed(List<ChainEvent<EthBlock.Block>> events) {
+            BigInteger confirmedUpTo =
+                    blocks.getLast().getNumber().subtract(BigInteger.valueOf(confirmations));
+            Iterator<EthBlock.Block> iterator = blocks.iterator();
+            while (iterator.hasNext()) {
+                EthBlock.Block block = iterator.next();
+                if (block.getNumber().compareTo(confirmedUpTo) > 0) {
+                    break;
+                }
+                if (block.getNumber().compareTo(lastApplied) > 0) {
+                    events.add(new ChainEvent<>(ChainEvent.Type.APPLY, block, block));
+                    lastApplied = block.getNumber();
+                }
+            }
+        }
+
+        private EthBlock.Block fetchBlock(String blockHash) throws IOException {
+            return toBlock(
+                    web3j.ethGetBlockByHash(blockHash, fullTransactionObjects).send(), blockHash);
+        }
+
+        private EthBlock.Block fetchBlock(BigInteger blockNumber) throws IOException {
+            return toBlock(
+                    web3j.ethGetBlockByNumber(
+                                    DefaultBlockParameter.valueOf(blockNumber),
+                                    fullTransactionObjects)
+                            .send(),
+                    blockNumber.toString());
+        }
+
+        private EthBlock.Block toBlock(EthBlock ethBlock, String blockId) throws IOException {
+            if (ethBlock.hasError()) {
+                throw new IOException(
+                        "Failed to fetch block "
+                                + blockId
+                                + ": "
+                                + ethBlock.getError().getMessage());
+            } else if (ethBlock.getBlock() == null) {
+                throw new IOException("Block " + blockId + " not found");
+            }
+            return ethBlock.getBlock();
+        }
+    }
+
+    public static class Builder {
+
+        private final Web3j web3j;
+        private Flowable<EthBlock> heads;
+        private int confirmations;
+        private int maxDepth = DEFAULT_MAX_DEPTH;
+        private boolean fullTransactionObjects;
+
+        public Builder(Web3j web3j) {
+            this.web3j = web3j;
+        }
+
+        /**
+         * Chain heads to follow. Defaults to {@link Web3j#blockFlowable(boolean)}, but a {@code
+         * newHeads} subscription or a head-driven poller may be used instead.
+         */
+        public Builder withHeads(Flowable<EthBlock> heads) {
+            this.heads = heads;
+            return this;
+        }
+
+        /** Number of blocks that must be built on a block before it is applied. */
+        public Builder withConfirmations(int confirmations) {
+            if (confirmations < 0) {
+                throw new IllegalArgumentException("Confirmations cannot be negative");
+            }
+            this.confirmations = confirmations;
+            return this;
+        }
+
+        /** Number of recent blocks kept, which bounds the depth of reorganisations followed. */
+        public Builder withMaxDepth(int maxDepth) {
+            if (maxDepth < 2) {
+                throw new IllegalArgumentException("Max depth must be at least 2");
+            }
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        public Builder withFullTransactionObjects(boolean fullTransactionObjects) {
+            this.fullTransactionObjects = fullTransactionObjects;
+            return this;
+        }
+
+        public CanonicalChainFlowable build() {
+            if (confirmations >= maxDepth) {
+                throw new IllegalArgumentException(
+                        "Max depth must be greater than the number of confirmations");
+            }
+            return new CanonicalChainFlowable(this);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import org.web3j.protocol.core.methods.response.EthBlock;
+
+/**
+ * A change to the canonical chain, emitted by {@link CanonicalChainFlowable}.
+ *
+ * <p>An {@link Type#APPLY} event adds a value to the canonical chain. A {@link Type#REVERT} event
+ * removes a value previously applied, because its block was replaced by a chain reorganisation.
+ * Reverts are emitted newest first, so applying the events in order always leaves a consumer with
+ * the canonical chain.
+ *
+ * @param <T> type of the value, a block or a log
+ */
+public class ChainEvent<T> {
+
+    public enum Type {
+        APPLY,
+        REVERT
+    }
+
+    private final Type type;
+    private final T value;
+    private final EthBlock.Block block;
+
+    ChainEvent(Type type, T value, EthBlock.Block block) {
+        this.type = type;
+        this.value = value;
+        this.block = block;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public boolean isApply() {
+        return type == Type.APPLY;
+    }
+
+    public boolean isRevert() {
+        return type == Type.REVERT;
+    }
+
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the block the value belongs to. For block events this is the value itself.
+     *
+     * @return the value's block
+     */
+    public EthBlock.Block getBlock() {
+        return block;
+    }
+
+    @Override
+    public String toString() {
+        return "ChainEvent{"
+                + "type="
+                + type
+                + ", block="
+                + block.getNumber()
+                + " "
+                + block.getHash()
+                + '}';
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.reactivex.Flowable;
+import io.reactivex.Single;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.Ethereum;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+
+/**
+ * Scans a large block range for logs with {@code eth_getLogs}.
+ *
+ * <p>The range of the filter is split into chunks, which are fetched in parallel up to the
+ * configured concurrency. Logs are emitted in chain order regardless of the order chunks complete
+ * in, and further chunks are only requested as the subscriber signals demand.
+ *
+ * <p>The chunk size adapts to the density of matching logs. A chunk that the node rejects for
+ * returning too many results, or that times out, is split in half and each half is fetched in
+ * turn, and subsequent chunks are made smaller. Chunks that come back with few results cause
+ * subsequent chunks to grow, up to the configured maximum.
+ *
+ * <pre>{@code
+ * EthFilter filter =
+ *         new EthFilter(
+ *                 new DefaultBlockParameterNumber(deploymentBlock),
+ *                 new DefaultBlockParameterNumber(latestBlock),
+ *                 contractAddress);
+ * new EthLogScanner.Builder(web3j, filter).withConcurrency(8).build().flowable().subscribe(...);
+ * }</pre>
+ */
+public class EthLogScanner {
+
+    private static final Logger log = LoggerFactory.getLogger(EthLogScanner.class);
+
+    public static final long DEFAULT_INITIAL_CHUNK_SIZE = 2_000;
+    public static final long DEFAULT_MAX_CHUNK_SIZE = 100_000;
+    public static final int DEFAULT_CONCURRENCY = 4;
+    public static final int DEFAULT_TARGET_RESULTS = 5_000;
+    public static final int DEFAULT_MAX_RETRIES = 3;
+
+    // Infura reports oversized queries as "limit exceeded", which it also uses for rate limits
+    private static final int LIMIT_EXCEEDED_CODE = -32005;
+    // Messages providers use for queries whose block range or result count is over their limit
+    private static final String[] RESULT_LIMIT_MESSAGES = {
+        "query returned more than",
+        "response size exceeded",
+        "response size should not greater than",
+        "block range is too wide",
+        "block range is too large",
+        "block range too large",
+        "block range limit exceeded",
+        "exceeded max range limit",
+        "is limited to a 10,000 range",
+        "query exceeds max results"
+    };
+
+    private final Ethereum ethereum;
+    private final EthFilter filter;
+    private final long fromBlock;
+    private final long toBlock;
+    private final long initialChunkSize;
+    private final long maxChunkSize;
+    private final int concurrency;
+    private final int targetResults;
+    private final int maxRetries;
+
+    private EthLogScanner(Builder builder) {
+        this.ethereum = builder.ethereum;
+        this.filter = builder.filter;
+        this.fromBlock = blockNumber(filter.getFromBlock()).longValueExact();
+        this.toBlock = blockNumber(filter.getToBlock()).longValueExact();
+        this.initialChunkSize = Math.min(builder.initialChunkSize, builder.maxChunkSize);
+        this.maxChunkSize = builder.maxChunkSize;
+        this.concurrency = builder.concurrency;
+        this.targetResults = builder.targetResults;
+        this.maxRetries = builder.maxRetries;
+    }
+
+    /**
+     * Create a {@link Flowable} that emits the logs matching the filter in chain order. Each
+     * subscription starts a new scan.
+     *
+     * @return a {@link Flowable} instance to emit the matching logs
+     */
+    public Flowable<Log> flowable() {
+        return Flowable.defer(
+                () -> {
+                    AtomicLong chunkSize = new AtomicLong(initialChunkSize);
+                    return Flowable.<long[], Long>generate(
+                                    () -> fromBlock,
+                                    (next, emitter) -> {
+                                        if (next > toBlock) {
+                                            emitter.onComplete();
+                                            return next;
+                                        }
+                                        long end = Math.min(toBlock, next + chunkSize.get() - 1);
+                                        emitter.onNext(new long[] {next, end});
+                                        return end + 1;
+                                    })
+                            .concatMapEager(
+                                    chunk -> fetch(chunk[0], chunk[1], chunkSize).toFlowable(),
+                                    concurrency,
+                                    1)
+                            .concatMapIterable(logs -> logs, 1);
+                });
+    }
+
+    private Single<List<Log>> fetch(long from, long to, AtomicLong chunkSize) {
+        return request(from, to)
+                .doOnSuccess(logs -> grow(from, to, logs.size(), chunkSize))
+                .onErrorResumeNext(
+                        throwable -> {
+                            if (!(throwable instanceof ResultLimitException) || from == to) {
+                                return Single.error(throwable);
+                            }
+                            return bisect(from, to, chunkSize);
+                        });
+    }
+
+    private Single<List<Log>> bisect(long from, long to, AtomicLong chunkSize) {
+        long size = to - from + 1;
+        chunkSize.accumulateAndGet(Math.max(1, size / 2), Math::min);
+        log.debug("Splitting log query for blocks {} to {}", from, to);
+
+        // The halves are fetched one after the other to stay within the concurrency limit
+        long middle = from + size / 2 - 1;
+        return fetch(from, middle, chunkSize)
+                .flatMap(
+                        first ->
+                                fetch(middle + 1, to, chunkSize)
+                                        .map(
+                                                second -> {
+                                                    List<Log> logs =
+                                                            new ArrayList<>(
+                                                                    first.size() + second.size());
+                                                    logs.addAll(first);
+                                                    logs.addAll(second);
+                                                    return logs;
+                                                }));
+    }
+
+    private void grow(long from, long to, int resultCount, AtomicLong chunkSize) {
+        long size = to - from + 1;
+        if (resultCount < targetResults / 2 && size >= chunkSize.get()) {
+            chunkSize.accumulateAndGet(Math.min(maxChunkSize, size * 2), Math::max);
+        }
+    }
+
+    private Single<List<Log>> request(long from, long to) {
+        EthFilter chunkFilter =
+                new EthFilter(
+                        new DefaultBlockParameterNumber(from),
+                        new DefaultBlockParameterNumber(to),
+                        filter.getAddress());
+        chunkFilter.getTopics().addAll(filter.getTopics());
+
+        return RxFutures.single(() -> ethereum.ethGetLogs(chunkFilter).sendAsync())
+                .onErrorResumeNext(
+                        throwable ->
+                                Single.error(
+                                        throwable instanceof InterruptedIOException
+                                                ? new ResultLimitException(
+                                                        from, to, throwable.getMessage())
+                                                : throwable))
+                .map(ethLog -> toLogs(ethLog, from, to))
+                .retry(
+                        maxRetries,
+                        throwable ->
+                                throwable instanceof IOException
+                                        && !(throwable instanceof ResultLimitException));
+    }
+
+    private static List<Log> toLogs(EthLog ethLog, long from, long to) throws IOException {
+        if (ethLog.hasError()) {
+            Response.Error error = ethLog.getError();
+            if (isResultLimitError(error)) {
+                throw new ResultLimitException(from, to, error.getMessage());
+            }
+            throw new IOException(
+                    "Failed to fetch logs for blocks "
+                            + from
+                            + " to "
+                            + to
+                            + ": "
+                            + error.getMessage());
+        }
+
+        List<EthLog.LogResult> results = ethLog.getLogs();
+        List<Log> logs = new ArrayList<>(results == null ? 0 : results.size());
+        if (results != null) {
+            for (EthLog.LogResult result : results) {
+                logs.add((Log) result.get());
+            }
+        }
+        return logs;
+    }
+
+    private static boolean isResultLimitError(Response.Error error) {
+        String message =
+                error.getMessage() == null ? "" : error.getMessage().toLowerCase(Locale.ROOT);
+        if (error.getCode() == LIMIT_EXCEEDED_CODE) {
+            return !message.contains("rate");
+        }
+        for (String limitMessage : RESULT_LIMIT_MESSAGES) {
+            if (message.contains(limitMessage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static BigInteger blockNumber(DefaultBlockParameter blockParameter) {
+        if (!(blockParameter instanceof DefaultBlockParameterNumber)) {
+            throw new IllegalArgumentException(
+                    "Log scans require a filter with numeric fromBlock and toBlock");
+        }
+        return ((DefaultBlockParameterNumber) blockParameter).getBlockNumber();
+    }
+
+    /** A chunk returned, or would have returned, more results than the node allows. */
+    private static class ResultLimitException extends IOException {
+
+        ResultLimitException(long from, long to, String message) {
+            super("Too many logs in blocks " + from + " to " + to + ": " + message);
+        }
+    }
+
+    public static class Builder {
+
+        private final Ethereum ethereum;
+        private final EthFilter filter;
+        private long initialChunkSize = DEFAULT_INITIAL_CHUNK_SIZE;
+        private long maxChunkSize = DEFAULT_MAX_CHUNK_SIZE;
+        private int concurrency = DEFAULT_CONCURRENCY;
+        private int targetResults = DEFAULT_TARGET_RESULTS;
+        private int maxRetries = DEFAULT_MAX_RETRIES;
+
+        /**
+         * @param ethereum client to fetch logs with
+         * @param filter filter whose address and topics are matched. Its {@code fromBlock} and
+         *     {@code toBlock} must be block numbers.
+         */
+        public Builder(Ethereum ethereum, EthFilter filter) {
+            BigInteger from = blockNumber(filter.getFromBlock());
+            BigInteger to = blockNumber(filter.getToBlock());
+            if (from.compareTo(to) > 0) {
+                throw new IllegalArgumentException("fromBlock cannot be greater than toBlock");
+            }
+            this.ethereum = ethereum;
+            this.filter = filter;
+        }
+
+        /** Number of blocks in the first chunks, before the size adapts. */
+        public Builder withInitialChunkSize(long initialChunkSize) {
+            if (initialChunkSize < 1) {
+                throw new IllegalArgumentException("Chunk size must be at least 1");
+            }
+            this.initialChunkSize = initialChunkSize;
+            return this;
+        }
+
+        /** Largest number of blocks a chunk may grow to. */
+        public Builder withMaxChunkSize(long maxChunkSize) {
+            if (maxChunkSize < 1) {
+                throw new IllegalArgumentException("Chunk size must be at least 1");
+            }
+            this.maxChunkSize = maxChunkSize;
+            return this;
+        }
+
+        /** Maximum number of {@code eth_getLogs} requests in flight at once. */
+        public Builder withConcurrency(int concurrency) {
+            if (concurrency < 1) {
+                throw new IllegalArgumentException("Concurrency must be at least 1");
+            }
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * Number of logs a chunk should aim to return. Chunks returning less than half of this
+         * grow.
+         */
+        public Builder withTargetResults(int targetResults) {
+            if (targetResults < 1) {
+                throw new IllegalArgumentException("Target results must be at least 1");
+            }
+            this.targetResults = targetResults;
+            return this;
+        }
+
+        /** Number of times a chunk is retried after an I/O error before the scan fails. */
+        public Builder withMaxRetries(int maxRetries) {
+            if (maxRetries < 0) {
+                throw new IllegalArgumentException("Max retries cannot be negative");
+            }
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        public EthLogScanner build() {
+            return new EthLogScanner(this);
+        }
+    }
+}
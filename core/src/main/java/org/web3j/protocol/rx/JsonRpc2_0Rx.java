@@ -15,6 +15,8 @@ package org.web3j.protocol.rx;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 
@@ -30,6 +32,9 @@ import org.web3j.protocol.core.DefaultBlockParameterName;
 import org.web3j.protocol.core.DefaultBlockParameterNumber;
 import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.filters.BlockFilter;
+import org.web3j.protocol.core.filters.FilterPoller;
+import org.web3j.protocol.core.filters.FilterPolling;
+import org.web3j.protocol.core.filters.HeadTracker;
 import org.web3j.protocol.core.filters.LogFilter;
 import org.web3j.protocol.core.filters.PendingTransactionFilter;
 import org.web3j.protocol.core.methods.response.EthBlock;
@@ -40,14 +45,34 @@ import org.web3j.utils.Flowables;
 /** web3j reactive API implementation. */
 public class JsonRpc2_0Rx {
 
+    // Blocks whose receipts are fetched at once, while still being emitted in order
+    private static final int RECEIPTS_CONCURRENCY = 4;
+
     private final Web3j web3j;
     private final ScheduledExecutorService scheduledExecutorService;
     private final Scheduler scheduler;
+    private final FilterPolling filterPolling;
+    private final Map<Long, FilterPoller> filterPollers = new ConcurrentHashMap<>();
+    private final BlockReceiptsFetcher blockReceiptsFetcher;
 
     public JsonRpc2_0Rx(Web3j web3j, ScheduledExecutorService scheduledExecutorService) {
+        this(web3j, scheduledExecutorService, FilterPolling.INDIVIDUAL);
+    }
+
+    /**
+     * @param web3j client to send requests with
+     * @param scheduledExecutorService executor to run filters and replays on
+     * @param filterPolling how filters poll for changes
+     */
+    public JsonRpc2_0Rx(
+            Web3j web3j,
+            ScheduledExecutorService scheduledExecutorService,
+            FilterPolling filterPolling) {
         this.web3j = web3j;
         this.scheduledExecutorService = scheduledExecutorService;
         this.scheduler = Schedulers.from(scheduledExecutorService);
+        this.filterPolling = filterPolling;
+        this.blockReceiptsFetcher = new BlockReceiptsFetcher(web3j);
     }
 
     public Flowable<String> ethBlockHashFlowable(long pollingInterval) {
@@ -86,21 +111,37 @@ public class JsonRpc2_0Rx {
             FlowableEmitter<? super T> emitter,
             long pollingInterval) {
 
-        filter.run(scheduledExecutorService, pollingInterval);
+        if (filterPolling == FilterPolling.INDIVIDUAL) {
+            filter.run(scheduledExecutorService, pollingInterval);
+        } else {
+            filter.run(filterPollers.computeIfAbsent(pollingInterval, this::createFilterPoller));
+        }
         emitter.setCancellable(filter::cancel);
     }
 
+    private FilterPoller createFilterPoller(long pollingInterval) {
+        if (filterPolling == FilterPolling.HEAD_DRIVEN) {
+            HeadTracker headTracker =
+                    new HeadTracker(
+                            web3j,
+                            scheduledExecutorService,
+                            Math.min(HeadTracker.DEFAULT_MIN_POLLING_INTERVAL, pollingInterval),
+                            pollingInterval);
+            return new FilterPoller(web3j, headTracker);
+        }
+        return new FilterPoller(web3j, scheduledExecutorService, pollingInterval);
+    }
+
     public Flowable<Transaction> transactionFlowable(long pollingInterval) {
         return blockFlowable(true, pollingInterval).flatMapIterable(JsonRpc2_0Rx::toTransactions);
     }
 
     public Flowable<Transaction> pendingTransactionFlowable(long pollingInterval) {
-        return ethPendingTransactionHashFlowable(pollingInterval)
-                .flatMap(
-                        transactionHash ->
-                                web3j.ethGetTransactionByHash(transactionHash).flowable())
-                .filter(ethTransaction -> ethTransaction.getTransaction().isPresent())
-                .map(ethTransaction -> ethTransaction.getTransaction().get());
+        return new PendingTransactionFlowable.Builder(web3j)
+                .withTransactionHashes(ethPendingTransactionHashFlowable(pollingInterval))
+                .withScheduler(scheduler)
+                .build()
+                .flowable();
     }
 
     public Flowable<EthBlock> blockFlowable(boolean fullTransactionObjects, long pollingInterval) {
@@ -111,6 +152,25 @@ public class JsonRpc2_0Rx {
                                         .flowable());
     }
 
+    public Flowable<BlockWithReceipts> blockWithReceiptsFlowable(
+            boolean fullTransactionObjects, long pollingInterval) {
+        return withReceipts(blockFlowable(fullTransactionObjects, pollingInterval));
+    }
+
+    public Flowable<BlockWithReceipts> replayBlocksWithReceiptsFlowable(
+            DefaultBlockParameter startBlock,
+            DefaultBlockParameter endBlock,
+            boolean fullTransactionObjects) {
+        return withReceipts(replayBlocksFlowable(startBlock, endBlock, fullTransactionObjects));
+    }
+
+    private Flowable<BlockWithReceipts> withReceipts(Flowable<EthBlock> blocks) {
+        return blocks.concatMapEager(
+                ethBlock -> blockReceiptsFetcher.fetch(ethBlock).toFlowable(),
+                RECEIPTS_CONCURRENCY,
+                1);
+    }
+
     public Flowable<EthBlock> replayBlocksFlowable(
             DefaultBlockParameter startBlock,
             DefaultBlockParameter endBlock,
@@ -153,7 +213,7 @@ public class JsonRpc2_0Rx {
         return Flowables.range(startBlockNumber, endBlockNumber, isAscending)
                 .map(DefaultBlockParameterNumber::new)
                 .map(number -> web3j.ethGetBlockByNumber(number, containsFullTransactionObjects))
-                .flatMap(Request::flowable);
+                .concatMap(Request::flowable);
     }
 
     public Flowable<Transaction> replayTransactionsFlowable(
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthTransaction;
+import org.web3j.protocol.core.methods.response.Transaction;
+
+/**
+ * Streams pending transactions without a request per transaction.
+ *
+ * <p>Where the node supports it, full transaction bodies are received from an {@code eth_subscribe
+ * newPendingTransactions} subscription. Otherwise pending transaction hashes are buffered until
+ * {@code batchSize} hashes have arrived or {@code bufferTimeout} has passed, and the buffered
+ * transactions are then fetched with a single batch request. Transactions that are no longer
+ * pending by the time they are fetched are skipped.
+ *
+ * <p>Nodes commonly announce the same transaction more than once, so hashes seen recently are
+ * remembered in a bounded set and not emitted again.
+ *
+ * <pre>{@code
+ * new PendingTransactionFlowable.Builder(web3j)
+ *         .withBatchSize(200)
+ *         .build()
+ *         .flowable()
+ *         .subscribe(transaction -> process(transaction));
+ * }</pre>
+ */
+public class PendingTransactionFlowable {
+
+    private static final Logger log = LoggerFactory.getLogger(PendingTransactionFlowable.class);
+
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    public static final long DEFAULT_BUFFER_TIMEOUT = 200;
+    public static final int DEFAULT_DEDUPLICATION_SIZE = 10000;
+
+    private final Web3j web3j;
+    private final Flowable<String> transactionHashes;
+    private final int batchSize;
+    private final long bufferTimeout;
+    private final int deduplicationSize;
+    private final boolean subscription;
+    private final Scheduler scheduler;
+
+    private PendingTransactionFlowable(Builder builder) {
+        this.web3j = builder.web3j;
+        this.batchSize = builder.batchSize;
+        this.bufferTimeout = builder.bufferTimeout;
+        this.deduplicationSize = builder.deduplicationSize;
+        this.subscription = builder.subscription;
+        this.scheduler = builder.scheduler;
+        this.transactionHashes =
+                builder.transactionHashes != null
+                        ? builder.transactionHashes
+                        : web3j.ethPendingTransactionHashFlowable();
+    }
+
+    /**
+     * Create a {@link Flowable} of pending transactions. Each subscription de-duplicates
+     * transactions independently.
+     *
+     * @return a {@link Flowable} instance to emit pending transactions
+     */
+    public Flowable<Transaction> flowable() {
+        return Flowable.defer(
+                () -> {
+                    Set<String> seen = recentHashes(deduplicationSize);
+                    if (!subscription) {
+                        return polled(seen);
+                    }
+                    // The subscription fails straight away on HTTP, or on nodes that do not
+                    // support full transaction bodies
+                    return Flowable.defer(web3j::fullPendingTransactionsNotifications)
+                            .map(notification -> notification.getParams().getResult())
+                            .filter(transaction -> seen.add(transaction.getHash()))
+                            .onErrorResumeNext(polled(seen));
+                });
+    }
+
+    private Flowable<Transaction> polled(Set<String> seen) {
+        return transactionHashes
+                .filter(seen::add)
+                .buffer(bufferTimeout, TimeUnit.MILLISECONDS, scheduler, batchSize)
+                .filter(hashes -> !hashes.isEmpty())
+                .concatMap(hashes -> fetchBatch(hashes).toFlowable())
+                .concatMapIterable(transactions -> transactions);
+    }
+
+    private Single<List<Transaction>> fetchBatch(List<String> transactionHashes) {
+        BatchRequest batchRequest = web3j.newBatch();
+        for (String transactionHash : transactionHashes) {
+            batchRequest.add(web3j.ethGetTransactionByHash(transactionHash));
+        }
+        return RxFutures.single(batchRequest::sendAsync)
+                .map(PendingTransactionFlowable::toTransactions);
+    }
+
+    private static List<Transaction> toTransactions(BatchResponse batchResponse) {
+        List<Request<?, ? extends Response<?>>> requests = batchResponse.getRequests();
+        List<Transaction> transactions = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            Response<?> response = batchResponse.getResponse(i);
+            // A transaction that cannot be fetched is skipped rather than ending the stream, as
+            // pending transactions are often dropped before they are fetched
+            if (response == null) {
+                log.debug("No response for transaction {}", requests.get(i).getParams().get(0));
+            } else if (response.hasError()) {
+                log.debug(
+                        "Failed to fetch transaction {}: {}",
+                        requests.get(i).getParams().get(0),
+                        response.getError().getMessage());
+            } else {
+                ((EthTransaction) response).getTransaction().ifPresent(transactions::add);
+            }
+        }
+        return transactions;
+    }
+
+    private static Set<String> recentHashes(int maxSize) {
+        return Collections.newSetFromMap(
+                new LinkedHashMap<String, Boolean>() {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                        return size() > maxSize;
+                    }
+                });
+    }
+
+    public static class Builder {
+
+        private final Web3j web3j;
+        private Flowable<String> transactionHashes;
+        private int batchSize = DEFAULT_BATCH_SIZE;
+        private long bufferTimeout = DEFAULT_BUFFER_TIMEOUT;
+        private int deduplicationSize = DEFAULT_DEDUPLICATION_SIZE;
+        private boolean subscription = true;
+        private Scheduler scheduler = Schedulers.computation();
+
+        public Builder(Web3j web3j) {
+            this.web3j = web3j;
+        }
+
+        /**
+         * Pending transaction hashes to fetch when no subscription is available. Defaults to
+         * {@link Web3j#ethPendingTransactionHashFlowable()}.
+         */
+        public Builder withTransactionHashes(Flowable<String> transactionHashes) {
+            this.transactionHashes = transactionHashes;
+            return this;
+        }
+
+        /** Maximum number of transactions fetched in each batch request. */
+        public Builder withBatchSize(int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("Batch size must be at least 1");
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /** Maximum time in milliseconds a hash is buffered before its batch is fetched. */
+        public Builder withBufferTimeout(long bufferTimeout) {
+            if (bufferTimeout < 1) {
+                throw new IllegalArgumentException("Buffer timeout must be at least 1");
+            }
+            this.bufferTimeout = bufferTimeout;
+            return this;
+        }
+
+        /** Number of recent transaction hashes remembered to drop duplicates. */
+        public Builder withDeduplicationSize(int deduplicationSize) {
+            if (deduplicationSize < 1) {
+                throw new IllegalArgumentException("Deduplication size must be at least 1");
+            }
+            this.deduplicationSize = deduplicationSize;
+            return this;
+        }
+
+        /**
+         * Whether to try an {@code eth_subscribe newPendingTransactions} subscription with full
+         * transaction bodies before falling back to fetching pending transaction hashes.
+         */
+        public Builder withSubscription(boolean subscription) {
+            this.subscription = subscription;
+            return this;
+        }
+
+        /** Scheduler the buffer timeout runs on. */
+        public Builder withScheduler(Scheduler scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        public PendingTransactionFlowable build() {
+            return new PendingTransactionFlowable(this);
+        }
+    }
+}
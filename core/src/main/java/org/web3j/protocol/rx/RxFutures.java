@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import io.reactivex.Single;
+
+/** Adapts the {@link CompletableFuture}s returned by asynchronous requests to RxJava types. */
+final class RxFutures {
+
+    private RxFutures() {}
+
+    /**
+     * Create a {@link Single} that starts a new future each time it is subscribed to, and cancels
+     * it when disposed. Unlike {@link org.web3j.protocol.core.Request#flowable()} no thread is
+     * blocked while the request is in flight.
+     */
+    static <T> Single<T> single(Supplier<CompletableFuture<T>> futureSupplier) {
+        return Single.create(
+                emitter -> {
+                    CompletableFuture<T> future = futureSupplier.get();
+                    emitter.setCancellable(() -> future.cancel(false));
+                    future.whenComplete(
+                            (result, throwable) -> {
+                                if (throwable != null) {
+                                    emitter.tryOnError(unwrap(throwable));
+                                } else {
+                                    emitter.onSuccess(result);
+                                }
+                            });
+                });
+    }
+
+    static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    }
+}
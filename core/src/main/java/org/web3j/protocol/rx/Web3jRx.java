@@ -21,8 +21,10 @@ import org.web3j.protocol.core.methods.request.EthFilter;
 import org.web3j.protocol.core.methods.response.EthBlock;
 import org.web3j.protocol.core.methods.response.Log;
 import org.web3j.protocol.core.methods.response.Transaction;
+import org.web3j.protocol.websocket.events.FullPendingTransactionNotification;
 import org.web3j.protocol.websocket.events.LogNotification;
 import org.web3j.protocol.websocket.events.NewHeadsNotification;
+import org.web3j.protocol.websocket.events.PendingTransactionNotification;
 
 /** The Flowables JSON-RPC client event API. */
 public interface Web3jRx {
@@ -142,6 +144,34 @@ public interface Web3jRx {
     Flowable<EthBlock> replayPastBlocksFlowable(
             DefaultBlockParameter startBlock, boolean fullTransactionObjects);
 
+    /**
+     * Create an {@link Flowable} instance that emits newly created blocks on the blockchain, each
+     * paired with the receipts of its transactions. Receipts are fetched with one {@code
+     * eth_getBlockReceipts} request per block, or a batch of {@code eth_getTransactionReceipt}
+     * requests on nodes that do not support it. A block replaced by a reorganisation before its
+     * receipts could be fetched is skipped.
+     *
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise
+     *     transaction hashes
+     * @return a {@link Flowable} instance that emits all new blocks with their receipts
+     */
+    Flowable<BlockWithReceipts> blockWithReceiptsFlowable(boolean fullTransactionObjects);
+
+    /**
+     * As per {@link #replayPastBlocksFlowable(DefaultBlockParameter, DefaultBlockParameter,
+     * boolean)}, except that each block is paired with the receipts of its transactions.
+     *
+     * @param startBlock block number to commence with
+     * @param endBlock block number to finish with
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise
+     *     transaction hashes
+     * @return a {@link Flowable} instance to emit these blocks with their receipts
+     */
+    Flowable<BlockWithReceipts> replayPastBlocksWithReceiptsFlowable(
+            DefaultBlockParameter startBlock,
+            DefaultBlockParameter endBlock,
+            boolean fullTransactionObjects);
+
     /**
      * Create a {@link Flowable} instance that emits all transactions from the blockchain contained
      * within the requested range.
@@ -205,4 +235,21 @@ public interface Web3jRx {
      * @return a {@link Flowable} instance that emits logs included in new blocks
      */
     Flowable<LogNotification> logsNotifications(List<String> addresses, List<String> topics);
+
+    /**
+     * Creates a {@link Flowable} instance that emits a notification with the hash of each
+     * transaction added to the pending state.
+     *
+     * @return a {@link Flowable} instance that emits the hashes of new pending transactions
+     */
+    Flowable<PendingTransactionNotification> pendingTransactionsNotifications();
+
+    /**
+     * Creates a {@link Flowable} instance that emits a notification with the full body of each
+     * transaction added to the pending state. Not every node supports this, in which case the
+     * {@link Flowable} fails.
+     *
+     * @return a {@link Flowable} instance that emits new pending transactions
+     */
+    Flowable<FullPendingTransactionNotification> fullPendingTransactionsNotifications();
 }
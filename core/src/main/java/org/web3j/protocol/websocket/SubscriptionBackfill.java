@@ -0,0 +1,197 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.websocket;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.utils.Numeric;
+
+/**
+ * Fetches the events that a {@code newHeads} or {@code logs} subscription missed while its
+ * WebSocket connection was down.
+ *
+ * <p>Missed heads are fetched with a single batch of {@code eth_getBlockByNumber} requests, and
+ * missed logs with a single {@code eth_getLogs} request using the subscription's filter. Either way
+ * at most the configured number of blocks is fetched.
+ */
+class SubscriptionBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(SubscriptionBackfill.class);
+
+    private static final String NEW_HEADS = "newHeads";
+    private static final String LOGS = "logs";
+
+    private final Web3jService web3jService;
+    private final ObjectMapper objectMapper;
+    private final int maxBlocks;
+
+    SubscriptionBackfill(Web3jService web3jService, ObjectMapper objectMapper, int maxBlocks) {
+        this.web3jService = web3jService;
+        this.objectMapper = objectMapper;
+        this.maxBlocks = maxBlocks;
+    }
+
+    static boolean isSupported(Request<?, ?> request) {
+        if (request == null || request.getParams() == null || request.getParams().isEmpty()) {
+            return false;
+        }
+        Object type = request.getParams().get(0);
+        return NEW_HEADS.equals(type) || LOGS.equals(type);
+    }
+
+    /**
+     * Fetch the events missed between the last event delivered to a subscription and the current
+     * chain head.
+     *
+     * @param subscription subscription to fetch events for
+     * @param subscriptionId id of the new server-side subscription
+     * @param headBlockNumber current chain head
+     * @return missed events in chain order
+     */
+    <T> CompletableFuture<List<T>> fetch(
+            WebSocketSubscription<T> subscription, String subscriptionId, long headBlockNumber) {
+        Request<?, ?> request = subscription.getRequest();
+        boolean logs = LOGS.equals(request.getParams().get(0));
+
+        // Logs of the last seen block may have been only partly delivered
+        long fromBlock = subscription.getLastBlockNumber() + (logs ? 0 : 1);
+        if (headBlockNumber - fromBlock + 1 > maxBlocks) {
+            log.warn(
+                    "Subscription {} missed blocks {} to {}, only the last {} will be fetched",
+                    subscriptionId,
+                    fromBlock,
+                    headBlockNumber,
+                    maxBlocks);
+            fromBlock = headBlockNumber - maxBlocks + 1;
+        }
+        if (fromBlock > headBlockNumber) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        Class<T> type = subscription.getResponseType();
+        return logs
+                ? fetchLogs(request, fromBlock, headBlockNumber)
+                        .thenApply(results -> toNotifications(results, subscriptionId, type))
+                : fetchHeads(fromBlock, headBlockNumber)
+                        .thenApply(results -> toNotifications(results, subscriptionId, type));
+    }
+
+    private CompletableFuture<List<JsonNode>> fetchHeads(long fromBlock, long toBlock) {
+        BatchRequest batchRequest = new BatchRequest(web3jService);
+        for (long blockNumber = fromBlock; blockNumber <= toBlock; blockNumber++) {
+            batchRequest.add(
+                    new Request<>(
+                            "eth_getBlockByNumber",
+                            Arrays.asList(encode(blockNumber), false),
+                            web3jService,
+                            JsonNodeResponse.class));
+        }
+
+        return web3jService
+                .sendBatchAsync(batchRequest)
+                .thenApply(
+                        batchResponse -> {
+                            List<JsonNode> heads = new ArrayList<>();
+                            for (Response<?> response : batchResponse.getResponses()) {
+                                JsonNode head = resultOf(response);
+                                if (head != null) {
+                                    heads.add(head);
+                                }
+                            }
+                            return heads;
+                        });
+    }
+
+    private CompletableFuture<List<JsonNode>> fetchLogs(
+            Request<?, ?> request, long fromBlock, long toBlock) {
+        Object filterParams = request.getParams().size() > 1 ? request.getParams().get(1) : null;
+        ObjectNode filter =
+                filterParams != null
+                        ? objectMapper.valueToTree(filterParams)
+                        : objectMapper.createObjectNode();
+        filter.put("fromBlock", encode(fromBlock));
+        filter.put("toBlock", encode(toBlock));
+
+        return web3jService
+                .sendAsync(
+                        new Request<>(
+                                "eth_getLogs",
+                                Collections.singletonList(filter),
+                                web3jService,
+                                JsonNodeResponse.class),
+                        JsonNodeResponse.class)
+                .thenApply(
+                        response -> {
+                            List<JsonNode> logs = new ArrayList<>();
+                            JsonNode result = resultOf(response);
+                            if (result != null) {
+                                result.forEach(logs::add);
+                            }
+                            return logs;
+                        });
+    }
+
+    private <T> List<T> toNotifications(
+            List<JsonNode> results, String subscriptionId, Class<T> type) {
+        List<T> notifications = new ArrayList<>(results.size());
+        for (JsonNode result : results) {
+            ObjectNode notification = objectMapper.createObjectNode();
+            notification.put("jsonrpc", "2.0");
+            notification.put("method", "eth_subscription");
+            ObjectNode params = notification.putObject("params");
+            params.put("subscription", subscriptionId);
+            params.set("result", result);
+            try {
+                notifications.add(objectMapper.treeToValue(notification, type));
+            } catch (JsonProcessingException e) {
+                throw new CompletionException(e);
+            }
+        }
+        return notifications;
+    }
+
+    private static JsonNode resultOf(Response<?> response) {
+        if (response.hasError()) {
+            throw new CompletionException(
+                    new IOException(
+                            "Failed to fetch missed events: " + response.getError().getMessage()));
+        }
+        JsonNode result = (JsonNode) response.getResult();
+        return result == null || result.isNull() ? null : result;
+    }
+
+    private static String encode(long blockNumber) {
+        return Numeric.encodeQuantity(BigInteger.valueOf(blockNumber));
+    }
+
+    /** Response whose result is kept as a JSON tree, so it can be re-read as a notification. */
+    static class JsonNodeResponse extends Response<JsonNode> {}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.websocket;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.reactivex.subjects.BehaviorSubject;
+
+/**
+ * Bookkeeping of the subscriptions of a persistent connection, shared by the services that
+ * support {@code eth_subscribe}.
+ *
+ * <p>Subscriptions are pending from the time the subscribe request is sent until the node replies
+ * with a subscription id, and are then active until they are removed. Active subscriptions are
+ * indexed both by subscription id, to route events, and by subject, to unsubscribe when a
+ * subscriber disposes. Each removal is atomic, so a subscription is only ever removed once.
+ */
+public class SubscriptionRegistry {
+
+    // Map of a sent subscription request id to objects necessary to process
+    // subscription events
+    private final Map<Long, WebSocketSubscription<?>> subscriptionRequestForId =
+            new ConcurrentHashMap<>();
+    // Map of a subscription id to objects necessary to process incoming events
+    private final Map<String, WebSocketSubscription<?>> subscriptionForId =
+            new ConcurrentHashMap<>();
+    // Reverse index of subscriptionForId, to find the subscription id when a subscriber disposes
+    private final Map<BehaviorSubject<?>, String> subscriptionIdForSubject =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Register a subscription whose subscribe request has been sent.
+     *
+     * @param requestId id of the subscribe request
+     * @param subscription subscription to register
+     */
+    public void addPending(long requestId, WebSocketSubscription<?> subscription) {
+        subscriptionRequestForId.put(requestId, subscription);
+    }
+
+    /**
+     * Remove the subscription a subscribe request was sent for.
+     *
+     * @param requestId id of the subscribe request
+     * @return the subscription, or null if there is none
+     */
+    public WebSocketSubscription<?> removePending(long requestId) {
+        return subscriptionRequestForId.remove(requestId);
+    }
+
+    /**
+     * Activate a subscription once the node has replied with its id.
+     *
+     * @param subscriptionId id assigned by the node
+     * @param subscription subscription to activate
+     */
+    public void activate(String subscriptionId, WebSocketSubscription<?> subscription) {
+        subscriptionForId.put(subscriptionId, subscription);
+        subscriptionIdForSubject.put(subscription.getSubject(), subscriptionId);
+    }
+
+    /**
+     * Returns the active subscription with the given id.
+     *
+     * @param subscriptionId id assigned by the node
+     * @return the subscription, or null if there is none
+     */
+    public WebSocketSubscription<?> get(String subscriptionId) {
+        return subscriptionForId.get(subscriptionId);
+    }
+
+    /**
+     * Remove the active subscription of a subject.
+     *
+     * @param subject subject of the subscription
+     * @return the subscription id, or null if the subject has no active subscription
+     */
+    public String remove(BehaviorSubject<?> subject) {
+        String subscriptionId = subscriptionIdForSubject.remove(subject);
+        if (subscriptionId != null) {
+            subscriptionForId.remove(subscriptionId);
+        }
+        return subscriptionId;
+    }
+
+    /**
+     * Remove all active subscriptions.
+     *
+     * @return the subscriptions removed
+     */
+    public List<WebSocketSubscription<?>> removeAll() {
+        List<WebSocketSubscription<?>> removed = new ArrayList<>();
+        for (String subscriptionId : subscriptionForId.keySet()) {
+            WebSocketSubscription<?> subscription = subscriptionForId.remove(subscriptionId);
+            if (subscription != null) {
+                subscriptionIdForSubject.remove(subscription.getSubject());
+                removed.add(subscription);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the active subscriptions by subscription id.
+     *
+     * @return an unmodifiable view of the active subscriptions
+     */
+    public Map<String, WebSocketSubscription<?>> getSubscriptions() {
+        return Collections.unmodifiableMap(subscriptionForId);
+    }
+}
@@ -13,6 +13,8 @@
 package org.web3j.protocol.websocket;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 /** A listener used to notify about about new WebSocket messages. */
 public interface WebSocketListener {
@@ -25,6 +27,17 @@ public interface WebSocketListener {
      */
     void onMessage(String message) throws IOException;
 
+    /**
+     * Called when a new binary WebSocket message is delivered. By default the message is decoded
+     * as UTF-8 text and passed to {@link #onMessage(String)}.
+     *
+     * @param message new binary WebSocket message
+     * @throws IOException thrown if an observer failed to process the message
+     */
+    default void onMessage(ByteBuffer message) throws IOException {
+        onMessage(StandardCharsets.UTF_8.decode(message).toString());
+    }
+
     void onError(Exception e);
 
     void onClose();
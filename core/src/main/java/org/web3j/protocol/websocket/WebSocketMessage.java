@@ -0,0 +1,204 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.websocket;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A text or binary message received over a WebSocket connection.
+ *
+ * <p>Messages are decoded straight into their target type. Before decoding, {@link
+ * #readHeader(ObjectMapper)} streams over just enough of the message to tell whether it is a reply,
+ * a batch reply or a subscription event, and which request or subscription it belongs to.
+ */
+final class WebSocketMessage {
+
+    enum Type {
+        REPLY,
+        BATCH_REPLY,
+        SUBSCRIPTION_EVENT,
+        UNKNOWN
+    }
+
+    private final String text;
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+
+    private WebSocketMessage(String text, byte[] bytes, int offset, int length) {
+        this.text = text;
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    static WebSocketMessage of(String text) {
+        return new WebSocketMessage(text, null, 0, 0);
+    }
+
+    static WebSocketMessage of(ByteBuffer buffer) {
+        int length = buffer.remaining();
+        if (buffer.hasArray()) {
+            return new WebSocketMessage(
+                    null, buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+        }
+        byte[] bytes = new byte[length];
+        buffer.duplicate().get(bytes);
+        return new WebSocketMessage(null, bytes, 0, length);
+    }
+
+    Header readHeader(ObjectMapper objectMapper) throws IOException {
+        try (JsonParser parser = createParser(objectMapper)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                return new Header(Type.BATCH_REPLY, 0, null);
+            } else if (token != JsonToken.START_OBJECT) {
+                return new Header(Type.UNKNOWN, 0, null);
+            }
+
+            boolean hasMethod = false;
+            String subscriptionId = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                token = parser.nextToken();
+                if ("id".equals(field)) {
+                    return new Header(Type.REPLY, readId(parser, token), null);
+                } else if ("method".equals(field)) {
+                    hasMethod = true;
+                } else if ("params".equals(field) && token == JsonToken.START_OBJECT) {
+                    subscriptionId = readSubscriptionId(parser, hasMethod);
+                } else {
+                    parser.skipChildren();
+                }
+
+                // Stop as soon as the target subscription is known, without reading the event
+                if (hasMethod && subscriptionId != null) {
+                    return new Header(Type.SUBSCRIPTION_EVENT, 0, subscriptionId);
+                }
+            }
+
+            return hasMethod
+                    ? new Header(Type.SUBSCRIPTION_EVENT, 0, subscriptionId)
+                    : new Header(Type.UNKNOWN, 0, null);
+        }
+    }
+
+    <T> T readValue(ObjectMapper objectMapper, Class<T> type, boolean includeRawResponses)
+            throws IOException {
+        if (includeRawResponses) {
+            // Raw responses are captured by resetting the underlying stream
+            return objectMapper.readValue(inputStream(), type);
+        } else if (text != null) {
+            return objectMapper.readValue(text, type);
+        } else {
+            return objectMapper.readValue(bytes, offset, length, type);
+        }
+    }
+
+    JsonNode readTree(ObjectMapper objectMapper) throws IOException {
+        try (JsonParser parser = createParser(objectMapper)) {
+            return objectMapper.readTree(parser);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return text != null ? text : new String(bytes, offset, length, StandardCharsets.UTF_8);
+    }
+
+    private JsonParser createParser(ObjectMapper objectMapper) throws IOException {
+        return text != null
+                ? objectMapper.getFactory().createParser(text)
+                : objectMapper.getFactory().createParser(bytes, offset, length);
+    }
+
+    private ByteArrayInputStream inputStream() {
+        return text != null
+                ? new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))
+                : new ByteArrayInputStream(bytes, offset, length);
+    }
+
+    private static long readId(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        } else if (token == JsonToken.VALUE_STRING) {
+            try {
+                return Long.parseLong(parser.getText());
+            } catch (NumberFormatException e) {
+                throw new IOException(
+                        String.format(
+                                "Found Textual 'id' that cannot be casted to long. Input : '%s'",
+                                parser.getText()));
+            }
+        } else {
+            throw new IOException(
+                    String.format("'id' expected to be long, but it is: '%s'", parser.getText()));
+        }
+    }
+
+    /**
+     * Read the subscription id from an event's params object. If {@code stopWhenFound} is set the
+     * parser is left inside the object once the id has been read, otherwise the whole object is
+     * consumed.
+     */
+    private static String readSubscriptionId(JsonParser parser, boolean stopWhenFound)
+            throws IOException {
+        String subscriptionId = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if ("subscription".equals(field) && token.isScalarValue()) {
+                subscriptionId = parser.getText();
+                if (stopWhenFound) {
+                    return subscriptionId;
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return subscriptionId;
+    }
+
+    static final class Header {
+
+        private final Type type;
+        private final long id;
+        private final String subscriptionId;
+
+        private Header(Type type, long id, String subscriptionId) {
+            this.type = type;
+            this.id = id;
+            this.subscriptionId = subscriptionId;
+        }
+
+        Type getType() {
+            return type;
+        }
+
+        long getId() {
+            return id;
+        }
+
+        String getSubscriptionId() {
+            return subscriptionId;
+        }
+    }
+}
@@ -16,11 +16,13 @@ import java.io.IOException;
 import java.net.ConnectException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
@@ -43,9 +45,11 @@ import org.web3j.protocol.ObjectMapperFactory;
 import org.web3j.protocol.Web3jService;
 import org.web3j.protocol.core.BatchRequest;
 import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.BatchResponseDecoder;
 import org.web3j.protocol.core.DefaultIdProvider;
 import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
 import org.web3j.protocol.core.methods.response.EthSubscribe;
 import org.web3j.protocol.core.methods.response.EthUnsubscribe;
 import org.web3j.protocol.websocket.events.Notification;
@@ -66,6 +70,12 @@ public class WebSocketService implements Web3jService {
     // Timeout for JSON-RPC requests
     static final long REQUEST_TIMEOUT = 60;
 
+    // Maximum number of blocks of missed events fetched after resubscribing
+    public static final int DEFAULT_MAX_BACKFILL_BLOCKS = 256;
+
+    // Message listener used when the caller is not interested in raw messages
+    private static final Consumer<String> IGNORE_MESSAGE = message -> {};
+
     // WebSocket client
     private final WebSocketClient webSocketClient;
     private boolean shouldReConnect;
@@ -73,16 +83,19 @@ public class WebSocketService implements Web3jService {
     private final ScheduledExecutorService executor;
     // Object mapper to map incoming JSON objects
     private final ObjectMapper objectMapper;
+    private final boolean includeRawResponses;
+    // Decoder to correlate batch replies with their requests
+    private final BatchResponseDecoder batchResponseDecoder;
 
     // Map of a sent request id to objects necessary to process this request
     private Map<Long, WebSocketRequest<?>> requestForId = new ConcurrentHashMap<>();
-    // Map of a sent subscription request id to objects necessary to process
-    // subscription events
-    private Map<Long, WebSocketSubscription<?>> subscriptionRequestForId =
-            new ConcurrentHashMap<>();
+    // Pending and active subscriptions
+    private final SubscriptionRegistry subscriptions = new SubscriptionRegistry();
 
-    // Map of a subscription id to objects necessary to process incoming events
-    private Map<String, WebSocketSubscription<?>> subscriptionForId = new ConcurrentHashMap<>();
+    // Subscriptions to re-establish once the connection is re-opened
+    private final List<WebSocketSubscription<?>> suspendedSubscriptions = new ArrayList<>();
+    private volatile boolean resubscribeOnReconnect;
+    private volatile int maxBackfillBlocks = DEFAULT_MAX_BACKFILL_BLOCKS;
 
     public WebSocketService(String serverUrl, boolean includeRawResponses) {
         this(new WebSocketClient(parseURI(serverUrl)), includeRawResponses);
@@ -99,6 +112,8 @@ public class WebSocketService implements Web3jService {
         this.webSocketClient = webSocketClient;
         this.executor = executor;
         this.objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
+        this.includeRawResponses = includeRawResponses;
+        this.batchResponseDecoder = new BatchResponseDecoder(objectMapper);
     }
 
     /**
@@ -107,7 +122,7 @@ public class WebSocketService implements Web3jService {
      * @throws ConnectException thrown if failed to connect to the server via WebSocket protocol
      */
     public void connect() throws ConnectException {
-        connect(s -> {}, t -> {}, () -> {});
+        connect(IGNORE_MESSAGE, t -> {}, () -> {});
     }
 
     public void connect(Consumer<String> onMessage, Consumer<Throwable> onError, Runnable onClose)
@@ -115,12 +130,43 @@ public class WebSocketService implements Web3jService {
         try {
             connectToWebSocket();
             setWebSocketListener(onMessage, onError, onClose);
+            resumeSubscriptions();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             log.warn("Interrupted while connecting via WebSocket protocol");
         }
     }
 
+    /**
+     * Keep subscriptions open when the connection is lost, and re-establish them the next time
+     * {@link #connect()} is called. Subscriptions to {@code newHeads} and {@code logs} are then
+     * backfilled with the heads and logs missed while disconnected, up to {@link
+     * #setMaxBackfillBlocks(int)} blocks, so that subscribers see an uninterrupted stream.
+     *
+     * <p>By default subscriptions are terminated with an error when the connection is lost.
+     *
+     * @param resubscribeOnReconnect true to resubscribe after reconnecting
+     */
+    public void setResubscribeOnReconnect(boolean resubscribeOnReconnect) {
+        this.resubscribeOnReconnect = resubscribeOnReconnect;
+    }
+
+    public boolean isResubscribeOnReconnect() {
+        return resubscribeOnReconnect;
+    }
+
+    /**
+     * Maximum number of blocks of missed heads or logs fetched after resubscribing.
+     *
+     * @param maxBackfillBlocks maximum number of blocks to backfill
+     */
+    public void setMaxBackfillBlocks(int maxBackfillBlocks) {
+        if (maxBackfillBlocks < 0) {
+            throw new IllegalArgumentException("Invalid max backfill blocks: " + maxBackfillBlocks);
+        }
+        this.maxBackfillBlocks = maxBackfillBlocks;
+    }
+
     /**
      * Returns the immutable versions of subscriptionForId map which represents the relation between
      * subscription id and the associated subscription events. Is kept immutable because the only
@@ -129,7 +175,7 @@ public class WebSocketService implements Web3jService {
      * @return immutable versions of subscriptionForId
      */
     public Map<String, WebSocketSubscription<?>> getSubscriptionIdsMap() {
-        return Collections.unmodifiableMap(subscriptionForId);
+        return subscriptions.getSubscriptions();
     }
 
     private void connectToWebSocket() throws InterruptedException, ConnectException {
@@ -154,6 +200,16 @@ public class WebSocketService implements Web3jService {
                         onMessage.accept(message);
                     }
 
+                    @Override
+                    public void onMessage(ByteBuffer message) throws IOException {
+                        WebSocketMessage webSocketMessage = WebSocketMessage.of(message);
+                        onWebSocketMessage(webSocketMessage);
+                        // Only decode the message as text if the caller asked to see it
+                        if (onMessage != IGNORE_MESSAGE) {
+                            onMessage.accept(webSocketMessage.toString());
+                        }
+                    }
+
                     @Override
                     public void onError(Exception e) {
                         log.error("Received error from a WebSocket connection", e);
@@ -265,31 +321,46 @@ public class WebSocketService implements Web3jService {
     }
 
     void closeRequest(long requestId, Exception e) {
-        CompletableFuture result = requestForId.get(requestId).getOnReply();
-        requestForId.remove(requestId);
-        result.completeExceptionally(e);
+        // The reply may already have arrived, in which case there is nothing left to close
+        WebSocketRequest<?> request = requestForId.remove(requestId);
+        if (request != null) {
+            request.getOnReply().completeExceptionally(e);
+        }
     }
 
     void onWebSocketMessage(String messageStr) throws IOException {
-        JsonNode replyJson = parseToTree(messageStr);
-
-        if (isReply(replyJson)) {
-            processRequestReply(messageStr, replyJson);
-        } else if (isBatchReply(replyJson)) {
-            processBatchRequestReply(messageStr, (ArrayNode) replyJson);
-        } else if (isSubscriptionEvent(replyJson)) {
-            processSubscriptionEvent(messageStr, replyJson);
-        } else {
-            throw new IOException("Unknown message type");
+        onWebSocketMessage(WebSocketMessage.of(messageStr));
+    }
+
+    void onWebSocketMessage(ByteBuffer message) throws IOException {
+        onWebSocketMessage(WebSocketMessage.of(message));
+    }
+
+    private void onWebSocketMessage(WebSocketMessage message) throws IOException {
+        WebSocketMessage.Header header = readHeader(message);
+
+        switch (header.getType()) {
+            case REPLY:
+                processRequestReply(message, header.getId());
+                break;
+            case BATCH_REPLY:
+                processBatchRequestReply(message, (ArrayNode) message.readTree(objectMapper));
+                break;
+            case SUBSCRIPTION_EVENT:
+                processSubscriptionEvent(message, header.getSubscriptionId());
+                break;
+            default:
+                throw new IOException("Unknown message type");
         }
     }
 
     @SuppressWarnings("unchecked")
-    private void processRequestReply(String replyStr, JsonNode replyJson) throws IOException {
-        long replyId = getReplyId(replyJson);
+    private void processRequestReply(WebSocketMessage message, long replyId) throws IOException {
         WebSocketRequest request = getAndRemoveRequest(replyId);
         try {
-            Object reply = objectMapper.convertValue(replyJson, request.getResponseType());
+            Object reply =
+                    message.readValue(
+                            objectMapper, request.getResponseType(), includeRawResponses);
             // Instead of sending a reply to a caller asynchronously we need to process it here
             // to avoid race conditions we need to modify state of this class.
             if (reply instanceof EthSubscribe) {
@@ -298,63 +369,71 @@ public class WebSocketService implements Web3jService {
 
             sendReplyToListener(request, reply);
         } catch (Exception e) {
-            sendExceptionToListener(replyStr, request, e);
+            sendExceptionToListener(message.toString(), request, e);
         }
     }
 
-    private void processBatchRequestReply(String replyStr, ArrayNode replyJson) throws IOException {
-        long replyId = getReplyId(replyJson.get(0));
+    private void processBatchRequestReply(WebSocketMessage message, ArrayNode replyJson)
+            throws IOException {
+        long replyId = getBatchReplyId(replyJson);
         WebSocketRequests webSocketRequests = (WebSocketRequests) getAndRemoveRequest(replyId);
         try {
             // rollback request id of first batch elt
-            ((ObjectNode) replyJson.get(0)).put("id", webSocketRequests.getOriginId());
+            long originId = webSocketRequests.getOriginId();
+            for (JsonNode reply : replyJson) {
+                if (isReplyTo(reply, replyId)) {
+                    ((ObjectNode) reply).put("id", originId);
+                }
+            }
 
             List<Request<?, ? extends Response<?>>> requests = webSocketRequests.getRequests();
-            List<Response<?>> responses = new ArrayList<>(replyJson.size());
-
-            for (int i = 0; i < replyJson.size(); i++) {
-                Response<?> response =
-                        objectMapper.treeToValue(
-                                replyJson.get(i), requests.get(i).getResponseType());
-                responses.add(response);
-            }
+            requests.get(0).setId(originId);
+            List<Response<?>> responses = batchResponseDecoder.decode(requests, replyJson);
 
             sendReplyToListener(webSocketRequests, new BatchResponse(requests, responses));
         } catch (Exception e) {
-            sendExceptionToListener(replyStr, webSocketRequests, e);
+            sendExceptionToListener(message.toString(), webSocketRequests, e);
         }
     }
 
+    private long getBatchReplyId(ArrayNode replyJson) throws IOException {
+        // Batch responses may arrive in any order, so look for the element carrying the id the
+        // batch was registered under
+        for (JsonNode reply : replyJson) {
+            JsonNode idField = reply.get("id");
+            if (idField != null
+                    && idField.canConvertToLong()
+                    && requestForId.get(idField.asLong()) instanceof WebSocketRequests) {
+                return idField.asLong();
+            }
+        }
+        return getReplyId(replyJson.get(0));
+    }
+
+    private static boolean isReplyTo(JsonNode reply, long requestId) {
+        JsonNode idField = reply.get("id");
+        return idField != null && idField.canConvertToLong() && idField.asLong() == requestId;
+    }
+
     @SuppressWarnings("unchecked")
     private void processSubscriptionResponse(long replyId, EthSubscribe reply) throws IOException {
-        WebSocketSubscription subscription = subscriptionRequestForId.get(replyId);
-        processSubscriptionResponse(
-                reply, subscription.getSubject(), subscription.getResponseType());
+        WebSocketSubscription subscription = subscriptions.removePending(replyId);
+        processSubscriptionResponse(reply, subscription);
     }
 
     private <T extends Notification<?>> void processSubscriptionResponse(
-            EthSubscribe subscriptionReply, BehaviorSubject<T> subject, Class<T> responseType) {
+            EthSubscribe subscriptionReply, WebSocketSubscription<T> subscription) {
         if (!subscriptionReply.hasError()) {
-            establishSubscription(subject, responseType, subscriptionReply);
+            establishSubscription(subscription, subscriptionReply);
         } else {
-            reportSubscriptionError(subject, subscriptionReply);
+            reportSubscriptionError(subscription.getSubject(), subscriptionReply);
         }
     }
 
     private <T extends Notification<?>> void establishSubscription(
-            BehaviorSubject<T> subject, Class<T> responseType, EthSubscribe subscriptionReply) {
+            WebSocketSubscription<T> subscription, EthSubscribe subscriptionReply) {
         log.debug("Subscribed to RPC events with id {}", subscriptionReply.getSubscriptionId());
-        subscriptionForId.put(
-                subscriptionReply.getSubscriptionId(),
-                new WebSocketSubscription<>(subject, responseType));
-    }
-
-    private <T extends Notification<?>> String getSubscriptionId(BehaviorSubject<T> subject) {
-        return subscriptionForId.entrySet().stream()
-                .filter(entry -> entry.getValue().getSubject() == subject)
-                .map(Map.Entry::getKey)
-                .findFirst()
-                .orElse(null);
+        subscriptions.activate(subscriptionReply.getSubscriptionId(), subscription);
     }
 
     private <T extends Notification<?>> void reportSubscriptionError(
@@ -382,55 +461,42 @@ public class WebSocketService implements Web3jService {
                                 e));
     }
 
-    private void processSubscriptionEvent(String replyStr, JsonNode replyJson) {
-        log.debug("Processing event: {}", replyStr);
-        String subscriptionId = extractSubscriptionId(replyJson);
-        WebSocketSubscription subscription = subscriptionForId.get(subscriptionId);
+    private void processSubscriptionEvent(WebSocketMessage message, String subscriptionId)
+            throws IOException {
+        log.debug("Processing event: {}", message);
+        WebSocketSubscription subscription =
+                subscriptionId != null ? subscriptions.get(subscriptionId) : null;
 
         if (subscription != null) {
-            sendEventToSubscriber(replyJson, subscription);
+            sendEventToSubscriber(message, subscription);
         } else {
             log.warn("No subscriber for WebSocket event with subscription id {}", subscriptionId);
         }
     }
 
-    private String extractSubscriptionId(JsonNode replyJson) {
-        return replyJson.get("params").get("subscription").asText();
-    }
-
     @SuppressWarnings("unchecked")
-    private void sendEventToSubscriber(JsonNode replyJson, WebSocketSubscription subscription) {
-        Object event = objectMapper.convertValue(replyJson, subscription.getResponseType());
-        subscription.getSubject().onNext(event);
-    }
-
-    private boolean isReply(JsonNode replyJson) {
-        return replyJson.has("id");
-    }
-
-    private boolean isBatchReply(JsonNode replyJson) {
-        return replyJson.isArray();
+    private void sendEventToSubscriber(
+            WebSocketMessage message, WebSocketSubscription subscription) throws IOException {
+        Object event =
+                message.readValue(
+                        objectMapper, subscription.getResponseType(), includeRawResponses);
+        subscription.onEvent(event);
     }
 
-    private boolean isSubscriptionEvent(JsonNode replyJson) {
-        return replyJson.has("method");
-    }
-
-    private JsonNode parseToTree(String replyStr) throws IOException {
+    private WebSocketMessage.Header readHeader(WebSocketMessage message) throws IOException {
         try {
-            return objectMapper.readTree(replyStr);
-        } catch (IOException e) {
+            return message.readHeader(objectMapper);
+        } catch (JsonProcessingException e) {
             throw new IOException("Failed to parse incoming WebSocket message", e);
         }
     }
 
     private WebSocketRequest getAndRemoveRequest(long id) throws IOException {
-        if (!requestForId.containsKey(id)) {
+        WebSocketRequest request = requestForId.remove(id);
+        if (request == null) {
             throw new IOException(
                     String.format("Received reply for unexpected request id: %d", id));
         }
-        WebSocketRequest request = requestForId.get(id);
-        requestForId.remove(id);
         return request;
     }
 
@@ -480,36 +546,135 @@ public class WebSocketService implements Web3jService {
         // an Flowable to a client before we got a reply
         // a client can unsubscribe before we know a subscription
         // id and this can cause a race condition
-        subscribeToEventsStream(request, subject, responseType);
+        subscribeToEventsStream(request, subject, responseType, unsubscribeMethod);
 
         return subject.doOnDispose(() -> closeSubscription(subject, unsubscribeMethod))
                 .toFlowable(BackpressureStrategy.BUFFER);
     }
 
     private <T extends Notification<?>> void subscribeToEventsStream(
-            Request request, BehaviorSubject<T> subject, Class<T> responseType) {
-
-        subscriptionRequestForId.put(
-                request.getId(), new WebSocketSubscription<>(subject, responseType));
+            Request request,
+            BehaviorSubject<T> subject,
+            Class<T> responseType,
+            String unsubscribeMethod) {
+
+        WebSocketSubscription<T> subscription =
+                new WebSocketSubscription<>(subject, responseType, request, unsubscribeMethod);
+        subscriptions.addPending(request.getId(), subscription);
         try {
-            send(request, EthSubscribe.class);
+            EthSubscribe reply = send(request, EthSubscribe.class);
+            if (!reply.hasError()
+                    && resubscribeOnReconnect
+                    && SubscriptionBackfill.isSupported(request)) {
+                // Remember where the stream starts, so events can be backfilled after a reconnect
+                requestBlockNumber().thenAccept(subscription::startFrom);
+            }
         } catch (IOException e) {
             log.error("Failed to subscribe to RPC events with request id {}", request.getId());
+            subscriptions.removePending(request.getId());
             subject.onError(e);
         }
     }
 
+    private void resumeSubscriptions() {
+        List<WebSocketSubscription<?>> subscriptions;
+        synchronized (suspendedSubscriptions) {
+            subscriptions = new ArrayList<>(suspendedSubscriptions);
+            suspendedSubscriptions.clear();
+        }
+        for (WebSocketSubscription<?> subscription : subscriptions) {
+            resubscribe(subscription);
+        }
+    }
+
+    private <T> void resubscribe(WebSocketSubscription<T> subscription) {
+        Request<?, ?> request = subscription.getRequest();
+        request.setId(DefaultIdProvider.getNextId());
+        boolean backfill =
+                SubscriptionBackfill.isSupported(request)
+                        && subscription.getLastBlockNumber() >= 0;
+        if (backfill) {
+            subscription.startBackfill();
+        }
+
+        subscriptions.addPending(request.getId(), subscription);
+        sendAsync(request, EthSubscribe.class)
+                .whenComplete(
+                        (reply, throwable) -> {
+                            if (throwable != null) {
+                                log.warn("Failed to resubscribe, will retry on reconnect");
+                                subscriptions.removePending(request.getId());
+                                subscription.endBackfill(Collections.emptyList(), -1);
+                                synchronized (suspendedSubscriptions) {
+                                    suspendedSubscriptions.add(subscription);
+                                }
+                            } else if (reply.hasError()) {
+                                // The subscriber has already been notified of the error
+                                subscription.endBackfill(Collections.emptyList(), -1);
+                            } else if (backfill) {
+                                backfill(subscription, reply.getSubscriptionId());
+                            }
+                        });
+    }
+
+    private <T> void backfill(WebSocketSubscription<T> subscription, String subscriptionId) {
+        SubscriptionBackfill subscriptionBackfill =
+                new SubscriptionBackfill(this, objectMapper, maxBackfillBlocks);
+        requestBlockNumber()
+                .thenCompose(
+                        headBlockNumber ->
+                                subscriptionBackfill
+                                        .fetch(subscription, subscriptionId, headBlockNumber)
+                                        .thenAccept(
+                                                missedEvents ->
+                                                        subscription.endBackfill(
+                                                                missedEvents, headBlockNumber)))
+                .exceptionally(
+                        throwable -> {
+                            log.warn(
+                                    "Failed to backfill subscription with id {}",
+                                    subscriptionId,
+                                    throwable);
+                            subscription.endBackfill(Collections.emptyList(), -1);
+                            return null;
+                        });
+    }
+
+    private CompletableFuture<Long> requestBlockNumber() {
+        return sendAsync(
+                        new Request<>(
+                                "eth_blockNumber",
+                                Collections.<String>emptyList(),
+                                this,
+                                EthBlockNumber.class),
+                        EthBlockNumber.class)
+                .thenApply(
+                        ethBlockNumber -> {
+                            if (ethBlockNumber.hasError()) {
+                                throw new CompletionException(
+                                        new IOException(ethBlockNumber.getError().getMessage()));
+                            }
+                            return ethBlockNumber.getBlockNumber().longValue();
+                        });
+    }
+
     private <T extends Notification<?>> void closeSubscription(
             BehaviorSubject<T> subject, String unsubscribeMethod) {
-        String subscriptionId = getSubscriptionId(subject);
+        String subscriptionId = subscriptions.remove(subject);
         if (subscriptionId != null) {
-            subscriptionForId.remove(subscriptionId);
             unsubscribeFromEventsStream(subscriptionId, unsubscribeMethod);
-        } else {
+        } else if (!removeSuspendedSubscription(subject)) {
             log.warn("Trying to unsubscribe from a non-existing subscription. Race condition?");
         }
     }
 
+    private boolean removeSuspendedSubscription(BehaviorSubject<?> subject) {
+        synchronized (suspendedSubscriptions) {
+            return suspendedSubscriptions.removeIf(
+                    subscription -> subscription.getSubject() == subject);
+        }
+    }
+
     private void unsubscribeFromEventsStream(String subscriptionId, String unsubscribeMethod) {
         sendAsync(unsubscribeRequest(subscriptionId, unsubscribeMethod), EthUnsubscribe.class)
                 .thenAccept(
@@ -543,29 +708,29 @@ public class WebSocketService implements Web3jService {
 
     void onWebSocketClose() {
         closeOutstandingRequests();
-        closeOutstandingSubscriptions();
+        if (resubscribeOnReconnect) {
+            suspendSubscriptions();
+        } else {
+            closeOutstandingSubscriptions();
+        }
+    }
+
+    private void suspendSubscriptions() {
+        synchronized (suspendedSubscriptions) {
+            suspendedSubscriptions.addAll(subscriptions.removeAll());
+        }
     }
 
     private void closeOutstandingRequests() {
-        requestForId
-                .values()
-                .forEach(
-                        request ->
-                                request.getOnReply()
-                                        .completeExceptionally(
-                                                new IOException("Connection was closed")));
-        requestForId.clear();
+        for (Long requestId : requestForId.keySet()) {
+            closeRequest(requestId, new IOException("Connection was closed"));
+        }
     }
 
     private void closeOutstandingSubscriptions() {
-        subscriptionForId
-                .values()
-                .forEach(
-                        subscription ->
-                                subscription
-                                        .getSubject()
-                                        .onError(new IOException("Connection was closed")));
-        subscriptionForId.clear();
+        for (WebSocketSubscription<?> subscription : subscriptions.removeAll()) {
+            subscription.getSubject().onError(new IOException("Connection was closed"));
+        }
     }
 
     // Method visible for unit-tests
@@ -12,8 +12,19 @@
  */
 package org.web3j.protocol.websocket;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import io.reactivex.subjects.BehaviorSubject;
 
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.websocket.events.Log;
+import org.web3j.protocol.websocket.events.LogNotification;
+import org.web3j.protocol.websocket.events.NewHead;
+import org.web3j.protocol.websocket.events.NewHeadsNotification;
+import org.web3j.protocol.websocket.events.Notification;
+import org.web3j.utils.Numeric;
+
 /**
  * Objects necessary to process a new item received via a WebSocket subscription.
  *
@@ -23,6 +34,16 @@ public class WebSocketSubscription<T> {
     private BehaviorSubject<T> subject;
     private Class<T> responseType;
 
+    // Subscription request and unsubscribe method, kept to resubscribe after a reconnect
+    private Request<?, ?> request;
+    private String unsubscribeMethod;
+
+    // Position of the last delivered event, used to backfill events missed while disconnected
+    private long lastBlockNumber = -1;
+    private long lastLogIndex = -1;
+    // Live events received while missed events are being fetched
+    private List<T> pendingEvents;
+
     /**
      * Creates WebSocketSubscription.
      *
@@ -34,6 +55,16 @@ public class WebSocketSubscription<T> {
         this.responseType = responseType;
     }
 
+    WebSocketSubscription(
+            BehaviorSubject<T> subject,
+            Class<T> responseType,
+            Request<?, ?> request,
+            String unsubscribeMethod) {
+        this(subject, responseType);
+        this.request = request;
+        this.unsubscribeMethod = unsubscribeMethod;
+    }
+
     public BehaviorSubject<T> getSubject() {
         return subject;
     }
@@ -41,4 +72,99 @@ public class WebSocketSubscription<T> {
     public Class<T> getResponseType() {
         return responseType;
     }
+
+    Request<?, ?> getRequest() {
+        return request;
+    }
+
+    String getUnsubscribeMethod() {
+        return unsubscribeMethod;
+    }
+
+    synchronized long getLastBlockNumber() {
+        return lastBlockNumber;
+    }
+
+    /** Record the chain position a subscription starts from, if no event has been seen yet. */
+    synchronized void startFrom(long blockNumber) {
+        if (lastBlockNumber < 0) {
+            lastBlockNumber = blockNumber;
+        }
+    }
+
+    /** Deliver a live event, or hold it back while missed events are being fetched. */
+    synchronized void onEvent(T event) {
+        if (pendingEvents != null) {
+            pendingEvents.add(event);
+        } else {
+            emit(event);
+        }
+    }
+
+    /** Hold back live events until {@link #endBackfill(List, long)} is called. */
+    synchronized void startBackfill() {
+        pendingEvents = new ArrayList<>();
+    }
+
+    /**
+     * Deliver missed events followed by the live events received in the meantime. Missed events
+     * that were already delivered before the connection was lost, and live events up to and
+     * including {@code toBlockNumber} that are covered by the missed events, are dropped.
+     *
+     * @param missedEvents events fetched for the period the connection was down, in order
+     * @param toBlockNumber last block covered by the missed events, or -1 if none were fetched
+     */
+    synchronized void endBackfill(List<T> missedEvents, long toBlockNumber) {
+        List<T> liveEvents = pendingEvents != null ? pendingEvents : new ArrayList<>();
+        pendingEvents = null;
+
+        for (T event : missedEvents) {
+            long blockNumber = blockNumberOf(event);
+            if (blockNumber > lastBlockNumber
+                    || (blockNumber == lastBlockNumber && logIndexOf(event) > lastLogIndex)) {
+                emit(event);
+            }
+        }
+        for (T event : liveEvents) {
+            if (blockNumberOf(event) > toBlockNumber) {
+                emit(event);
+            }
+        }
+    }
+
+    private void emit(T event) {
+        long blockNumber = blockNumberOf(event);
+        if (blockNumber >= 0) {
+            lastBlockNumber = blockNumber;
+            lastLogIndex = logIndexOf(event);
+        }
+        subject.onNext(event);
+    }
+
+    private static long blockNumberOf(Object event) {
+        if (event instanceof NewHeadsNotification) {
+            NewHead newHead = resultOf((NewHeadsNotification) event);
+            return newHead != null ? decodeQuantity(newHead.getNumber()) : -1;
+        } else if (event instanceof LogNotification) {
+            Log log = resultOf((LogNotification) event);
+            return log != null ? decodeQuantity(log.getBlockNumber()) : -1;
+        }
+        return -1;
+    }
+
+    private static long logIndexOf(Object event) {
+        if (event instanceof LogNotification) {
+            Log log = resultOf((LogNotification) event);
+            return log != null ? decodeQuantity(log.getLogIndex()) : -1;
+        }
+        return -1;
+    }
+
+    private static <R> R resultOf(Notification<R> notification) {
+        return notification.getParams() != null ? notification.getParams().getResult() : null;
+    }
+
+    private static long decodeQuantity(String value) {
+        return value != null ? Numeric.decodeQuantity(value).longValue() : -1;
+    }
 }
@@ -0,0 +1,426 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.Hash;
+import org.web3j.crypto.RawTransaction;
+import org.web3j.crypto.transaction.type.ITransaction;
+import org.web3j.crypto.transaction.type.Transaction1559;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import org.web3j.service.TxSignService;
+import org.web3j.service.TxSignServiceImpl;
+import org.web3j.tx.exceptions.TxHashMismatchException;
+
+/**
+ * RawTransactionManager derivative for sending many transactions concurrently from one account.
+ *
+ * <p>Nonces are handed out without locking from a counter initialised from the account's pending
+ * transaction count. Transactions are signed on a worker pool and sent asynchronously, so callers
+ * never wait on each other. Wrapping the {@link Web3j} service in a {@link
+ * org.web3j.protocol.CoalescingWeb3jService} additionally batches concurrent sends into single
+ * requests.
+ *
+ * <p>Nonces are recovered when a send goes wrong:
+ *
+ * <ul>
+ *   <li>If a transaction is rejected, its nonce is reclaimed and handed out again before any new
+ *       nonce. If later nonces were already handed out, the transactions using them would be stuck
+ *       behind the gap, so it is filled straight away with a zero value transfer to the sending
+ *       account, priced like the rejected transaction.
+ *   <li>If the request fails, the transaction may still have reached the node, so the counter is
+ *       resynchronised with the node and the nonce is only reused once the node's pending
+ *       transaction count shows it to be unused.
+ *   <li>If the node reports the nonce as too low, for example because another client sent from
+ *       the same account, the counter is resynchronised with the node and the transaction is sent
+ *       again with a new nonce.
+ *   <li>If the node reports the transaction as already known, it was accepted by an earlier
+ *       attempt and is treated as sent.
+ * </ul>
+ */
+public class PipelinedTransactionManager extends RawTransactionManager {
+
+    public static final int DEFAULT_MAX_NONCE_RETRIES = 3;
+
+    private final Web3j web3j;
+    private final Executor signingExecutor;
+    private final int maxNonceRetries;
+
+    private final AtomicLong nextNonce = new AtomicLong(-1);
+    // Nonces given up by failed sends, to be handed out again lowest first
+    private final ConcurrentSkipListSet<Long> reclaimedNonces = new ConcurrentSkipListSet<>();
+    // Transactions being signed or sent, by nonce
+    private final Map<Long, RawTransaction> inFlightTransactions = new ConcurrentHashMap<>();
+    // Transactions whose send failed after they were signed, by nonce, until the node's pending
+    // transaction count shows whether they were received
+    private final Map<Long, RawTransaction> unconfirmedTransactions = new ConcurrentHashMap<>();
+
+    public PipelinedTransactionManager(Web3j web3j, Credentials credentials, long chainId) {
+        this(web3j, new TxSignServiceImpl(credentials), chainId, ForkJoinPool.commonPool());
+    }
+
+    public PipelinedTransactionManager(
+            Web3j web3j, TxSignService txSignService, long chainId, Executor signingExecutor) {
+        this(web3j, txSignService, chainId, signingExecutor, DEFAULT_MAX_NONCE_RETRIES);
+    }
+
+    public PipelinedTransactionManager(
+            Web3j web3j,
+            TxSignService txSignService,
+            long chainId,
+            Executor signingExecutor,
+            int maxNonceRetries) {
+        super(web3j, txSignService, chainId);
+        this.web3j = web3j;
+        this.signingExecutor = signingExecutor;
+        this.maxNonceRetries = maxNonceRetries;
+    }
+
+    @Override
+    protected BigInteger getNonce() throws IOException {
+        return BigInteger.valueOf(allocateNonce());
+    }
+
+    @Override
+    public EthSendTransaction sendTransaction(
+            BigInteger gasPrice,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value,
+            boolean constructor)
+            throws IOException {
+        return await(
+                sendTransactionAsync(
+                        nonce ->
+                                RawTransaction.createTransaction(
+                                        nonce, gasPrice, gasLimit, to, value, data)));
+    }
+
+    @Override
+    public EthSendTransaction sendEIP1559Transaction(
+            long chainId,
+            BigInteger maxPriorityFeePerGas,
+            BigInteger maxFeePerGas,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value,
+            boolean constructor)
+            throws IOException {
+        return await(
+                sendTransactionAsync(
+                        nonce ->
+                                RawTransaction.createTransaction(
+                                        chainId,
+                                        nonce,
+                                        gasLimit,
+                                        to,
+                                        value,
+                                        data,
+                                        maxPriorityFeePerGas,
+                                        maxFeePerGas)));
+    }
+
+    /**
+     * Send a transaction without blocking the calling thread.
+     *
+     * @param transactionFactory creates the transaction to send for a given nonce. It may be
+     *     called again with a new nonce if the first one turns out to be used already.
+     * @return the node's response to the transaction that was finally sent
+     */
+    public CompletableFuture<EthSendTransaction> sendTransactionAsync(
+            Function<BigInteger, RawTransaction> transactionFactory) {
+        return sendTransactionAsync(transactionFactory, 0);
+    }
+
+    private CompletableFuture<EthSendTransaction> sendTransactionAsync(
+            Function<BigInteger, RawTransaction> transactionFactory, int attempt) {
+        long nonce;
+        try {
+            nonce = allocateNonce();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<String> signed =
+                CompletableFuture.supplyAsync(
+                        () -> {
+                            RawTransaction rawTransaction =
+                                    transactionFactory.apply(BigInteger.valueOf(nonce));
+                            inFlightTransactions.put(nonce, rawTransaction);
+                            return sign(rawTransaction);
+                        },
+                        signingExecutor);
+
+        CompletableFuture<EthSendTransaction> sent =
+                signed.thenCompose(
+                        hexValue -> web3j.ethSendRawTransaction(hexValue).sendAsync());
+
+        return sent.handle(
+                        (response, throwable) -> {
+                            RawTransaction rawTransaction = inFlightTransactions.remove(nonce);
+                            if (throwable != null) {
+                                onSendFailure(nonce, signed, rawTransaction);
+                                return CompletableFuture.<EthSendTransaction>failedFuture(
+                                        throwable);
+                            }
+                            return onResponse(
+                                    nonce,
+                                    rawTransaction,
+                                    signed.join(),
+                                    response,
+                                    transactionFactory,
+                                    attempt);
+                        })
+                .thenCompose(future -> future);
+    }
+
+    private CompletableFuture<EthSendTransaction> onResponse(
+            long nonce,
+            RawTransaction rawTransaction,
+            String hexValue,
+            EthSendTransaction response,
+            Function<BigInteger, RawTransaction> transactionFactory,
+            int attempt) {
+        String txHashLocal = Hash.sha3(hexValue);
+        if (!response.hasError()) {
+            if (!unconfirmedTransactions.isEmpty()) {
+                // Check whether the nonces of earlier failed sends can be reused
+                resynchronise();
+            }
+            String txHashRemote = response.getTransactionHash();
+            if (!txHashVerifier.verify(txHashLocal, txHashRemote)) {
+                return CompletableFuture.failedFuture(
+                        new TxHashMismatchException(txHashLocal, txHashRemote));
+            }
+            return CompletableFuture.completedFuture(response);
+        }
+
+        String message = errorMessage(response.getError());
+        if (isAlreadyKnown(message)) {
+            EthSendTransaction sent = new EthSendTransaction();
+            sent.setId(response.getId());
+            sent.setJsonrpc(response.getJsonrpc());
+            sent.setResult(txHashLocal);
+            return CompletableFuture.completedFuture(sent);
+        } else if (isNonceTooLow(message) && attempt < maxNonceRetries) {
+            // The nonce is used up, so it must not be reclaimed
+            return resynchronise()
+                    .thenCompose(
+                            pendingNonce ->
+                                    sendTransactionAsync(transactionFactory, attempt + 1));
+        } else if (!isNonceTooLow(message)) {
+            // The node rejected the transaction, so the nonce is still free
+            releaseNonce(nonce, rawTransaction);
+        }
+        return CompletableFuture.completedFuture(response);
+    }
+
+    private void onSendFailure(
+            long nonce, CompletableFuture<String> signed, RawTransaction rawTransaction) {
+        if (signed.isCompletedExceptionally() || rawTransaction == null) {
+            // Nothing was sent, so the nonce is still free
+            reclaimNonce(nonce);
+        } else {
+            // The request may have failed after the node received the transaction, in which case
+            // reusing its nonce would replace it or be rejected
+            unconfirmedTransactions.put(nonce, rawTransaction);
+            resynchronise();
+        }
+    }
+
+    /** Hand out a nonce known to be unused again, filling the gap it leaves if need be. */
+    private void releaseNonce(long nonce, RawTransaction rawTransaction) {
+        if (rawTransaction != null && nextNonce.get() > nonce + 1) {
+            fillGap(nonce, rawTransaction);
+        } else {
+            reclaimNonce(nonce);
+        }
+    }
+
+    private void fillGap(long nonce, RawTransaction rawTransaction) {
+        RawTransaction gapFiller = gapFiller(BigInteger.valueOf(nonce), rawTransaction);
+        inFlightTransactions.put(nonce, gapFiller);
+        CompletableFuture<String> signed =
+                CompletableFuture.supplyAsync(() -> sign(gapFiller), signingExecutor);
+        signed.thenCompose(hexValue -> web3j.ethSendRawTransaction(hexValue).sendAsync())
+                .whenComplete(
+                        (response, throwable) -> {
+                            inFlightTransactions.remove(nonce);
+                            if (throwable != null) {
+                                onSendFailure(nonce, signed, gapFiller);
+                            } else if (response.hasError()) {
+                                String message = errorMessage(response.getError());
+                                if (!isAlreadyKnown(message) && !isNonceTooLow(message)) {
+                                    // Left to the next send rather than filled again
+                                    reclaimNonce(nonce);
+                                }
+                            }
+                        });
+    }
+
+    private RawTransaction gapFiller(BigInteger nonce, RawTransaction rawTransaction) {
+        ITransaction transaction = rawTransaction.getTransaction();
+        if (transaction instanceof Transaction1559) {
+            Transaction1559 transaction1559 = (Transaction1559) transaction;
+            return RawTransaction.createEtherTransaction(
+                    transaction1559.getChainId(),
+                    nonce,
+                    Transfer.GAS_LIMIT,
+                    getFromAddress(),
+                    BigInteger.ZERO,
+                    transaction1559.getMaxPriorityFeePerGas(),
+                    transaction1559.getMaxFeePerGas());
+        }
+        return RawTransaction.createEtherTransaction(
+                nonce,
+                transaction.getGasPrice(),
+                Transfer.GAS_LIMIT,
+                getFromAddress(),
+                BigInteger.ZERO);
+    }
+
+    private long allocateNonce() throws IOException {
+        Long reclaimed = reclaimedNonces.pollFirst();
+        if (reclaimed != null) {
+            return reclaimed;
+        }
+        if (nextNonce.get() < 0) {
+            synchronized (nextNonce) {
+                if (nextNonce.get() < 0) {
+                    nextNonce.set(super.getNonce().longValue());
+                }
+            }
+        }
+        return nextNonce.getAndIncrement();
+    }
+
+    private void reclaimNonce(long nonce) {
+        reclaimedNonces.add(nonce);
+    }
+
+    private CompletableFuture<Long> resynchronise() {
+        return web3j.ethGetTransactionCount(getFromAddress(), DefaultBlockParameterName.PENDING)
+                .sendAsync()
+                .thenApply(
+                        ethGetTransactionCount -> {
+                            if (ethGetTransactionCount.hasError()) {
+                                throw new CompletionException(
+                                        new IOException(
+                                                "Failed to fetch transaction count: "
+                                                        + ethGetTransactionCount
+                                                                .getError()
+                                                                .getMessage()));
+                            }
+                            long pendingNonce =
+                                    ethGetTransactionCount.getTransactionCount().longValue();
+                            nextNonce.accumulateAndGet(pendingNonce, Math::max);
+                            reclaimedNonces.headSet(pendingNonce).clear();
+                            confirmTransactions(pendingNonce);
+                            return pendingNonce;
+                        });
+    }
+
+    /**
+     * Resolve the nonces of failed sends against the node's pending transaction count. Nonces
+     * below it were used. The nonce equal to it was not, as the node would otherwise have counted
+     * it. Higher nonces may be queued behind transactions still in flight, so they are resolved by
+     * a later count.
+     */
+    private void confirmTransactions(long pendingNonce) {
+        for (Map.Entry<Long, RawTransaction> entry : unconfirmedTransactions.entrySet()) {
+            long nonce = entry.getKey();
+            if (nonce < pendingNonce) {
+                unconfirmedTransactions.remove(nonce, entry.getValue());
+            } else if (nonce == pendingNonce
+                    && unconfirmedTransactions.remove(nonce, entry.getValue())) {
+                releaseNonce(nonce, entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Returns the next nonce that will be handed out, not counting reclaimed nonces, or -1 if no
+     * transaction has been sent yet.
+     *
+     * @return the next new nonce
+     */
+    public BigInteger getCurrentNonce() {
+        return BigInteger.valueOf(nextNonce.get());
+    }
+
+    /**
+     * Returns the transactions currently being signed or sent, by nonce.
+     *
+     * @return an unmodifiable view of the in-flight transactions
+     */
+    public Map<Long, RawTransaction> getInFlightTransactions() {
+        return Collections.unmodifiableMap(inFlightTransactions);
+    }
+
+    /** Discard the nonce state, so the next transaction starts from the node's pending count. */
+    public void resetNonce() {
+        synchronized (nextNonce) {
+            reclaimedNonces.clear();
+            unconfirmedTransactions.clear();
+            nextNonce.set(-1);
+        }
+    }
+
+    private static EthSendTransaction await(CompletableFuture<EthSendTransaction> future)
+            throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private static String errorMessage(Response.Error error) {
+        return error.getMessage() == null ? "" : error.getMessage().toLowerCase();
+    }
+
+    private static boolean isNonceTooLow(String message) {
+        return message.contains("nonce too low")
+                || message.contains("replacement transaction underpriced");
+    }
+
+    private static boolean isAlreadyKnown(String message) {
+        return message.contains("already known")
+                || message.contains("known transaction")
+                || message.contains("already imported");
+    }
+}
@@ -0,0 +1,380 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.web3j.crypto.RawTransaction;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.methods.response.EthGetCode;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.service.TxSignService;
+import org.web3j.tx.response.ReceiptTracker;
+import org.web3j.tx.response.TransactionReceiptProcessor;
+
+/**
+ * TransactionManager implementation that spreads transactions across a pool of sending accounts.
+ *
+ * <p>Each account sends through its own {@link PipelinedTransactionManager}, so accounts never
+ * wait on each other's nonces. Every transaction goes to the least loaded account, counting both
+ * the transactions it is currently sending and those it has sent whose receipts have not been
+ * obtained yet. Receipts for all accounts are obtained through one shared {@link
+ * TransactionReceiptProcessor}, a {@link ReceiptTracker} unless another is given.
+ *
+ * <p>Every transaction sent is followed by a {@link ReceiptTracker}, which stops counting it as
+ * pending once it is mined or the tracker gives up on it, whether or not the caller waits for the
+ * receipt. This is the receipt processor if it is a tracker, otherwise a tracker of this manager's
+ * own. {@link #onReceipt(String)} stops counting a transaction earlier.
+ *
+ * <p>Closing the manager closes a tracker it created. A receipt processor passed in is left to
+ * the caller to close.
+ */
+public class ShardedTransactionManager extends TransactionManager implements AutoCloseable {
+
+    private final List<Shard> shards;
+    private final ReceiptTracker receiptTracker;
+    private final boolean ownsReceiptTracker;
+    private final Map<String, Shard> shardForTransactionHash = new ConcurrentHashMap<>();
+    // Rotates the first account considered, so ties are spread evenly
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ShardedTransactionManager(
+            Web3j web3j, List<? extends TxSignService> txSignServices, long chainId) {
+        this(
+                web3j,
+                txSignServices,
+                chainId,
+                null,
+                new ReceiptTracker(web3j),
+                true,
+                ForkJoinPool.commonPool());
+    }
+
+    public ShardedTransactionManager(
+            Web3j web3j,
+            List<? extends TxSignService> txSignServices,
+            long chainId,
+            TransactionReceiptProcessor transactionReceiptProcessor,
+            Executor signingExecutor) {
+        this(
+                web3j,
+                txSignServices,
+                chainId,
+                transactionReceiptProcessor,
+                transactionReceiptProcessor instanceof ReceiptTracker
+                        ? (ReceiptTracker) transactionReceiptProcessor
+                        : new ReceiptTracker(web3j),
+                !(transactionReceiptProcessor instanceof ReceiptTracker),
+                signingExecutor);
+    }
+
+    /**
+     * @param transactionReceiptProcessor processor to obtain receipts with, or null to use the
+     *     receipt tracker
+     */
+    private ShardedTransactionManager(
+            Web3j web3j,
+            List<? extends TxSignService> txSignServices,
+            long chainId,
+            TransactionReceiptProcessor transactionReceiptProcessor,
+            ReceiptTracker receiptTracker,
+            boolean ownsReceiptTracker,
+            Executor signingExecutor) {
+        super(
+                transactionReceiptProcessor != null ? transactionReceiptProcessor : receiptTracker,
+                firstAddress(txSignServices));
+        this.receiptTracker = receiptTracker;
+        this.ownsReceiptTracker = ownsReceiptTracker;
+        List<Shard> shards = new ArrayList<>(txSignServices.size());
+        for (TxSignService txSignService : txSignServices) {
+            shards.add(
+                    new Shard(
+                            new PipelinedTransactionManager(
+                                    web3j, txSignService, chainId, signingExecutor)));
+        }
+        this.shards = Collections.unmodifiableList(shards);
+    }
+
+    @Override
+    public EthSendTransaction sendTransaction(
+            BigInteger gasPrice,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value,
+            boolean constructor)
+            throws IOException {
+        Shard shard = acquireShard();
+        try {
+            return shard.onSent(
+                    shard.transactionManager.sendTransaction(
+                            gasPrice, gasLimit, to, data, value, constructor));
+        } catch (IOException | RuntimeException e) {
+            shard.failed.incrementAndGet();
+            throw e;
+        } finally {
+            shard.inFlight.decrementAndGet();
+        }
+    }
+
+    @Override
+    public EthSendTransaction sendEIP1559Transaction(
+            long chainId,
+            BigInteger maxPriorityFeePerGas,
+            BigInteger maxFeePerGas,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value,
+            boolean constructor)
+            throws IOException {
+        Shard shard = acquireShard();
+        try {
+            return shard.onSent(
+                    shard.transactionManager.sendEIP1559Transaction(
+                            chainId,
+                            maxPriorityFeePerGas,
+                            maxFeePerGas,
+                            gasLimit,
+                            to,
+                            data,
+                            value,
+                            constructor));
+        } catch (IOException | RuntimeException e) {
+            shard.failed.incrementAndGet();
+            throw e;
+        } finally {
+            shard.inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Send a transaction from the least loaded account without blocking the calling thread.
+     *
+     * @param transactionFactory creates the transaction to send for a given nonce
+     * @return the node's response to the transaction
+     * @see PipelinedTransactionManager#sendTransactionAsync(Function)
+     */
+    public CompletableFuture<EthSendTransaction> sendTransactionAsync(
+            Function<BigInteger, RawTransaction> transactionFactory) {
+        Shard shard = acquireShard();
+        CompletableFuture<EthSendTransaction> sent;
+        try {
+            sent = shard.transactionManager.sendTransactionAsync(transactionFactory);
+        } catch (RuntimeException e) {
+            shard.inFlight.decrementAndGet();
+            shard.failed.incrementAndGet();
+            throw e;
+        }
+        return sent.whenComplete(
+                        (response, throwable) -> {
+                            shard.inFlight.decrementAndGet();
+                            if (throwable != null) {
+                                shard.failed.incrementAndGet();
+                            }
+                        })
+                .thenApply(shard::onSent);
+    }
+
+    @Override
+    protected TransactionReceipt processResponse(EthSendTransaction transactionResponse)
+            throws IOException, TransactionException {
+        try {
+            return super.processResponse(transactionResponse);
+        } finally {
+            if (!transactionResponse.hasError()) {
+                onReceipt(transactionResponse.getTransactionHash());
+            }
+        }
+    }
+
+    /**
+     * Stop counting a transaction as pending against its account. Called automatically once the
+     * transaction is mined, or its receipt is obtained through this manager.
+     *
+     * @param transactionHash hash of a transaction sent by this manager
+     */
+    public void onReceipt(String transactionHash) {
+        Shard shard = shardForTransactionHash.remove(transactionHash);
+        if (shard != null) {
+            shard.pending.decrementAndGet();
+        }
+    }
+
+    /** Close the receipt tracker, if this manager created it. */
+    @Override
+    public void close() {
+        if (ownsReceiptTracker) {
+            receiptTracker.close();
+        }
+    }
+
+    @Override
+    public String sendCall(String to, String data, DefaultBlockParameter defaultBlockParameter)
+            throws IOException {
+        return shards.get(0).transactionManager.sendCall(to, data, defaultBlockParameter);
+    }
+
+    @Override
+    public EthGetCode getCode(String contractAddress, DefaultBlockParameter defaultBlockParameter)
+            throws IOException {
+        return shards.get(0).transactionManager.getCode(contractAddress, defaultBlockParameter);
+    }
+
+    /**
+     * Returns a snapshot of the load and history of each account, in the order the accounts were
+     * given.
+     *
+     * @return metrics of each account
+     */
+    public List<AccountMetrics> getAccountMetrics() {
+        List<AccountMetrics> metrics = new ArrayList<>(shards.size());
+        for (Shard shard : shards) {
+            metrics.add(shard.metrics());
+        }
+        return metrics;
+    }
+
+    private Shard acquireShard() {
+        int start = Math.floorMod(cursor.getAndIncrement(), shards.size());
+        Shard leastLoaded = null;
+        int leastLoad = Integer.MAX_VALUE;
+        for (int i = 0; i < shards.size(); i++) {
+            Shard shard = shards.get((start + i) % shards.size());
+            int load = shard.load();
+            if (load < leastLoad) {
+                leastLoaded = shard;
+                leastLoad = load;
+            }
+        }
+        leastLoaded.inFlight.incrementAndGet();
+        return leastLoaded;
+    }
+
+    private static String firstAddress(List<? extends TxSignService> txSignServices) {
+        if (txSignServices.isEmpty()) {
+            throw new IllegalArgumentException("At least one account is required");
+        }
+        return txSignServices.get(0).getAddress();
+    }
+
+    private class Shard {
+        private final PipelinedTransactionManager transactionManager;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicLong sent = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+
+        Shard(PipelinedTransactionManager transactionManager) {
+            this.transactionManager = transactionManager;
+        }
+
+        int load() {
+            return inFlight.get() + pending.get();
+        }
+
+        EthSendTransaction onSent(EthSendTransaction response) {
+            if (response.hasError()) {
+                failed.incrementAndGet();
+            } else {
+                String transactionHash = response.getTransactionHash();
+                sent.incrementAndGet();
+                pending.incrementAndGet();
+                shardForTransactionHash.put(transactionHash, this);
+                receiptTracker
+                        .track(transactionHash)
+                        .whenComplete((receipt, throwable) -> onReceipt(transactionHash));
+            }
+            return response;
+        }
+
+        AccountMetrics metrics() {
+            return new AccountMetrics(
+                    transactionManager.getFromAddress(),
+                    inFlight.get(),
+                    pending.get(),
+                    sent.get(),
+                    failed.get(),
+                    transactionManager.getCurrentNonce());
+        }
+    }
+
+    /** Load and history of one sending account. */
+    public static class AccountMetrics {
+        private final String address;
+        private final int inFlight;
+        private final int pending;
+        private final long sent;
+        private final long failed;
+        private final BigInteger nextNonce;
+
+        AccountMetrics(
+                String address,
+                int inFlight,
+                int pending,
+                long sent,
+                long failed,
+                BigInteger nextNonce) {
+            this.address = address;
+            this.inFlight = inFlight;
+            this.pending = pending;
+            this.sent = sent;
+            this.failed = failed;
+            this.nextNonce = nextNonce;
+        }
+
+        public String getAddress() {
+            return address;
+        }
+
+        /** Transactions currently being signed or sent. */
+        public int getInFlight() {
+            return inFlight;
+        }
+
+        /** Transactions sent whose receipts have not been obtained yet. */
+        public int getPending() {
+            return pending;
+        }
+
+        /** Transactions accepted by the node. */
+        public long getSent() {
+            return sent;
+        }
+
+        /** Transactions rejected by the node, or whose send failed. */
+        public long getFailed() {
+            return failed;
+        }
+
+        /** Next new nonce of the account, or -1 if it has not sent anything yet. */
+        public BigInteger getNextNonce() {
+            return nextNonce;
+        }
+    }
+}
@@ -41,8 +41,22 @@ public class QueuingTransactionReceiptProcessor extends TransactionReceiptProces
 
     public QueuingTransactionReceiptProcessor(
             Web3j web3j, Callback callback, int pollingAttemptsPerTxHash, long pollingFrequency) {
+        this(
+                web3j,
+                callback,
+                pollingAttemptsPerTxHash,
+                pollingFrequency,
+                Async.defaultExecutorService());
+    }
+
+    public QueuingTransactionReceiptProcessor(
+            Web3j web3j,
+            Callback callback,
+            int pollingAttemptsPerTxHash,
+            long pollingFrequency,
+            ScheduledExecutorService scheduledExecutorService) {
         super(web3j);
-        this.scheduledExecutorService = Async.defaultExecutorService();
+        this.scheduledExecutorService = scheduledExecutorService;
         this.callback = callback;
         this.pendingTransactions = new LinkedBlockingQueue<>();
         this.pollingAttemptsPerTxHash = pollingAttemptsPerTxHash;
@@ -0,0 +1,413 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx.response;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.JsonRpc2_0Web3j;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.filters.HeadTracker;
+import org.web3j.protocol.core.methods.response.EthGetBlockReceipts;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.protocol.exceptions.TransactionException;
+
+/**
+ * Transaction receipt processor that checks every pending transaction once per new block, using a
+ * few batched requests rather than one polling loop per transaction.
+ *
+ * <p>Each transaction is first looked up with {@code eth_getTransactionReceipt}, batched with the
+ * other newly tracked transactions. From then on it is matched against the receipts of each new
+ * block, fetched with {@code eth_getBlockReceipts}, so the cost of a block does not grow with the
+ * number of pending transactions. On nodes that do not support {@code eth_getBlockReceipts}, or
+ * when fewer transactions are pending than blocks were produced, all pending transactions are
+ * looked up in batches instead. As a block already searched may be replaced by a reorganisation,
+ * each transaction is also looked up again by hash every few blocks, and before it times out.
+ *
+ * <p>A transaction fails with a {@link TransactionException} if no receipt is found within the
+ * given number of blocks. Blocks are followed with a {@link HeadTracker}, which only runs while
+ * transactions are pending.
+ *
+ * <p>Closing the tracker stops following the head and fails any transactions still pending.
+ */
+public class ReceiptTracker extends TransactionReceiptProcessor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReceiptTracker.class);
+
+    public static final int DEFAULT_BLOCKS_UNTIL_TIMEOUT = 50;
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    private static final int METHOD_NOT_FOUND = -32601;
+    // Blocks after which a transaction is looked up by hash again
+    private static final int RECHECK_INTERVAL = 10;
+
+    private final Web3j web3j;
+    private final HeadTracker headTracker;
+    // Executor of a head tracker created by this tracker, or null if the caller supplied one
+    private final ScheduledExecutorService ownedExecutorService;
+    private final int blocksUntilTimeout;
+    private final int batchSize;
+    // Bounds the wait for a receipt, should the chain head stop advancing
+    private final long waitTimeout;
+    private final Map<String, PendingReceipt> pendingReceipts = new ConcurrentHashMap<>();
+    private final Consumer<BigInteger> headListener = this::onHead;
+
+    // Only updated by the head listener, which is called one head at a time, and cleared when
+    // the listener is removed
+    private volatile BigInteger lastHead;
+    private volatile boolean blockReceiptsSupported = true;
+
+    // Guarded by this
+    private boolean listening;
+    private boolean closed;
+
+    /**
+     * Create a tracker that follows the head on a daemon thread of its own, which is shut down
+     * when the tracker is closed.
+     *
+     * @param web3j client to fetch receipts with
+     */
+    public ReceiptTracker(Web3j web3j) {
+        this(web3j, newScheduledExecutorService());
+    }
+
+    private ReceiptTracker(Web3j web3j, ScheduledExecutorService scheduledExecutorService) {
+        this(
+                web3j,
+                new HeadTracker(
+                        web3j,
+                        scheduledExecutorService,
+                        HeadTracker.DEFAULT_MIN_POLLING_INTERVAL,
+                        JsonRpc2_0Web3j.DEFAULT_BLOCK_TIME),
+                scheduledExecutorService,
+                DEFAULT_BLOCKS_UNTIL_TIMEOUT,
+                DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Create a tracker that follows the given head tracker. Closing the tracker only removes its
+     * listener; the head tracker's executor is left to the caller to shut down.
+     *
+     * @param web3j client to fetch receipts with
+     * @param headTracker tracker of the chain head, which may be shared with other components
+     * @param blocksUntilTimeout number of blocks after which a transaction without a receipt fails
+     * @param batchSize maximum number of receipts requested in one batch
+     */
+    public ReceiptTracker(
+            Web3j web3j, HeadTracker headTracker, int blocksUntilTimeout, int batchSize) {
+        this(web3j, headTracker, null, blocksUntilTimeout, batchSize);
+    }
+
+    private ReceiptTracker(
+            Web3j web3j,
+            HeadTracker headTracker,
+            ScheduledExecutorService ownedExecutorService,
+            int blocksUntilTimeout,
+            int batchSize) {
+        super(web3j);
+        if (blocksUntilTimeout < 1 || batchSize < 1) {
+            throw new IllegalArgumentException(
+                    "Blocks until timeout and batch size must be positive");
+        }
+        this.web3j = web3j;
+        this.headTracker = headTracker;
+        this.ownedExecutorService = ownedExecutorService;
+        this.blocksUntilTimeout = blocksUntilTimeout;
+        this.batchSize = batchSize;
+        this.waitTimeout = 2L * blocksUntilTimeout * JsonRpc2_0Web3j.DEFAULT_BLOCK_TIME;
+    }
+
+    @Override
+    public TransactionReceipt waitForTransactionReceipt(String transactionHash)
+            throws IOException, TransactionException {
+        try {
+            return track(transactionHash).get(waitTimeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new TransactionException(
+                    "Transaction receipt was not generated after "
+                            + waitTimeout / 1000
+                            + " seconds for transaction: "
+                            + transactionHash,
+                    transactionHash);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransactionException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TransactionException) {
+                throw (TransactionException) e.getCause();
+            } else if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new TransactionException(e.getCause());
+        }
+    }
+
+    /**
+     * Track a transaction until its receipt is found. Tracking the same transaction again returns
+     * the same future.
+     *
+     * @param transactionHash hash of the transaction to track
+     * @return a future completed with the receipt, or with a {@link TransactionException} if no
+     *     receipt is found in time
+     */
+    public CompletableFuture<TransactionReceipt> track(String transactionHash) {
+        PendingReceipt pendingReceipt;
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Receipt tracker is closed");
+            }
+            pendingReceipt =
+                    pendingReceipts.computeIfAbsent(
+                            transactionHash, PendingReceipt::new);
+            if (!listening) {
+                listening = true;
+                headTracker.addListener(headListener);
+            }
+        }
+        return pendingReceipt.future;
+    }
+
+    /**
+     * Returns the number of transactions whose receipts have not been found yet.
+     *
+     * @return number of pending transactions
+     */
+    public int getPendingCount() {
+        return pendingReceipts.size();
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (listening) {
+                listening = false;
+                headTracker.removeListener(headListener);
+            }
+        }
+        if (ownedExecutorService != null) {
+            ownedExecutorService.shutdown();
+        }
+        for (PendingReceipt pendingReceipt : pendingReceipts.values()) {
+            if (pendingReceipts.remove(pendingReceipt.transactionHash, pendingReceipt)) {
+                pendingReceipt.future.completeExceptionally(
+                        new TransactionException(
+                                "Receipt tracker was closed before a receipt was found for"
+                                        + " transaction: "
+                                        + pendingReceipt.transactionHash,
+                                pendingReceipt.transactionHash));
+            }
+        }
+    }
+
+    void onHead(BigInteger head) {
+        List<PendingReceipt> unchecked = new ArrayList<>();
+        List<PendingReceipt> checked = new ArrayList<>();
+        for (PendingReceipt pendingReceipt : pendingReceipts.values()) {
+            (isDueForLookup(pendingReceipt, head) ? unchecked : checked).add(pendingReceipt);
+        }
+
+        if (!checked.isEmpty()) {
+            int newBlocks = head.subtract(lastHead).intValue();
+            // No new block numbers means the head block was replaced, so look everything up again
+            if (!blockReceiptsSupported
+                    || newBlocks < 1
+                    || newBlocks > checked.size()
+                    || !fetchBlockReceipts(lastHead.add(BigInteger.ONE), newBlocks)) {
+                unchecked.addAll(checked);
+            }
+        }
+        for (int i = 0; i < unchecked.size(); i += batchSize) {
+            fetchReceipts(unchecked.subList(i, Math.min(unchecked.size(), i + batchSize)));
+        }
+
+        for (PendingReceipt pendingReceipt : unchecked) {
+            pendingReceipt.lookedUpAt = head;
+            if (pendingReceipt.sinceBlock == null) {
+                pendingReceipt.sinceBlock = head;
+            }
+        }
+        lastHead = head;
+        expire(head);
+        stopIfIdle();
+    }
+
+    /**
+     * Returns whether a transaction must be looked up by hash rather than in the receipts of new
+     * blocks: when it was never looked up, when the block it was included in may since have been
+     * replaced, and before it times out.
+     */
+    private boolean isDueForLookup(PendingReceipt pendingReceipt, BigInteger head) {
+        return pendingReceipt.lookedUpAt == null
+                || head.subtract(pendingReceipt.lookedUpAt).intValue() >= RECHECK_INTERVAL
+                || head.subtract(pendingReceipt.sinceBlock).intValue() >= blocksUntilTimeout;
+    }
+
+    /** Returns whether the receipts of all the blocks could be fetched. */
+    private boolean fetchBlockReceipts(BigInteger fromBlock, int blocks) {
+        BatchRequest batchRequest = web3j.newBatch();
+        for (int i = 0; i < blocks; i++) {
+            batchRequest.add(
+                    web3j.ethGetBlockReceipts(
+                            new DefaultBlockParameterNumber(
+                                    fromBlock.add(BigInteger.valueOf(i)))));
+        }
+
+        List<TransactionReceipt> receipts = new ArrayList<>();
+        try {
+            for (Response<?> response : batchRequest.send().getResponses()) {
+                if (response.hasError()) {
+                    if (isMethodNotFound(response.getError())) {
+                        blockReceiptsSupported = false;
+                    }
+                    log.debug(
+                            "Error fetching block receipts: {}", response.getError().getMessage());
+                    return false;
+                }
+                List<TransactionReceipt> blockReceipts =
+                        ((EthGetBlockReceipts) response).getResult();
+                if (blockReceipts == null) {
+                    // The block is not available on this node yet
+                    return false;
+                }
+                receipts.addAll(blockReceipts);
+            }
+        } catch (IOException e) {
+            log.warn("Error fetching block receipts", e);
+            return false;
+        }
+
+        for (TransactionReceipt receipt : receipts) {
+            PendingReceipt pendingReceipt = pendingReceipts.get(receipt.getTransactionHash());
+            if (pendingReceipt != null) {
+                complete(pendingReceipt, receipt);
+            }
+        }
+        return true;
+    }
+
+    private void fetchReceipts(List<PendingReceipt> batch) {
+        BatchRequest batchRequest = web3j.newBatch();
+        for (PendingReceipt pendingReceipt : batch) {
+            batchRequest.add(web3j.ethGetTransactionReceipt(pendingReceipt.transactionHash));
+        }
+
+        BatchResponse batchResponse;
+        try {
+            batchResponse = batchRequest.send();
+        } catch (IOException e) {
+            log.warn("Error fetching transaction receipts", e);
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            PendingReceipt pendingReceipt = batch.get(i);
+            Response<?> response = batchResponse.getResponse(i);
+            if (response == null) {
+                continue;
+            } else if (response.hasError()) {
+                log.debug(
+                        "Error fetching receipt {}: {}",
+                        pendingReceipt.transactionHash,
+                        response.getError().getMessage());
+                continue;
+            }
+            ((EthGetTransactionReceipt) response)
+                    .getTransactionReceipt()
+                    .ifPresent(receipt -> complete(pendingReceipt, receipt));
+        }
+    }
+
+    private void expire(BigInteger head) {
+        for (PendingReceipt pendingReceipt : pendingReceipts.values()) {
+            if (pendingReceipt.sinceBlock != null
+                    && head.subtract(pendingReceipt.sinceBlock).intValue() >= blocksUntilTimeout) {
+                if (pendingReceipts.remove(pendingReceipt.transactionHash, pendingReceipt)) {
+                    pendingReceipt.future.completeExceptionally(
+                            new TransactionException(
+                                    "Transaction receipt was not generated after "
+                                            + blocksUntilTimeout
+                                            + " blocks for transaction: "
+                                            + pendingReceipt.transactionHash,
+                                    pendingReceipt.transactionHash));
+                }
+            }
+        }
+    }
+
+    private void complete(PendingReceipt pendingReceipt, TransactionReceipt receipt) {
+        if (pendingReceipts.remove(pendingReceipt.transactionHash, pendingReceipt)) {
+            pendingReceipt.future.complete(receipt);
+        }
+    }
+
+    private synchronized void stopIfIdle() {
+        if (listening && pendingReceipts.isEmpty()) {
+            listening = false;
+            headTracker.removeListener(headListener);
+            // Blocks produced while idle are not searched, so they must not be counted as new
+            lastHead = null;
+        }
+    }
+
+    private static ScheduledExecutorService newScheduledExecutorService() {
+        return Executors.newSingleThreadScheduledExecutor(
+                runnable -> {
+                    Thread thread = new Thread(runnable, "web3j-receipt-tracker");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    private static boolean isMethodNotFound(Response.Error error) {
+        String message = error.getMessage() == null ? "" : error.getMessage().toLowerCase();
+        return error.getCode() == METHOD_NOT_FOUND
+                || message.contains("method not found")
+                || message.contains("does not exist");
+    }
+
+    private static class PendingReceipt {
+        private final String transactionHash;
+        private final CompletableFuture<TransactionReceipt> future = new CompletableFuture<>();
+        // Head from which the timeout is counted, set by the first head seen after tracking starts
+        private volatile BigInteger sinceBlock;
+        // Head at which the receipt was last looked up by hash, after which only new blocks need
+        // to be searched
+        private volatile BigInteger lookedUpAt;
+
+        PendingReceipt(String transactionHash) {
+            this.transactionHash = transactionHash;
+        }
+    }
+}
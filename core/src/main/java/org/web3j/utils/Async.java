@@ -14,23 +14,123 @@ package org.web3j.utils;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
-/** Async task facilitation. */
+/**
+ * Async task facilitation.
+ *
+ * <p>By default asynchronous tasks run on a cached thread pool, and schedulers use platform
+ * threads. This can be changed for the whole application before any requests are sent:
+ *
+ * <ul>
+ *   <li>{@link #useVirtualThreads()} runs each task on its own virtual thread, and creates
+ *       schedulers backed by virtual threads
+ *   <li>{@link #useBoundedThreadPool(int)} runs tasks on a fixed number of platform threads
+ *   <li>{@link #setExecutorService(ExecutorService)} runs tasks on an executor supplied by the
+ *       caller, which remains responsible for shutting it down
+ * </ul>
+ *
+ * <p>This applies to {@link org.web3j.protocol.core.Request#sendAsync()}, {@link
+ * org.web3j.protocol.core.RemoteCall#sendAsync()} and the schedulers used for filters and
+ * transaction receipt polling.
+ */
 public class Async {
 
     private Async() {}
 
-    private static final ExecutorService executor = Executors.newCachedThreadPool();
+    private static volatile ExecutorService executor = Executors.newCachedThreadPool();
+    private static volatile boolean ownsExecutor = true;
+    private static volatile ThreadFactory schedulerThreadFactory = Executors.defaultThreadFactory();
 
     static {
-        Runtime.getRuntime().addShutdownHook(new Thread(() -> shutdown(executor)));
+        Runtime.getRuntime()
+                .addShutdownHook(
+                        new Thread(
+                                () -> {
+                                    if (ownsExecutor) {
+                                        shutdown(executor);
+                                    }
+                                }));
+    }
+
+    /**
+     * Run each asynchronous task on a new virtual thread, and back new schedulers with virtual
+     * threads.
+     */
+    public static void useVirtualThreads() {
+        replaceExecutor(Executors.newVirtualThreadPerTaskExecutor(), true);
+        schedulerThreadFactory = Thread.ofVirtual().name("web3j-scheduler-", 0).factory();
+    }
+
+    /**
+     * Run asynchronous tasks on a fixed size pool of platform threads. Tasks submitted while all
+     * threads are busy are queued.
+     *
+     * @param maxThreads maximum number of threads
+     */
+    public static void useBoundedThreadPool(int maxThreads) {
+        replaceExecutor(Executors.newFixedThreadPool(maxThreads), true);
+        schedulerThreadFactory = Executors.defaultThreadFactory();
+    }
+
+    /**
+     * Run asynchronous tasks on the provided executor. The caller is responsible for shutting it
+     * down.
+     *
+     * @param executorService executor to run tasks on
+     */
+    public static void setExecutorService(ExecutorService executorService) {
+        replaceExecutor(executorService, false);
+        schedulerThreadFactory = Executors.defaultThreadFactory();
+    }
+
+    /**
+     * Returns the executor asynchronous tasks are currently run on.
+     *
+     * @return current executor
+     */
+    public static ExecutorService getExecutorService() {
+        return executor;
+    }
+
+    // Method visible for unit-tests, restores the default cached thread pool and schedulers
+    static void reset() {
+        replaceExecutor(Executors.newCachedThreadPool(), true);
+        schedulerThreadFactory = Executors.defaultThreadFactory();
+    }
+
+    private static synchronized void replaceExecutor(
+            ExecutorService executorService, boolean owned) {
+        ExecutorService previous = executor;
+        boolean ownedPrevious = ownsExecutor;
+
+        executor = executorService;
+        ownsExecutor = owned;
+
+        if (ownedPrevious && previous != executorService) {
+            // let tasks already submitted complete
+            previous.shutdown();
+        }
     }
 
     public static <T> CompletableFuture<T> run(Callable<T> callable) {
+        return run(callable, executor);
+    }
+
+    /**
+     * Run a task asynchronously on the provided executor.
+     *
+     * @param callable task to run
+     * @param executor executor to run the task on
+     * @param <T> type of the task's result
+     * @return CompletableFuture that will be completed with the task's result
+     */
+    public static <T> CompletableFuture<T> run(Callable<T> callable, Executor executor) {
         CompletableFuture<T> result = new CompletableFuture<>();
         CompletableFuture.runAsync(
                 () -> {
@@ -59,7 +159,7 @@ public class Async {
      */
     public static ScheduledExecutorService defaultExecutorService() {
         ScheduledExecutorService scheduledExecutorService =
-                Executors.newScheduledThreadPool(getCpuCount());
+                Executors.newScheduledThreadPool(getCpuCount(), schedulerThreadFactory);
 
         Runtime.getRuntime().addShutdownHook(new Thread(() -> shutdown(scheduledExecutorService)));
 
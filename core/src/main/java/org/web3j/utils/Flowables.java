@@ -14,7 +14,6 @@ package org.web3j.utils;
 
 import java.math.BigInteger;
 
-import io.reactivex.BackpressureStrategy;
 import io.reactivex.Flowable;
 
 /** Flowable utility functions. */
@@ -26,7 +25,8 @@ public class Flowables {
     }
 
     /**
-     * Simple {@link Flowable} implementation to emit a range of BigInteger values.
+     * Simple {@link Flowable} implementation to emit a range of BigInteger values. Values are only
+     * emitted as they are requested by the subscriber.
      *
      * @param startValue first value to emit in range
      * @param endValue final value to emit in range
@@ -42,34 +42,29 @@ public class Flowables {
                     "Negative start index cannot be greater then end index");
         }
 
+        // Values are generated as they are requested, so a long range is never held in memory
         if (ascending) {
-            return Flowable.create(
-                    subscriber -> {
-                        for (BigInteger i = startValue;
-                                i.compareTo(endValue) < 1 && !subscriber.isCancelled();
-                                i = i.add(BigInteger.ONE)) {
-                            subscriber.onNext(i);
+            return Flowable.generate(
+                    () -> startValue,
+                    (value, emitter) -> {
+                        if (value.compareTo(endValue) > 0) {
+                            emitter.onComplete();
+                        } else {
+                            emitter.onNext(value);
                         }
-
-                        if (!subscriber.isCancelled()) {
-                            subscriber.onComplete();
-                        }
-                    },
-                    BackpressureStrategy.BUFFER);
+                        return value.add(BigInteger.ONE);
+                    });
         } else {
-            return Flowable.create(
-                    subscriber -> {
-                        for (BigInteger i = endValue;
-                                i.compareTo(startValue) > -1 && !subscriber.isCancelled();
-                                i = i.subtract(BigInteger.ONE)) {
-                            subscriber.onNext(i);
-                        }
-
-                        if (!subscriber.isCancelled()) {
-                            subscriber.onComplete();
+            return Flowable.generate(
+                    () -> endValue,
+                    (value, emitter) -> {
+                        if (value.compareTo(startValue) < 0) {
+                            emitter.onComplete();
+                        } else {
+                            emitter.onNext(value);
                         }
-                    },
-                    BackpressureStrategy.BUFFER);
+                        return value.subtract(BigInteger.ONE);
+                    });
         }
     }
 }
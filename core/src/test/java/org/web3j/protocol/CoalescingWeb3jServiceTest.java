@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.NetVersion;
+import org.web3j.protocol.core.methods.response.Web3ClientVersion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CoalescingWeb3jServiceTest {
+
+    private Web3jService web3jService;
+
+    @BeforeEach
+    void setUp() {
+        web3jService = mock(Web3jService.class);
+    }
+
+    @Test
+    void testRequestsAreCoalescedIntoBatch() throws Exception {
+        CoalescingWeb3jService service =
+                new CoalescingWeb3jService(
+                        web3jService, 10_000, 2, Executors.newSingleThreadScheduledExecutor());
+
+        Request<?, Web3ClientVersion> clientVersionRequest =
+                new Request<>(
+                        "web3_clientVersion",
+                        Collections.<String>emptyList(),
+                        service,
+                        Web3ClientVersion.class);
+        Request<?, NetVersion> netVersionRequest =
+                new Request<>(
+                        "net_version", Collections.<String>emptyList(), service, NetVersion.class);
+
+        Web3ClientVersion clientVersion = new Web3ClientVersion();
+        clientVersion.setResult("Geth");
+        NetVersion netVersion = new NetVersion();
+        netVersion.setResult("1");
+
+        when(web3jService.sendBatchAsync(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest batchRequest = invocation.getArgument(0);
+                            assertEquals(2, batchRequest.getRequests().size());
+                            return CompletableFuture.completedFuture(
+                                    new BatchResponse(
+                                            batchRequest.getRequests(),
+                                            Arrays.asList(clientVersion, netVersion)));
+                        });
+
+        CompletableFuture<Web3ClientVersion> first = clientVersionRequest.sendAsync();
+        assertFalse(first.isDone());
+        CompletableFuture<NetVersion> second = netVersionRequest.sendAsync();
+
+        assertEquals("Geth", first.get(1, TimeUnit.SECONDS).getWeb3ClientVersion());
+        assertEquals("1", second.get(1, TimeUnit.SECONDS).getNetVersion());
+        verify(web3jService, never()).sendAsync(any(Request.class), any());
+    }
+
+    @Test
+    void testSingleRequestIsSentAfterWindow() throws Exception {
+        CoalescingWeb3jService service =
+                new CoalescingWeb3jService(
+                        web3jService, 1, 100, Executors.newSingleThreadScheduledExecutor());
+
+        Request<?, NetVersion> request =
+                new Request<>(
+                        "net_version", Collections.<String>emptyList(), service, NetVersion.class);
+        NetVersion netVersion = new NetVersion();
+        netVersion.setResult("1");
+        when(web3jService.sendAsync(eq(request), eq(NetVersion.class)))
+                .thenReturn(CompletableFuture.completedFuture(netVersion));
+
+        assertEquals("1", request.sendAsync().get(1, TimeUnit.SECONDS).getNetVersion());
+        verify(web3jService, timeout(1000)).sendAsync(request, NetVersion.class);
+        verify(web3jService, never()).sendBatchAsync(any(BatchRequest.class));
+    }
+
+    @Test
+    void testBatchFailureCompletesAllRequests() {
+        CoalescingWeb3jService service =
+                new CoalescingWeb3jService(
+                        web3jService, 10_000, 2, Executors.newSingleThreadScheduledExecutor());
+
+        CompletableFuture<BatchResponse> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IOException("Connection refused"));
+        when(web3jService.sendBatchAsync(any(BatchRequest.class))).thenReturn(failed);
+
+        CompletableFuture<NetVersion> first =
+                new Request<>(
+                                "net_version",
+                                Collections.<String>emptyList(),
+                                service,
+                                NetVersion.class)
+                        .sendAsync();
+        CompletableFuture<NetVersion> second =
+                new Request<>(
+                                "net_version",
+                                Collections.<String>emptyList(),
+                                service,
+                                NetVersion.class)
+                        .sendAsync();
+
+        assertThrows(ExecutionException.class, () -> first.get(1, TimeUnit.SECONDS));
+        assertThrows(ExecutionException.class, () -> second.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testCloseLeavesProvidedSchedulerRunning() throws Exception {
+        ScheduledExecutorService scheduledExecutorService =
+                Executors.newSingleThreadScheduledExecutor();
+        new CoalescingWeb3jService(web3jService, 1, 100, scheduledExecutorService).close();
+
+        assertFalse(scheduledExecutorService.isShutdown());
+        verify(web3jService).close();
+        scheduledExecutorService.shutdown();
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthCall;
+import org.web3j.protocol.core.methods.response.EthFilter;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HedgingWeb3jServiceTest {
+
+    private Web3jService first;
+    private Web3jService second;
+    private ScheduledExecutorService scheduler;
+    // Last hedge scheduled on the mock scheduler
+    private AtomicReference<Runnable> scheduledHedge;
+
+    @BeforeEach
+    void setUp() {
+        first = mock(Web3jService.class);
+        second = mock(Web3jService.class);
+        scheduler = mock(ScheduledExecutorService.class);
+        scheduledHedge = new AtomicReference<>();
+        doAnswer(
+                        invocation -> {
+                            scheduledHedge.set(invocation.getArgument(0));
+                            return mock(ScheduledFuture.class);
+                        })
+                .when(scheduler)
+                .schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    void testSlowRequestIsHedged() throws Exception {
+        HedgingWeb3jService service = hedgingService(10);
+        CompletableFuture<EthCall> slow = new CompletableFuture<>();
+        when(first.sendAsync(any(Request.class), eq(EthCall.class))).thenReturn(slow);
+        when(second.sendAsync(any(Request.class), eq(EthCall.class)))
+                .thenReturn(CompletableFuture.completedFuture(ethCall("0x1")));
+
+        EthCall response =
+                service.sendAsync(ethCallRequest(service), EthCall.class)
+                        .get(5, TimeUnit.SECONDS);
+
+        assertEquals("0x1", response.getValue());
+        assertTrue(slow.isCancelled());
+        assertEquals(1, service.getRequestCount());
+        assertEquals(1, service.getHedgeCount());
+        assertEquals(1, service.getHedgeWinCount());
+    }
+
+    @Test
+    void testFastRequestIsNotHedged() throws Exception {
+        HedgingWeb3jService service = hedgingService(10_000);
+        when(first.sendAsync(any(Request.class), eq(EthCall.class)))
+                .thenReturn(CompletableFuture.completedFuture(ethCall("0x1")));
+
+        EthCall response =
+                service.sendAsync(ethCallRequest(service), EthCall.class)
+                        .get(5, TimeUnit.SECONDS);
+
+        assertEquals("0x1", response.getValue());
+        assertEquals(0, service.getHedgeCount());
+        verify(second, never()).sendAsync(any(Request.class), eq(EthCall.class));
+    }
+
+    @Test
+    void testFailedRequestIsHedgedImmediately() throws Exception {
+        HedgingWeb3jService service = hedgingService(10_000);
+        CompletableFuture<EthCall> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IOException("connection refused"));
+        when(first.sendAsync(any(Request.class), eq(EthCall.class))).thenReturn(failed);
+        when(second.sendAsync(any(Request.class), eq(EthCall.class)))
+                .thenReturn(CompletableFuture.completedFuture(ethCall("0x1")));
+
+        EthCall response =
+                service.sendAsync(ethCallRequest(service), EthCall.class)
+                        .get(5, TimeUnit.SECONDS);
+
+        assertEquals("0x1", response.getValue());
+        assertEquals(1, service.getHedgeWinCount());
+    }
+
+    @Test
+    void testFailureWhenBothAttemptsFail() {
+        HedgingWeb3jService service = hedgingService(10_000);
+        CompletableFuture<EthCall> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IOException("connection refused"));
+        when(first.sendAsync(any(Request.class), eq(EthCall.class))).thenReturn(failed);
+        when(second.sendAsync(any(Request.class), eq(EthCall.class))).thenReturn(failed);
+
+        ExecutionException exception =
+                assertThrows(
+                        ExecutionException.class,
+                        () ->
+                                service.sendAsync(ethCallRequest(service), EthCall.class)
+                                        .get(5, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof IOException);
+    }
+
+    @Test
+    void testTransactionsAreNeverHedged() {
+        HedgingWeb3jService service =
+                new HedgingWeb3jService.Builder(Arrays.asList(first, second))
+                        .withHedgeDelayMillis(0)
+                        .withScheduledExecutorService(scheduler)
+                        .build();
+        CompletableFuture<EthSendTransaction> slow = new CompletableFuture<>();
+        when(first.sendAsync(any(Request.class), eq(EthSendTransaction.class))).thenReturn(slow);
+
+        Request<?, EthSendTransaction> request =
+                new Request<>(
+                        "eth_sendRawTransaction",
+                        Collections.singletonList("0x00"),
+                        service,
+                        EthSendTransaction.class);
+        service.sendAsync(request, EthSendTransaction.class);
+
+        verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        assertEquals(0, service.getHedgeCount());
+        verify(second, never()).sendAsync(any(Request.class), eq(EthSendTransaction.class));
+    }
+
+    @Test
+    void testSingleServiceIsNeverHedged() {
+        HedgingWeb3jService service =
+                new HedgingWeb3jService.Builder(Arrays.asList(first, first))
+                        .withHedgeDelayMillis(0)
+                        .withScheduledExecutorService(scheduler)
+                        .build();
+        when(first.sendAsync(any(Request.class), eq(EthCall.class)))
+                .thenReturn(new CompletableFuture<>());
+
+        service.sendAsync(ethCallRequest(service), EthCall.class);
+
+        verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        verify(first, times(1)).sendAsync(any(Request.class), eq(EthCall.class));
+        assertEquals(0, service.getRequestCount());
+    }
+
+    @Test
+    void testCancelledAttemptsCountTowardsHedgeDelay() {
+        HedgingWeb3jService service =
+                new HedgingWeb3jService.Builder(Arrays.asList(first, second))
+                        .withScheduledExecutorService(scheduler)
+                        .build();
+        List<CompletableFuture<EthCall>> attempts = new ArrayList<>();
+        Answer<CompletableFuture<EthCall>> attempt =
+                invocation -> {
+                    CompletableFuture<EthCall> future = new CompletableFuture<>();
+                    attempts.add(future);
+                    return future;
+                };
+        when(first.sendAsync(any(Request.class), eq(EthCall.class))).thenAnswer(attempt);
+        when(second.sendAsync(any(Request.class), eq(EthCall.class))).thenAnswer(attempt);
+
+        // Every request is answered by its hedge, and the original attempt is cancelled
+        for (int i = 0; i < 40; i++) {
+            service.sendAsync(ethCallRequest(service), EthCall.class);
+            scheduledHedge.get().run();
+            attempts.get(attempts.size() - 1).complete(ethCall("0x1"));
+        }
+
+        assertEquals(40, service.getHedgeWinCount());
+        assertTrue(
+                service.getHedgeDelayMillis() < HedgingWeb3jService.DEFAULT_HEDGE_DELAY_MILLIS);
+    }
+
+    @Test
+    void testFilterIsPolledOnTheServiceThatCreatedIt() throws Exception {
+        HedgingWeb3jService service = hedgingService(10_000);
+        EthFilter ethFilter = new EthFilter();
+        ethFilter.setResult("0x1");
+        when(first.sendAsync(any(Request.class), eq(EthFilter.class)))
+                .thenReturn(CompletableFuture.completedFuture(ethFilter));
+        when(first.sendAsync(any(Request.class), eq(EthLog.class)))
+                .thenReturn(CompletableFuture.completedFuture(new EthLog()));
+
+        service.sendAsync(
+                        new Request<>(
+                                "eth_newBlockFilter",
+                                Collections.emptyList(),
+                                service,
+                                EthFilter.class),
+                        EthFilter.class)
+                .get(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 3; i++) {
+            service.sendAsync(
+                            new Request<>(
+                                    "eth_getFilterChanges",
+                                    Collections.singletonList("0x1"),
+                                    service,
+                                    EthLog.class),
+                            EthLog.class)
+                    .get(5, TimeUnit.SECONDS);
+        }
+
+        verify(first, times(3)).sendAsync(any(Request.class), eq(EthLog.class));
+        verify(second, never()).sendAsync(any(Request.class), any());
+    }
+
+    @Test
+    void testCloseLeavesProvidedSchedulerRunning() throws IOException {
+        ScheduledExecutorService scheduledExecutorService =
+                Executors.newSingleThreadScheduledExecutor();
+        new HedgingWeb3jService.Builder(Arrays.asList(first, second))
+                .withScheduledExecutorService(scheduledExecutorService)
+                .build()
+                .close();
+
+        assertFalse(scheduledExecutorService.isShutdown());
+        verify(first).close();
+        verify(second).close();
+        scheduledExecutorService.shutdown();
+    }
+
+    @Test
+    void testTransactionMethodsCannotBeAllowed() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        new HedgingWeb3jService.Builder(Arrays.asList(first, second))
+                                .withHedgedMethods(
+                                        Collections.singleton("eth_sendRawTransaction")));
+    }
+
+    private HedgingWeb3jService hedgingService(long hedgeDelayMillis) {
+        return new HedgingWeb3jService.Builder(Arrays.asList(first, second))
+                .withHedgeDelayMillis(hedgeDelayMillis)
+                .withScheduledExecutorService(Executors.newSingleThreadScheduledExecutor())
+                .build();
+    }
+
+    private static Request<?, EthCall> ethCallRequest(Web3jService service) {
+        return new Request<>("eth_call", Arrays.asList("{}", "latest"), service, EthCall.class);
+    }
+
+    private static EthCall ethCall(String value) {
+        EthCall ethCall = new EthCall();
+        ethCall.setResult(value);
+        return ethCall;
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.EthFilter;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import org.web3j.protocol.core.methods.response.EthUninstallFilter;
+import org.web3j.protocol.core.methods.response.NetVersion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LoadBalancedWeb3jServiceTest {
+
+    private Web3jService first;
+    private Web3jService second;
+    private LoadBalancedWeb3jService service;
+
+    @BeforeEach
+    void setUp() {
+        first = mock(Web3jService.class);
+        second = mock(Web3jService.class);
+        service =
+                new LoadBalancedWeb3jService.Builder(Arrays.asList(first, second))
+                        .withHealthCheckIntervalMillis(0)
+                        .withFailureThreshold(1)
+                        .build();
+    }
+
+    @Test
+    void testIdempotentRequestIsRetriedOnAnotherEndpoint() throws IOException {
+        NetVersion netVersion = new NetVersion();
+        netVersion.setResult("1");
+        when(first.send(any(Request.class), eq(NetVersion.class)))
+                .thenThrow(new IOException("connection refused"));
+        when(second.send(any(Request.class), eq(NetVersion.class))).thenReturn(netVersion);
+
+        assertEquals("1", service.send(netVersionRequest(), NetVersion.class).getNetVersion());
+        verify(first).send(any(Request.class), eq(NetVersion.class));
+        verify(second).send(any(Request.class), eq(NetVersion.class));
+    }
+
+    @Test
+    void testNonIdempotentRequestIsNotRetried() throws IOException {
+        when(first.send(any(Request.class), eq(EthSendTransaction.class)))
+                .thenThrow(new IOException("connection reset"));
+
+        Request<?, EthSendTransaction> request =
+                new Request<>(
+                        "eth_sendRawTransaction",
+                        Collections.singletonList("0x00"),
+                        service,
+                        EthSendTransaction.class);
+
+        assertThrows(IOException.class, () -> service.send(request, EthSendTransaction.class));
+        verify(second, never()).send(any(Request.class), eq(EthSendTransaction.class));
+    }
+
+    @Test
+    void testFailedEndpointIsEjected() throws IOException {
+        NetVersion netVersion = new NetVersion();
+        netVersion.setResult("1");
+        when(first.send(any(Request.class), eq(NetVersion.class)))
+                .thenThrow(new IOException("connection refused"));
+        when(second.send(any(Request.class), eq(NetVersion.class))).thenReturn(netVersion);
+
+        service.send(netVersionRequest(), NetVersion.class);
+        service.send(netVersionRequest(), NetVersion.class);
+
+        assertTrue(service.getEndpoints().get(0).isEjected());
+        verify(first, times(1)).send(any(Request.class), eq(NetVersion.class));
+        verify(second, times(2)).send(any(Request.class), eq(NetVersion.class));
+    }
+
+    @Test
+    void testLaggingEndpointIsAvoided() throws IOException {
+        when(first.sendAsync(any(Request.class), eq(EthBlockNumber.class)))
+                .thenReturn(CompletableFuture.completedFuture(blockNumber("0x64")));
+        when(second.sendAsync(any(Request.class), eq(EthBlockNumber.class)))
+                .thenReturn(CompletableFuture.completedFuture(blockNumber("0x6e")));
+        service.checkHealth();
+
+        NetVersion netVersion = new NetVersion();
+        netVersion.setResult("1");
+        when(second.send(any(Request.class), eq(NetVersion.class))).thenReturn(netVersion);
+
+        service.send(netVersionRequest(), NetVersion.class);
+        service.send(netVersionRequest(), NetVersion.class);
+
+        assertEquals(110, service.getEndpoints().get(1).getBlockNumber());
+        verify(first, never()).send(any(Request.class), eq(NetVersion.class));
+    }
+
+    @Test
+    void testHealthCheckRestoresEjectedEndpoint() {
+        when(first.sendAsync(any(Request.class), eq(EthBlockNumber.class)))
+                .thenReturn(failedHealthCheck(), healthCheck("0x1"));
+        when(second.sendAsync(any(Request.class), eq(EthBlockNumber.class)))
+                .thenReturn(healthCheck("0x1"));
+
+        service.checkHealth();
+        assertTrue(service.getEndpoints().get(0).isEjected());
+
+        service.checkHealth();
+        assertFalse(service.getEndpoints().get(0).isEjected());
+    }
+
+    @Test
+    void testHealthCheckKeepsEndpointEjectedForFailedRequests() throws IOException {
+        when(first.send(any(Request.class), eq(NetVersion.class)))
+                .thenThrow(new IOException("connection refused"));
+        when(second.send(any(Request.class), eq(NetVersion.class)))
+                .thenThrow(new IOException("connection refused"));
+        assertThrows(IOException.class, () -> service.send(netVersionRequest(), NetVersion.class));
+        assertTrue(service.getEndpoints().get(0).isEjected());
+
+        when(first.sendAsync(any(Request.class), eq(EthBlockNumber.class)))
+                .thenReturn(healthCheck("0x1"));
+        when(second.sendAsync(any(Request.class), eq(EthBlockNumber.class)))
+                .thenReturn(healthCheck("0x1"));
+        service.checkHealth();
+
+        assertTrue(service.getEndpoints().get(0).isEjected());
+        assertTrue(service.getEndpoints().get(1).isEjected());
+        assertEquals(1, service.getEndpoints().get(0).getBlockNumber());
+    }
+
+    @Test
+    void testAsyncRequestIsRetriedOnAnotherEndpoint() throws Exception {
+        CompletableFuture<NetVersion> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IOException("connection refused"));
+        NetVersion netVersion = new NetVersion();
+        netVersion.setResult("1");
+        when(first.sendAsync(any(Request.class), eq(NetVersion.class))).thenReturn(failed);
+        when(second.sendAsync(any(Request.class), eq(NetVersion.class)))
+                .thenReturn(CompletableFuture.completedFuture(netVersion));
+
+        NetVersion response = service.sendAsync(netVersionRequest(), NetVersion.class).get();
+        assertEquals("1", response.getNetVersion());
+    }
+
+    @Test
+    void testAsyncFailureWhenAllEndpointsFail() {
+        CompletableFuture<NetVersion> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IOException("connection refused"));
+        when(first.sendAsync(any(Request.class), eq(NetVersion.class))).thenReturn(failed);
+        when(second.sendAsync(any(Request.class), eq(NetVersion.class))).thenReturn(failed);
+
+        ExecutionException exception =
+                assertThrows(
+                        ExecutionException.class,
+                        () -> service.sendAsync(netVersionRequest(), NetVersion.class).get());
+        assertTrue(exception.getCause() instanceof IOException);
+    }
+
+    @Test
+    void testFilterRequestsStickToFirstEndpoint() throws IOException {
+        when(first.send(any(Request.class), eq(NetVersion.class))).thenReturn(new NetVersion());
+
+        for (int i = 0; i < 3; i++) {
+            service.send(
+                    new Request<>(
+                            "eth_getFilterChanges",
+                            Collections.singletonList("0x1"),
+                            service,
+                            NetVersion.class),
+                    NetVersion.class);
+        }
+
+        verify(first, times(3)).send(any(Request.class), eq(NetVersion.class));
+        verify(second, never()).send(any(Request.class), eq(NetVersion.class));
+    }
+
+    @Test
+    void testFilterRequestsGoToEndpointThatCreatedFilter() throws IOException {
+        when(first.sendAsync(any(Request.class), eq(EthBlockNumber.class)))
+                .thenReturn(failedHealthCheck(), healthCheck("0x1"));
+        when(second.sendAsync(any(Request.class), eq(EthBlockNumber.class)))
+                .thenReturn(healthCheck("0x1"));
+        EthFilter ethFilter = new EthFilter();
+        ethFilter.setResult("0x01");
+        when(second.send(any(Request.class), eq(EthFilter.class))).thenReturn(ethFilter);
+        when(first.send(any(Request.class), eq(EthLog.class))).thenReturn(new EthLog());
+        when(second.send(any(Request.class), eq(EthLog.class))).thenReturn(new EthLog());
+        when(second.send(any(Request.class), eq(EthUninstallFilter.class)))
+                .thenReturn(new EthUninstallFilter());
+
+        // The filter is created on the second endpoint while the first one is ejected
+        service.checkHealth();
+        service.send(filterRequest("eth_newBlockFilter", EthFilter.class), EthFilter.class);
+        service.checkHealth();
+        assertFalse(service.getEndpoints().get(0).isEjected());
+
+        service.send(filterRequest("eth_getFilterChanges", EthLog.class), EthLog.class);
+        service.send(
+                filterRequest("eth_uninstallFilter", EthUninstallFilter.class),
+                EthUninstallFilter.class);
+        verify(first, never()).send(any(Request.class), eq(EthLog.class));
+        verify(second).send(any(Request.class), eq(EthLog.class));
+
+        // Once uninstalled, the filter id is no longer tied to the second endpoint
+        service.send(filterRequest("eth_getFilterChanges", EthLog.class), EthLog.class);
+        verify(first).send(any(Request.class), eq(EthLog.class));
+    }
+
+    @Test
+    void testCloseClosesAllEndpoints() throws IOException {
+        service.close();
+
+        verify(first).close();
+        verify(second).close();
+    }
+
+    @Test
+    void testCloseLeavesProvidedSchedulerRunning() throws IOException {
+        ScheduledExecutorService scheduledExecutorService =
+                Executors.newSingleThreadScheduledExecutor();
+        new LoadBalancedWeb3jService.Builder(Arrays.asList(first, second))
+                .withHealthCheckIntervalMillis(1000)
+                .withScheduledExecutorService(scheduledExecutorService)
+                .build()
+                .close();
+
+        assertFalse(scheduledExecutorService.isShutdown());
+        verify(first).close();
+        scheduledExecutorService.shutdown();
+    }
+
+    private Request<?, NetVersion> netVersionRequest() {
+        return new Request<>(
+                "net_version", Collections.<String>emptyList(), service, NetVersion.class);
+    }
+
+    private <T extends Response<?>> Request<?, T> filterRequest(
+            String method, Class<T> responseType) {
+        return new Request<>(method, Collections.singletonList("0x1"), service, responseType);
+    }
+
+    private static CompletableFuture<EthBlockNumber> healthCheck(String blockNumber) {
+        return CompletableFuture.completedFuture(blockNumber(blockNumber));
+    }
+
+    private static CompletableFuture<EthBlockNumber> failedHealthCheck() {
+        CompletableFuture<EthBlockNumber> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IOException("connection refused"));
+        return failed;
+    }
+
+    private static EthBlockNumber blockNumber(String value) {
+        EthBlockNumber ethBlockNumber = new EthBlockNumber();
+        ethBlockNumber.setResult(value);
+        return ethBlockNumber;
+    }
+}
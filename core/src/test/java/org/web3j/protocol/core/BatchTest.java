@@ -22,6 +22,7 @@ import org.web3j.protocol.core.methods.response.Web3Sha3;
 import org.web3j.protocol.http.HttpService;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class BatchTest extends BatchTester {
@@ -93,4 +94,75 @@ class BatchTest extends BatchTester {
         NetVersion netVersion = (NetVersion) response.getResponses().get(2);
         assertEquals("59", netVersion.getNetVersion());
     }
+
+    @Test
+    void testBatchResponseCorrelatedById() throws Exception {
+        buildResponse(
+                "["
+                        + "{\"id\":3,\"jsonrpc\":\"2.0\",\"result\":\"59\"},"
+                        + "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":\"Mist/v0.9.3/darwin/go1.4.1\"}"
+                        + "]");
+
+        Request<?, Web3ClientVersion> clientVersion = web3j.web3ClientVersion();
+        clientVersion.setId(1);
+        Request<?, NetVersion> netVersion = web3j.netVersion();
+        netVersion.setId(3);
+
+        BatchResponse response = web3j.newBatch().add(clientVersion).add(netVersion).send();
+
+        Web3ClientVersion web3ClientVersion = (Web3ClientVersion) response.getResponses().get(0);
+        assertEquals("Mist/v0.9.3/darwin/go1.4.1", web3ClientVersion.getWeb3ClientVersion());
+        assertEquals(1, web3ClientVersion.getId());
+
+        NetVersion netVersionResponse = (NetVersion) response.getResponses().get(1);
+        assertEquals("59", netVersionResponse.getNetVersion());
+        assertEquals(3, netVersionResponse.getId());
+    }
+
+    @Test
+    void testBatchResponseWithMalformedAndMissingElements() throws Exception {
+        buildResponse(
+                "["
+                        + "{\"id\":2,\"jsonrpc\":\"2.0\",\"result\":{\"unexpected\":true}},"
+                        + "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":\"Mist/v0.9.3/darwin/go1.4.1\"}"
+                        + "]");
+
+        Request<?, Web3ClientVersion> clientVersion = web3j.web3ClientVersion();
+        clientVersion.setId(1);
+        Request<?, Web3Sha3> sha3 = web3j.web3Sha3("0x68656c6c6f20776f726c64");
+        sha3.setId(2);
+        Request<?, NetVersion> netVersion = web3j.netVersion();
+        netVersion.setId(3);
+
+        BatchResponse response =
+                web3j.newBatch().add(clientVersion).add(sha3).add(netVersion).send();
+
+        Web3ClientVersion web3ClientVersion = (Web3ClientVersion) response.getResponses().get(0);
+        assertFalse(web3ClientVersion.hasError());
+        assertEquals("Mist/v0.9.3/darwin/go1.4.1", web3ClientVersion.getWeb3ClientVersion());
+
+        assertTrue(response.getResponses().get(1) instanceof Web3Sha3);
+        assertTrue(response.getResponses().get(1).hasError());
+        assertEquals(RpcErrors.PARSE_ERROR, response.getResponses().get(1).getError().getCode());
+
+        assertTrue(response.getResponses().get(2) instanceof NetVersion);
+        assertTrue(response.getResponses().get(2).hasError());
+        assertEquals(RpcErrors.INTERNAL_ERROR, response.getResponses().get(2).getError().getCode());
+    }
+
+    @Test
+    void testBatchErrorResponse() throws Exception {
+        buildResponse(
+                "{\"id\":null,\"jsonrpc\":\"2.0\","
+                        + "\"error\":{\"code\":-32600,\"message\":\"Batch too large\"}}");
+
+        BatchResponse response =
+                web3j.newBatch().add(web3j.web3ClientVersion()).add(web3j.netVersion()).send();
+
+        assertEquals(2, response.getResponses().size());
+        assertTrue(response.getResponses().get(0) instanceof Web3ClientVersion);
+        assertEquals("Batch too large", response.getResponses().get(0).getError().getMessage());
+        assertTrue(response.getResponses().get(1) instanceof NetVersion);
+        assertEquals("Batch too large", response.getResponses().get(1).getError().getMessage());
+    }
 }
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core.filters;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthFilter;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.EthUninstallFilter;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FilterPollerTest {
+
+    private static final String ADDRESS = "0x2a98c5f40bfa3dee83431103c535f6fae9a8ad38";
+
+    private Web3jService web3jService;
+    private FilterPoller filterPoller;
+    private Web3j web3j;
+    private List<String> notFoundFilterIds;
+    private List<String> blockFilterIds;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        web3jService = mock(Web3jService.class);
+        ScheduledExecutorService scheduledExecutorService = mock(ScheduledExecutorService.class);
+        doReturn(mock(ScheduledFuture.class))
+                .when(scheduledExecutorService)
+                .scheduleAtFixedRate(
+                        any(Runnable.class), anyLong(), anyLong(), any(TimeUnit.class));
+        web3j = Web3j.build(web3jService, 1000, scheduledExecutorService);
+        filterPoller = new FilterPoller(web3j, scheduledExecutorService, 1000);
+        notFoundFilterIds = new ArrayList<>();
+        blockFilterIds = new ArrayList<>();
+
+        AtomicLong nextFilterId = new AtomicLong(1);
+        when(web3jService.send(any(Request.class), eq(EthFilter.class)))
+                .thenAnswer(
+                        invocation -> {
+                            EthFilter ethFilter = new EthFilter();
+                            ethFilter.setResult(
+                                    Numeric.encodeQuantity(
+                                            BigInteger.valueOf(nextFilterId.getAndIncrement())));
+                            return ethFilter;
+                        });
+        when(web3jService.send(any(Request.class), eq(EthLog.class))).thenReturn(emptyLog());
+        EthUninstallFilter ethUninstallFilter = new EthUninstallFilter();
+        ethUninstallFilter.setResult(true);
+        when(web3jService.send(any(Request.class), eq(EthUninstallFilter.class)))
+                .thenReturn(ethUninstallFilter);
+
+        // Each filter's changes are a single log, or block hash, holding the filter id
+        when(web3jService.sendBatch(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest batchRequest = invocation.getArgument(0);
+                            List<Response<?>> responses = new ArrayList<>();
+                            for (Request<?, ?> request : batchRequest.getRequests()) {
+                                String filterId = (String) request.getParams().get(0);
+                                EthLog ethLog = new EthLog();
+                                ethLog.setId(request.getId());
+                                if (notFoundFilterIds.remove(filterId)) {
+                                    ethLog.setError(
+                                            new Response.Error(-32000, "filter not found"));
+                                } else {
+                                    ethLog.setResult(
+                                            Collections.singletonList(changeFor(filterId)));
+                                }
+                                responses.add(ethLog);
+                            }
+                            return new BatchResponse(batchRequest.getRequests(), responses);
+                        });
+    }
+
+    @Test
+    void testIdenticalFiltersShareNodeFilter() throws Exception {
+        List<Log> first = new ArrayList<>();
+        List<Log> second = new ArrayList<>();
+        new LogFilter(web3j, first::add, ethFilter()).run(filterPoller);
+        new LogFilter(web3j, second::add, ethFilter()).run(filterPoller);
+
+        filterPoller.poll();
+
+        assertEquals(1, filterPoller.getInstalledFilterCount());
+        verify(web3jService, times(1)).send(any(Request.class), eq(EthFilter.class));
+        assertEquals(Collections.singletonList("0x1"), data(first));
+        assertEquals(Collections.singletonList("0x1"), data(second));
+    }
+
+    @Test
+    void testFiltersArePolledInOneBatch() throws Exception {
+        List<Log> logs = new ArrayList<>();
+        List<String> blockHashes = new ArrayList<>();
+        new LogFilter(web3j, logs::add, ethFilter()).run(filterPoller);
+        new LogFilter(web3j, logs::add, ethFilter().addSingleTopic("0x01")).run(filterPoller);
+        blockFilterIds.add("0x3");
+        new BlockFilter(web3j, blockHashes::add).run(filterPoller);
+
+        filterPoller.poll();
+
+        assertEquals(3, filterPoller.getInstalledFilterCount());
+        verify(web3jService, times(1)).sendBatch(any(BatchRequest.class));
+        assertEquals(2, logs.size());
+        assertEquals(Collections.singletonList("0x3"), blockHashes);
+    }
+
+    @Test
+    void testNodeFilterUninstalledWithLastFilter() throws Exception {
+        LogFilter first = new LogFilter(web3j, log -> {}, ethFilter());
+        LogFilter second = new LogFilter(web3j, log -> {}, ethFilter());
+        first.run(filterPoller);
+        second.run(filterPoller);
+
+        first.cancel();
+        assertEquals(1, filterPoller.getInstalledFilterCount());
+        verify(web3jService, never()).send(any(Request.class), eq(EthUninstallFilter.class));
+
+        second.cancel();
+        assertEquals(0, filterPoller.getInstalledFilterCount());
+        verify(web3jService, times(1)).send(any(Request.class), eq(EthUninstallFilter.class));
+    }
+
+    @Test
+    void testMissingFilterIsReinstalled() throws Exception {
+        List<Log> logs = new ArrayList<>();
+        new LogFilter(web3j, logs::add, ethFilter()).run(filterPoller);
+        notFoundFilterIds.add("0x1");
+
+        filterPoller.poll();
+        filterPoller.poll();
+
+        verify(web3jService, times(2)).send(any(Request.class), eq(EthFilter.class));
+        assertEquals(Collections.singletonList("0x2"), data(logs));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testHeadDrivenPollerPollsOnNewHead() throws Exception {
+        HeadTracker headTracker = mock(HeadTracker.class);
+        FilterPoller headDrivenPoller = new FilterPoller(web3j, headTracker);
+        List<Log> logs = new ArrayList<>();
+        LogFilter filter = new LogFilter(web3j, logs::add, ethFilter());
+        filter.run(headDrivenPoller);
+
+        ArgumentCaptor<Consumer<BigInteger>> listener = ArgumentCaptor.forClass((Class) Consumer.class);
+        verify(headTracker).addListener(listener.capture());
+        verify(web3jService, never()).sendBatch(any(BatchRequest.class));
+
+        listener.getValue().accept(BigInteger.TEN);
+        assertEquals(Collections.singletonList("0x1"), data(logs));
+
+        filter.cancel();
+        verify(headTracker).removeListener(listener.getValue());
+    }
+
+    @Test
+    void testInstallDoesNotBlockPolling() throws Exception {
+        List<Log> logs = new ArrayList<>();
+        new LogFilter(web3j, logs::add, ethFilter()).run(filterPoller);
+
+        CountDownLatch installing = new CountDownLatch(1);
+        CountDownLatch installed = new CountDownLatch(1);
+        EthFilter blockFilter = new EthFilter();
+        blockFilter.setResult("0x2");
+        when(web3jService.send(any(Request.class), eq(EthFilter.class)))
+                .thenAnswer(
+                        invocation -> {
+                            installing.countDown();
+                            installed.await(5, TimeUnit.SECONDS);
+                            return blockFilter;
+                        });
+        Thread registration =
+                new Thread(() -> new BlockFilter(web3j, blockHash -> {}).run(filterPoller));
+        registration.start();
+        assertTrue(installing.await(5, TimeUnit.SECONDS));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> filterPoller.poll());
+        assertEquals(Collections.singletonList("0x1"), data(logs));
+
+        installed.countDown();
+        registration.join(5000);
+        assertEquals(2, filterPoller.getInstalledFilterCount());
+    }
+
+    private static org.web3j.protocol.core.methods.request.EthFilter ethFilter() {
+        return new org.web3j.protocol.core.methods.request.EthFilter(
+                DefaultBlockParameterName.LATEST, DefaultBlockParameterName.LATEST, ADDRESS);
+    }
+
+    private static EthLog emptyLog() {
+        EthLog ethLog = new EthLog();
+        ethLog.setResult(Collections.emptyList());
+        return ethLog;
+    }
+
+    private EthLog.LogResult changeFor(String filterId) {
+        if (blockFilterIds.contains(filterId)) {
+            return new EthLog.Hash(filterId);
+        }
+        EthLog.LogObject log = new EthLog.LogObject();
+        log.setAddress(ADDRESS);
+        log.setData(filterId);
+        return log;
+    }
+
+    private static List<String> data(List<Log> logs) {
+        List<String> data = new ArrayList<>();
+        for (Log log : logs) {
+            data.add(log.getData());
+        }
+        return data;
+    }
+}
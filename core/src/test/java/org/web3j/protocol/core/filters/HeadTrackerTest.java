@@ -0,0 +1,179 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core.filters;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import io.reactivex.Flowable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.websocket.events.NewHeadsNotification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HeadTrackerTest {
+
+    private Web3jService web3jService;
+    private ScheduledExecutorService scheduledExecutorService;
+    private ScheduledFuture<?> scheduledFuture;
+    private HeadTracker headTracker;
+
+    @BeforeEach
+    void setUp() {
+        web3jService = mock(Web3jService.class);
+        scheduledExecutorService = mock(ScheduledExecutorService.class);
+        scheduledFuture = mock(ScheduledFuture.class);
+        doReturn(scheduledFuture)
+                .when(scheduledExecutorService)
+                .schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        doAnswer(
+                        invocation -> {
+                            ((Runnable) invocation.getArgument(0)).run();
+                            return null;
+                        })
+                .when(scheduledExecutorService)
+                .execute(any(Runnable.class));
+
+        Web3j web3j = Web3j.build(web3jService, 1000, scheduledExecutorService);
+        headTracker = new HeadTracker(web3j, scheduledExecutorService, 100, 1000);
+    }
+
+    @Test
+    void testPollingBacksOffWhileChainIsIdle() throws Exception {
+        when(web3jService.subscribe(
+                        any(Request.class), anyString(), eq(NewHeadsNotification.class)))
+                .thenThrow(new UnsupportedOperationException());
+        when(web3jService.send(any(Request.class), eq(EthBlockNumber.class)))
+                .thenReturn(blockNumber(1), blockNumber(1), blockNumber(1), blockNumber(2));
+
+        List<BigInteger> heads = new ArrayList<>();
+        headTracker.addListener(heads::add);
+
+        headTracker.poll();
+        assertEquals(100, headTracker.getPollingInterval());
+        headTracker.poll();
+        assertEquals(200, headTracker.getPollingInterval());
+        headTracker.poll();
+        assertEquals(400, headTracker.getPollingInterval());
+        headTracker.poll();
+        assertEquals(100, headTracker.getPollingInterval());
+
+        assertEquals(Arrays.asList(BigInteger.ONE, BigInteger.valueOf(2)), heads);
+    }
+
+    @Test
+    void testPollingIntervalIsCapped() throws Exception {
+        when(web3jService.subscribe(
+                        any(Request.class), anyString(), eq(NewHeadsNotification.class)))
+                .thenThrow(new UnsupportedOperationException());
+        when(web3jService.send(any(Request.class), eq(EthBlockNumber.class)))
+                .thenReturn(blockNumber(1));
+
+        headTracker.addListener(head -> {});
+        for (int i = 0; i < 10; i++) {
+            headTracker.poll();
+        }
+
+        assertEquals(1000, headTracker.getPollingInterval());
+    }
+
+    @Test
+    void testNewHeadsSubscriptionIsPreferred() throws Exception {
+        when(web3jService.subscribe(
+                        any(Request.class), anyString(), eq(NewHeadsNotification.class)))
+                .thenReturn(Flowable.just(newHead("0x10"), newHead("0x10"), newHead("0x11")));
+
+        List<BigInteger> heads = new ArrayList<>();
+        headTracker.addListener(heads::add);
+
+        assertEquals(Arrays.asList(BigInteger.valueOf(16), BigInteger.valueOf(17)), heads);
+        verify(web3jService, never()).send(any(Request.class), eq(EthBlockNumber.class));
+    }
+
+    @Test
+    void testTrackingStopsWithLastListener() {
+        when(web3jService.subscribe(
+                        any(Request.class), anyString(), eq(NewHeadsNotification.class)))
+                .thenThrow(new UnsupportedOperationException());
+
+        Consumer<BigInteger> listener = head -> {};
+        headTracker.addListener(listener);
+        headTracker.removeListener(listener);
+
+        verify(scheduledFuture).cancel(false);
+    }
+
+    @Test
+    void testPollFromStoppedRunIsNotRescheduled() throws Exception {
+        when(web3jService.subscribe(
+                        any(Request.class), anyString(), eq(NewHeadsNotification.class)))
+                .thenThrow(new UnsupportedOperationException());
+        Consumer<BigInteger> first = head -> {};
+        Consumer<BigInteger> second = head -> {};
+        // The last listener is replaced while the poll is waiting for its response
+        when(web3jService.send(any(Request.class), eq(EthBlockNumber.class)))
+                .thenAnswer(
+                        invocation -> {
+                            headTracker.removeListener(first);
+                            headTracker.addListener(second);
+                            return blockNumber(1);
+                        });
+
+        headTracker.addListener(first);
+        headTracker.poll();
+
+        // One poll for each start, and none from the poll that outlived its run
+        verify(scheduledExecutorService, times(2))
+                .schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    private static EthBlockNumber blockNumber(long blockNumber) {
+        EthBlockNumber ethBlockNumber = new EthBlockNumber();
+        ethBlockNumber.setResult("0x" + Long.toHexString(blockNumber));
+        return ethBlockNumber;
+    }
+
+    private static NewHeadsNotification newHead(String number) throws Exception {
+        return ObjectMapperFactory.getObjectMapper()
+                .readValue(
+                        "{\"jsonrpc\":\"2.0\",\"method\":\"eth_subscription\",\"params\":"
+                                + "{\"subscription\":\"0x1\",\"result\":{\"number\":\""
+                                + number
+                                + "\"}}}",
+                        NewHeadsNotification.class);
+    }
+}
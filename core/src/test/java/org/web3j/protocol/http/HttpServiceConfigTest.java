@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.http;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.zip.GZIPInputStream;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HttpServiceConfigTest {
+
+    @Test
+    void testDefaults() {
+        OkHttpClient client =
+                HttpService.getOkHttpClientBuilder(new HttpServiceConfig.Builder().build()).build();
+
+        assertEquals(
+                HttpServiceConfig.DEFAULT_MAX_REQUESTS, client.dispatcher().getMaxRequests());
+        assertEquals(
+                HttpServiceConfig.DEFAULT_MAX_REQUESTS_PER_HOST,
+                client.dispatcher().getMaxRequestsPerHost());
+        assertTrue(client.protocols().contains(Protocol.HTTP_1_1));
+    }
+
+    @Test
+    void testTuning() {
+        HttpServiceConfig config =
+                new HttpServiceConfig.Builder()
+                        .withMaxIdleConnections(64)
+                        .withKeepAliveMillis(30_000)
+                        .withMaxRequests(512)
+                        .withMaxRequestsPerHost(512)
+                        .withHttp2PriorKnowledge(true)
+                        .withStreamResponses(true)
+                        .withNonBlockingAsync(true)
+                        .build();
+        OkHttpClient client = HttpService.getOkHttpClientBuilder(config).build();
+
+        assertEquals(512, client.dispatcher().getMaxRequests());
+        assertEquals(512, client.dispatcher().getMaxRequestsPerHost());
+        assertEquals(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE), client.protocols());
+
+        HttpService httpService = new HttpService("http://localhost:8545", config);
+        assertTrue(httpService.isStreamResponses());
+        assertTrue(httpService.isNonBlockingAsync());
+    }
+
+    @Test
+    void testInvalidSettings() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new HttpServiceConfig.Builder().withMaxRequestsPerHost(0));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new HttpServiceConfig.Builder().withKeepAliveMillis(0));
+    }
+
+    @Test
+    void testGzipRequests() throws IOException {
+        String content =
+                "{\"jsonrpc\":\"2.0\",\"method\":\"eth_blockNumber\",\"params\":[],\"id\":1}";
+        Request[] sent = new Request[1];
+        OkHttpClient client =
+                new OkHttpClient.Builder()
+                        .addInterceptor(new GzipRequestInterceptor())
+                        .addInterceptor(
+                                chain -> {
+                                    sent[0] = chain.request();
+                                    return new okhttp3.Response.Builder()
+                                            .request(chain.request())
+                                            .protocol(Protocol.HTTP_1_1)
+                                            .code(200)
+                                            .message("")
+                                            .body(ResponseBody.create("", null))
+                                            .build();
+                                })
+                        .build();
+
+        client.newCall(
+                        new Request.Builder()
+                                .url(HttpService.DEFAULT_URL)
+                                .post(RequestBody.create(content, HttpService.JSON_MEDIA_TYPE))
+                                .build())
+                .execute()
+                .close();
+
+        assertEquals("gzip", sent[0].header("Content-Encoding"));
+        Buffer body = new Buffer();
+        sent[0].body().writeTo(body);
+        try (GZIPInputStream inputStream = new GZIPInputStream(body.inputStream())) {
+            assertEquals(content, new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertTrue(sent[0].body().contentLength() > 0);
+    }
+}
@@ -13,11 +13,16 @@
 package org.web3j.protocol.http;
 
 import java.io.IOException;
+import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
 import okhttp3.Response;
@@ -32,6 +37,7 @@ import org.web3j.protocol.exceptions.ClientConnectionException;
 import org.web3j.protocol.websocket.events.NewHeadsNotification;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -107,6 +113,127 @@ class HttpServiceTest {
         fail("No exception");
     }
 
+    @Test
+    void streamedResponse() throws IOException {
+        String content = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x1\"}";
+        HttpService streamingHttpService = new HttpService(mockHttpClient(content));
+        streamingHttpService.setStreamResponses(true);
+
+        EthBlockNumber response =
+                streamingHttpService.send(
+                        new Request<>(
+                                "eth_blockNumber",
+                                Collections.emptyList(),
+                                streamingHttpService,
+                                EthBlockNumber.class),
+                        EthBlockNumber.class);
+
+        assertEquals(BigInteger.ONE, response.getBlockNumber());
+        assertNull(response.getRawResponse());
+    }
+
+    @Test
+    void streamedResponseBufferedWhenRawResponsesIncluded() throws IOException {
+        String content = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x1\"}";
+        HttpService streamingHttpService =
+                new HttpService(HttpService.DEFAULT_URL, mockHttpClient(content), true);
+        streamingHttpService.setStreamResponses(true);
+
+        EthBlockNumber response =
+                streamingHttpService.send(
+                        new Request<>(
+                                "eth_blockNumber",
+                                Collections.emptyList(),
+                                streamingHttpService,
+                                EthBlockNumber.class),
+                        EthBlockNumber.class);
+
+        assertEquals(BigInteger.ONE, response.getBlockNumber());
+        assertEquals(content, response.getRawResponse());
+    }
+
+    @Test
+    void nonBlockingAsyncRequest() throws Exception {
+        String content = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x1\"}";
+        OkHttpClient httpClient = mockHttpClient(content);
+        HttpService asyncHttpService = new HttpService(httpClient);
+        asyncHttpService.setNonBlockingAsync(true);
+
+        EthBlockNumber response =
+                new Request<>(
+                                "eth_blockNumber",
+                                Collections.emptyList(),
+                                asyncHttpService,
+                                EthBlockNumber.class)
+                        .sendAsync()
+                        .get(1, TimeUnit.SECONDS);
+
+        assertEquals(BigInteger.ONE, response.getBlockNumber());
+    }
+
+    @Test
+    void nonBlockingAsyncRequestFailure() {
+        OkHttpClient httpClient = Mockito.mock(OkHttpClient.class);
+        Mockito.when(httpClient.newCall(Mockito.any()))
+                .thenAnswer(
+                        invocation -> {
+                            Call call = Mockito.mock(Call.class);
+                            Mockito.doAnswer(
+                                            enqueue -> {
+                                                Callback callback = enqueue.getArgument(0);
+                                                callback.onFailure(
+                                                        call, new IOException("Connection reset"));
+                                                return null;
+                                            })
+                                    .when(call)
+                                    .enqueue(Mockito.any());
+                            return call;
+                        });
+        HttpService asyncHttpService = new HttpService(httpClient);
+        asyncHttpService.setNonBlockingAsync(true);
+
+        CompletableFuture<EthBlockNumber> result =
+                new Request<>(
+                                "eth_blockNumber",
+                                Collections.emptyList(),
+                                asyncHttpService,
+                                EthBlockNumber.class)
+                        .sendAsync();
+
+        ExecutionException e = assertThrows(ExecutionException.class, result::get);
+        assertEquals("Connection reset", e.getCause().getMessage());
+    }
+
+    private static OkHttpClient mockHttpClient(String content) {
+        OkHttpClient httpClient = Mockito.mock(OkHttpClient.class);
+        Mockito.when(httpClient.newCall(Mockito.any()))
+                .thenAnswer(
+                        invocation -> {
+                            Response response =
+                                    new Response.Builder()
+                                            .code(200)
+                                            .message("")
+                                            .body(
+                                                    ResponseBody.create(
+                                                            content, HttpService.JSON_MEDIA_TYPE))
+                                            .request(invocation.getArgument(0))
+                                            .protocol(Protocol.HTTP_1_1)
+                                            .build();
+                            Call call = Mockito.mock(Call.class);
+                            Mockito.when(call.execute()).thenReturn(response);
+                            Mockito.doAnswer(
+                                            enqueue -> {
+                                                Callback callback = enqueue.getArgument(0);
+                                                callback.onResponse(call, response);
+                                                return null;
+                                            })
+                                    .when(call)
+                                    .enqueue(Mockito.any());
+                            return call;
+                        });
+        return httpClient;
+    }
+
     @Test
     void subscriptionNotSupported() {
         Request<Object, EthSubscribe> subscribeRequest =
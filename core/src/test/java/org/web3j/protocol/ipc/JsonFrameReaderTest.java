@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.ipc;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JsonFrameReaderTest {
+
+    private final JsonFrameReader frameReader = new JsonFrameReader(4);
+    private final List<String> frames = new ArrayList<>();
+
+    @Test
+    void testSingleFrame() {
+        read("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x1\"}\n");
+
+        assertEquals(1, frames.size());
+        assertEquals("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x1\"}", frames.get(0));
+    }
+
+    @Test
+    void testFrameSplitAcrossReads() {
+        read("{\"id\":1,\"res");
+        assertEquals(0, frames.size());
+
+        read("ult\":[1,{\"a\":2}]}");
+        assertEquals(1, frames.size());
+        assertEquals("{\"id\":1,\"result\":[1,{\"a\":2}]}", frames.get(0));
+    }
+
+    @Test
+    void testMultipleFramesWithoutDelimiter() {
+        read("{\"id\":1}[{\"id\":2},{\"id\":3}]\n{\"id\":4}");
+
+        assertEquals(3, frames.size());
+        assertEquals("{\"id\":1}", frames.get(0));
+        assertEquals("[{\"id\":2},{\"id\":3}]", frames.get(1));
+        assertEquals("{\"id\":4}", frames.get(2));
+    }
+
+    @Test
+    void testBracketsInStrings() {
+        read("{\"error\":\"unexpected } in \\\"{[\\\" \\\\\"}");
+
+        assertEquals(1, frames.size());
+        assertEquals("{\"error\":\"unexpected } in \\\"{[\\\" \\\\\"}", frames.get(0));
+    }
+
+    @Test
+    void testOversizedFrameBufferIsReleased() {
+        JsonFrameReader boundedReader = new JsonFrameReader(4, 16);
+        String frame = "{\"id\":1,\"result\":\"0x0123456789abcdef0123456789\"}";
+
+        boundedReader.read(
+                ByteBuffer.wrap(frame.getBytes(StandardCharsets.UTF_8)),
+                value -> frames.add(new String(value, StandardCharsets.UTF_8)));
+
+        assertEquals(Collections.singletonList(frame), frames);
+        assertEquals(4, boundedReader.getCapacity());
+    }
+
+    private void read(String chunk) {
+        frameReader.read(
+                ByteBuffer.wrap(chunk.getBytes(StandardCharsets.UTF_8)),
+                frame -> frames.add(new String(frame, StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.ipc;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.disposables.Disposable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthSubscribe;
+import org.web3j.protocol.core.methods.response.NetVersion;
+import org.web3j.protocol.core.methods.response.Web3ClientVersion;
+import org.web3j.protocol.websocket.events.NewHead;
+import org.web3j.protocol.websocket.events.NewHeadsNotification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PersistentUnixIpcServiceTest {
+
+    private Pipe requests;
+    private Pipe replies;
+    private ScheduledThreadPoolExecutor executor;
+    private PersistentUnixIpcService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        requests = Pipe.open();
+        replies = Pipe.open();
+        executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+        service = new PersistentUnixIpcService(replies.source(), requests.sink(), executor, false);
+        service.connect();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        replies.sink().close();
+        service.close();
+    }
+
+    @Test
+    void testRepliesAreMatchedById() throws Exception {
+        Request<?, Web3ClientVersion> clientVersion =
+                new Request<>(
+                        "web3_clientVersion",
+                        Collections.<String>emptyList(),
+                        service,
+                        Web3ClientVersion.class);
+        clientVersion.setId(1);
+        Request<?, NetVersion> netVersion =
+                new Request<>(
+                        "net_version", Collections.<String>emptyList(), service, NetVersion.class);
+        netVersion.setId(2);
+
+        CompletableFuture<Web3ClientVersion> first = clientVersion.sendAsync();
+        CompletableFuture<NetVersion> second = netVersion.sendAsync();
+        assertFalse(first.isDone());
+        assertFalse(second.isDone());
+
+        reply("{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":\"59\"}");
+        reply("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"Geth/v1.5.4-stable\"}\n");
+
+        assertEquals("59", second.get(1, TimeUnit.SECONDS).getNetVersion());
+        assertEquals("Geth/v1.5.4-stable", first.get(1, TimeUnit.SECONDS).getWeb3ClientVersion());
+        assertFalse(service.isWaitingForReply(1));
+        assertFalse(service.isWaitingForReply(2));
+    }
+
+    @Test
+    void testReplyCancelsRequestTimeout() throws Exception {
+        Request<?, NetVersion> netVersion =
+                new Request<>(
+                        "net_version", Collections.<String>emptyList(), service, NetVersion.class);
+        netVersion.setId(3);
+        CompletableFuture<NetVersion> reply = netVersion.sendAsync();
+        assertEquals(1, executor.getQueue().size());
+
+        reply("{\"jsonrpc\":\"2.0\",\"id\":3,\"result\":\"59\"}");
+        reply.get(1, TimeUnit.SECONDS);
+
+        for (int attempt = 0; attempt < 100 && !executor.getQueue().isEmpty(); attempt++) {
+            Thread.sleep(10);
+        }
+        assertTrue(executor.getQueue().isEmpty());
+    }
+
+    @Test
+    void testRequestIsWritten() throws Exception {
+        Request<?, NetVersion> netVersion =
+                new Request<>(
+                        "net_version", Collections.<String>emptyList(), service, NetVersion.class);
+        netVersion.setId(7);
+        netVersion.sendAsync();
+
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        requests.source().read(buffer);
+        buffer.flip();
+
+        assertEquals(
+                "{\"jsonrpc\":\"2.0\",\"method\":\"net_version\",\"params\":[],\"id\":7}",
+                StandardCharsets.UTF_8.decode(buffer).toString());
+        assertTrue(service.isWaitingForReply(7));
+    }
+
+    @Test
+    void testBatchReply() throws Exception {
+        BatchRequest batchRequest = new BatchRequest(service);
+        Request<?, Web3ClientVersion> clientVersion =
+                new Request<>(
+                        "web3_clientVersion",
+                        Collections.<String>emptyList(),
+                        service,
+                        Web3ClientVersion.class);
+        clientVersion.setId(10);
+        Request<?, NetVersion> netVersion =
+                new Request<>(
+                        "net_version", Collections.<String>emptyList(), service, NetVersion.class);
+        netVersion.setId(11);
+        batchRequest.add(clientVersion).add(netVersion);
+
+        CompletableFuture<BatchResponse> result = batchRequest.sendAsync();
+        reply(
+                "[{\"jsonrpc\":\"2.0\",\"id\":11,\"result\":\"59\"},"
+                        + "{\"jsonrpc\":\"2.0\",\"id\":10,\"result\":\"Geth/v1.5.4-stable\"}]");
+
+        BatchResponse response = result.get(1, TimeUnit.SECONDS);
+        assertEquals(
+                "Geth/v1.5.4-stable",
+                ((Web3ClientVersion) response.getResponses().get(0)).getWeb3ClientVersion());
+        assertEquals("59", ((NetVersion) response.getResponses().get(1)).getNetVersion());
+    }
+
+    @Test
+    void testOutstandingRequestsFailOnClose() throws Exception {
+        CompletableFuture<NetVersion> result =
+                new Request<>(
+                                "net_version",
+                                Collections.<String>emptyList(),
+                                service,
+                                NetVersion.class)
+                        .sendAsync();
+
+        replies.sink().close();
+
+        ExecutionException e =
+                assertThrows(ExecutionException.class, () -> result.get(1, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof IOException);
+    }
+
+    @Test
+    void testSubscriptionEventsAreDelivered() throws Exception {
+        Request<Object, EthSubscribe> subscribeRequest =
+                new Request<>(
+                        "eth_subscribe",
+                        Arrays.asList("newHeads", Collections.emptyMap()),
+                        service,
+                        EthSubscribe.class);
+        subscribeRequest.setId(20);
+
+        CountDownLatch eventReceived = new CountDownLatch(1);
+        Executors.newSingleThreadScheduledExecutor()
+                .schedule(
+                        () -> {
+                            reply(
+                                    "{\"jsonrpc\":\"2.0\",\"id\":20,"
+                                            + "\"result\":\"0xcd0c3e8af590364c\"}");
+                            reply(
+                                    "{\"jsonrpc\":\"2.0\",\"method\":\"eth_subscription\","
+                                            + "\"params\":{\"subscription\":\"0xcd0c3e8af590364c\","
+                                            + "\"result\":{\"number\":\"0x1\"}}}");
+                            return null;
+                        },
+                        100,
+                        TimeUnit.MILLISECONDS);
+
+        Disposable disposable =
+                service.subscribe(subscribeRequest, "eth_unsubscribe", NewHeadsNotification.class)
+                        .subscribe(
+                                notification -> {
+                                    NewHead newHead = notification.getParams().getResult();
+                                    assertEquals("0x1", newHead.getNumber());
+                                    eventReceived.countDown();
+                                });
+
+        assertTrue(eventReceived.await(1, TimeUnit.SECONDS));
+        disposable.dispose();
+    }
+
+    @Test
+    void testSubscriptionErrorIsPropagated() throws Exception {
+        Request<Object, EthSubscribe> subscribeRequest =
+                new Request<>(
+                        "eth_subscribe",
+                        Arrays.asList("newHeads", Collections.emptyMap()),
+                        service,
+                        EthSubscribe.class);
+        subscribeRequest.setId(21);
+
+        Executors.newSingleThreadScheduledExecutor()
+                .schedule(
+                        () -> {
+                            reply(
+                                    "{\"jsonrpc\":\"2.0\",\"id\":21,"
+                                            + "\"error\":{\"code\":-32601,"
+                                            + "\"message\":\"notifications not supported\"}}");
+                            return null;
+                        },
+                        100,
+                        TimeUnit.MILLISECONDS);
+
+        CountDownLatch errorReceived = new CountDownLatch(1);
+        service.subscribe(subscribeRequest, "eth_unsubscribe", NewHeadsNotification.class)
+                .subscribe(notification -> {}, throwable -> errorReceived.countDown());
+
+        assertTrue(errorReceived.await(1, TimeUnit.SECONDS));
+    }
+
+    private void reply(String message) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(message.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            replies.sink().write(buffer);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthGetBlockReceipts;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BlockReceiptsFetcherTest {
+
+    private Web3jService web3jService;
+    private BlockReceiptsFetcher blockReceiptsFetcher;
+    private String batchBlockHash;
+
+    @BeforeEach
+    void setUp() {
+        web3jService = mock(Web3jService.class);
+        Web3j web3j = Web3j.build(web3jService, 1000, Executors.newSingleThreadScheduledExecutor());
+        blockReceiptsFetcher = new BlockReceiptsFetcher(web3j);
+        batchBlockHash = "0xb1";
+
+        when(web3jService.sendBatchAsync(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest batchRequest = invocation.getArgument(0);
+                            List<Response<?>> responses = new ArrayList<>();
+                            for (Request<?, ?> request : batchRequest.getRequests()) {
+                                EthGetTransactionReceipt response = new EthGetTransactionReceipt();
+                                response.setId(request.getId());
+                                if (batchBlockHash != null) {
+                                    response.setResult(
+                                            receipt(
+                                                    (String) request.getParams().get(0),
+                                                    batchBlockHash));
+                                }
+                                responses.add(response);
+                            }
+                            return CompletableFuture.completedFuture(
+                                    new BatchResponse(batchRequest.getRequests(), responses));
+                        });
+    }
+
+    @Test
+    void testReceiptsAreFetchedWithBlockReceipts() {
+        EthGetBlockReceipts blockReceipts = new EthGetBlockReceipts();
+        blockReceipts.setResult(Arrays.asList(receipt("0x1", "0xb1"), receipt("0x2", "0xb1")));
+        when(web3jService.sendAsync(any(Request.class), eq(EthGetBlockReceipts.class)))
+                .thenReturn(CompletableFuture.completedFuture(blockReceipts));
+
+        BlockWithReceipts blockWithReceipts =
+                blockReceiptsFetcher.fetch(block("0xb1", "0x1", "0x2")).blockingGet();
+
+        assertEquals(Arrays.asList("0x1", "0x2"), transactionHashes(blockWithReceipts));
+        verify(web3jService, never()).sendBatchAsync(any(BatchRequest.class));
+    }
+
+    @Test
+    void testFallsBackToBatchWhenBlockReceiptsIsNotSupported() {
+        EthGetBlockReceipts blockReceipts = new EthGetBlockReceipts();
+        blockReceipts.setError(new Response.Error(-32601, "Method not found"));
+        when(web3jService.sendAsync(any(Request.class), eq(EthGetBlockReceipts.class)))
+                .thenReturn(CompletableFuture.completedFuture(blockReceipts));
+
+        BlockWithReceipts first =
+                blockReceiptsFetcher.fetch(block("0xb1", "0x1", "0x2")).blockingGet();
+        BlockWithReceipts second = blockReceiptsFetcher.fetch(block("0xb1", "0x3")).blockingGet();
+
+        assertEquals(Arrays.asList("0x1", "0x2"), transactionHashes(first));
+        assertEquals(Collections.singletonList("0x3"), transactionHashes(second));
+        verify(web3jService, times(1))
+                .sendAsync(any(Request.class), eq(EthGetBlockReceipts.class));
+        verify(web3jService, times(2)).sendBatchAsync(any(BatchRequest.class));
+    }
+
+    @Test
+    void testReceiptsOfAReplacedBlockAreRefetched() {
+        EthGetBlockReceipts blockReceipts = new EthGetBlockReceipts();
+        blockReceipts.setResult(Collections.singletonList(receipt("0x9", "0xb2")));
+        when(web3jService.sendAsync(any(Request.class), eq(EthGetBlockReceipts.class)))
+                .thenReturn(CompletableFuture.completedFuture(blockReceipts));
+
+        BlockWithReceipts blockWithReceipts =
+                blockReceiptsFetcher.fetch(block("0xb1", "0x1")).blockingGet();
+
+        assertEquals(Collections.singletonList("0x1"), transactionHashes(blockWithReceipts));
+    }
+
+    @Test
+    void testBlockReplacedAgainBeforeRefetchIsSkipped() {
+        EthGetBlockReceipts blockReceipts = new EthGetBlockReceipts();
+        blockReceipts.setResult(Collections.singletonList(receipt("0x9", "0xb2")));
+        when(web3jService.sendAsync(any(Request.class), eq(EthGetBlockReceipts.class)))
+                .thenReturn(CompletableFuture.completedFuture(blockReceipts));
+        batchBlockHash = "0xb3";
+
+        assertNull(blockReceiptsFetcher.fetch(block("0xb1", "0x1")).blockingGet());
+    }
+
+    @Test
+    void testBlockWithReceiptNotFoundIsSkipped() {
+        EthGetBlockReceipts blockReceipts = new EthGetBlockReceipts();
+        blockReceipts.setError(new Response.Error(-32601, "Method not found"));
+        when(web3jService.sendAsync(any(Request.class), eq(EthGetBlockReceipts.class)))
+                .thenReturn(CompletableFuture.completedFuture(blockReceipts));
+        batchBlockHash = null;
+
+        assertNull(blockReceiptsFetcher.fetch(block("0xb1", "0x1")).blockingGet());
+    }
+
+    @Test
+    void testEmptyBlockNeedsNoRequests() {
+        BlockWithReceipts blockWithReceipts =
+                blockReceiptsFetcher.fetch(block("0xb1")).blockingGet();
+
+        assertEquals(Collections.emptyList(), blockWithReceipts.getReceipts());
+        verify(web3jService, never()).sendAsync(any(Request.class), any());
+        verify(web3jService, never()).sendBatchAsync(any(BatchRequest.class));
+    }
+
+    private static EthBlock block(String hash, String... transactionHashes) {
+        List<EthBlock.TransactionResult> transactions = new ArrayList<>();
+        for (String transactionHash : transactionHashes) {
+            transactions.add(new EthBlock.TransactionHash(transactionHash));
+        }
+        EthBlock.Block block = new EthBlock.Block();
+        block.setHash(hash);
+        block.setNumber(Numeric.encodeQuantity(BigInteger.ONE));
+        block.setTransactions(transactions);
+        EthBlock ethBlock = new EthBlock();
+        ethBlock.setResult(block);
+        return ethBlock;
+    }
+
+    private static TransactionReceipt receipt(String transactionHash, String blockHash) {
+        TransactionReceipt receipt = new TransactionReceipt();
+        receipt.setTransactionHash(transactionHash);
+        receipt.setBlockHash(blockHash);
+        return receipt;
+    }
+
+    private static List<String> transactionHashes(BlockWithReceipts blockWithReceipts) {
+        return blockWithReceipts.getReceipts().stream()
+                .map(TransactionReceipt::getTransactionHash)
+                .collect(Collectors.toList());
+    }
+}
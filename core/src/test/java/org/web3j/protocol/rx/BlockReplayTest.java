@@ -0,0 +1,213 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import io.reactivex.subscribers.TestSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BlockReplayTest {
+
+    private Web3jService web3jService;
+    private Web3j web3j;
+    private List<CompletableFuture<BatchResponse>> pending;
+    private List<BatchRequest> batches;
+
+    @BeforeEach
+    void setUp() {
+        web3jService = mock(Web3jService.class);
+        web3j = Web3j.build(web3jService, 1000, Executors.newSingleThreadScheduledExecutor());
+        pending = new ArrayList<>();
+        batches = new ArrayList<>();
+        when(web3jService.sendBatchAsync(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest batchRequest = invocation.getArgument(0);
+                            CompletableFuture<BatchResponse> future = new CompletableFuture<>();
+                            batches.add(batchRequest);
+                            pending.add(future);
+                            return future;
+                        });
+    }
+
+    @Test
+    void testBlocksAreEmittedInOrder() {
+        BlockReplay replay =
+                new BlockReplay.Builder(web3j, BigInteger.ZERO, BigInteger.valueOf(4))
+                        .withBatchSize(2)
+                        .withParallelism(3)
+                        .build();
+
+        TestSubscriber<EthBlock> subscriber = replay.flowable().test();
+        assertEquals(3, pending.size());
+
+        // Later batches complete first, but are held back until earlier ones are emitted
+        completeBatch(2);
+        completeBatch(1);
+        subscriber.assertNoValues();
+        completeBatch(0);
+
+        subscriber.assertComplete();
+        assertEquals(Arrays.asList(0L, 1L, 2L, 3L, 4L), blockNumbers(subscriber.values()));
+    }
+
+    @Test
+    void testBatchesAreRequestedOnDemand() {
+        BlockReplay replay =
+                new BlockReplay.Builder(web3j, BigInteger.ZERO, BigInteger.valueOf(99))
+                        .withBatchSize(10)
+                        .withParallelism(2)
+                        .build();
+
+        TestSubscriber<EthBlock> subscriber = replay.flowable().test(0);
+        assertEquals(2, pending.size());
+        assertEquals(10, batches.get(0).getRequests().size());
+
+        completeBatch(0);
+        completeBatch(1);
+        subscriber.assertNoValues();
+        // Without demand, at most one completed batch is handed on while the rest wait
+        assertTrue(pending.size() <= 3);
+
+        subscriber.request(10);
+        assertEquals(10, subscriber.valueCount());
+
+        subscriber.request(Long.MAX_VALUE);
+        for (int i = 2; i < pending.size(); i++) {
+            completeBatch(i);
+        }
+        subscriber.assertComplete();
+        assertEquals(100, subscriber.valueCount());
+        assertEquals(10, pending.size());
+    }
+
+    @Test
+    void testDescendingReplay() {
+        BlockReplay replay =
+                new BlockReplay.Builder(web3j, BigInteger.ZERO, BigInteger.valueOf(2))
+                        .withBatchSize(2)
+                        .withAscending(false)
+                        .build();
+
+        TestSubscriber<EthBlock> subscriber = replay.flowable().test();
+        completeBatch(0);
+        completeBatch(1);
+
+        subscriber.assertComplete();
+        assertEquals(Arrays.asList(2L, 1L, 0L), blockNumbers(subscriber.values()));
+    }
+
+    @Test
+    void testCheckpointAndResume() {
+        List<BigInteger> checkpoints = new ArrayList<>();
+        BlockReplay replay =
+                new BlockReplay.Builder(web3j, BigInteger.ZERO, BigInteger.valueOf(5))
+                        .withBatchSize(2)
+                        .withCheckpointListener(checkpoints::add)
+                        .withResumeFrom(BigInteger.ONE)
+                        .build();
+
+        TestSubscriber<EthBlock> subscriber = replay.flowable().test();
+        completeBatch(0);
+        completeBatch(1);
+
+        subscriber.assertComplete();
+        assertEquals(Arrays.asList(2L, 3L, 4L, 5L), blockNumbers(subscriber.values()));
+        assertEquals(Arrays.asList(BigInteger.valueOf(3), BigInteger.valueOf(5)), checkpoints);
+    }
+
+    @Test
+    void testFailedBatchIsRetried() {
+        BlockReplay replay =
+                new BlockReplay.Builder(web3j, BigInteger.ZERO, BigInteger.ONE)
+                        .withMaxRetries(1)
+                        .build();
+
+        TestSubscriber<EthBlock> subscriber = replay.flowable().test();
+        pending.get(0).completeExceptionally(new IOException("connection reset"));
+        completeBatch(1);
+
+        subscriber.assertComplete();
+        assertEquals(Arrays.asList(0L, 1L), blockNumbers(subscriber.values()));
+        verify(web3jService, times(2)).sendBatchAsync(any(BatchRequest.class));
+    }
+
+    @Test
+    void testMissingBlockFailsReplay() {
+        BlockReplay replay =
+                new BlockReplay.Builder(web3j, BigInteger.ZERO, BigInteger.ONE)
+                        .withMaxRetries(0)
+                        .build();
+
+        TestSubscriber<EthBlock> subscriber = replay.flowable().test();
+        EthBlock missing = new EthBlock();
+        missing.setId(batches.get(0).getRequests().get(0).getId());
+        List<Response<?>> responses = new ArrayList<>(responsesFor(batches.get(0)));
+        responses.set(0, missing);
+        pending.get(0).complete(new BatchResponse(batches.get(0).getRequests(), responses));
+
+        subscriber.assertError(IOException.class);
+    }
+
+    private void completeBatch(int index) {
+        BatchRequest batchRequest = batches.get(index);
+        List<Response<?>> responses = responsesFor(batchRequest);
+        Collections.reverse(responses);
+        pending.get(index).complete(new BatchResponse(batchRequest.getRequests(), responses));
+    }
+
+    private static List<Response<?>> responsesFor(BatchRequest batchRequest) {
+        List<Response<?>> responses = new ArrayList<>();
+        for (Request<?, ?> request : batchRequest.getRequests()) {
+            EthBlock.Block block = new EthBlock.Block();
+            block.setNumber((String) request.getParams().get(0));
+            EthBlock ethBlock = new EthBlock();
+            ethBlock.setId(request.getId());
+            ethBlock.setResult(block);
+            responses.add(ethBlock);
+        }
+        return responses;
+    }
+
+    private static List<Long> blockNumbers(List<EthBlock> blocks) {
+        return blocks.stream()
+                .map(ethBlock -> ethBlock.getBlock().getNumber().longValue())
+                .collect(Collectors.toList());
+    }
+}
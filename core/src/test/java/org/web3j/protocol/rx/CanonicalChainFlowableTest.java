@@ -0,0 +1,217 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import io.reactivex.Flowable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CanonicalChainFlowableTest {
+
+    private Web3jService web3jService;
+    private Web3j web3j;
+    private Map<String, EthBlock> blocksByHash;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        web3jService = mock(Web3jService.class);
+        web3j = Web3j.build(web3jService, 1000, Executors.newSingleThreadScheduledExecutor());
+        blocksByHash = new HashMap<>();
+
+        when(web3jService.send(any(Request.class), eq(EthBlock.class)))
+                .thenAnswer(
+                        invocation -> {
+                            Request<?, ?> request = invocation.getArgument(0);
+                            return blocksByHash.get((String) request.getParams().get(0));
+                        });
+    }
+
+    @Test
+    void testLinearChain() {
+        List<String> events = events(0, block("a1", 1, "a0"), block("a2", 2, "a1"));
+
+        assertEquals(Arrays.asList("APPLY a1", "APPLY a2"), events);
+    }
+
+    @Test
+    void testReorgRevertsReplacedBlocks() {
+        List<String> events =
+                events(
+                        0,
+                        block("a1", 1, "a0"),
+                        block("a2", 2, "a1"),
+                        block("a3", 3, "a2"),
+                        block("b3", 3, "a2"),
+                        block("b4", 4, "b3"));
+
+        assertEquals(
+                Arrays.asList(
+                        "APPLY a1", "APPLY a2", "APPLY a3", "REVERT a3", "APPLY b3", "APPLY b4"),
+                events);
+    }
+
+    @Test
+    void testMissedBlocksAreFetched() {
+        EthBlock a1 = block("a1", 1, "a0");
+        block("a2", 2, "a1");
+        block("a3", 3, "a2");
+        EthBlock a4 = block("a4", 4, "a3");
+
+        assertEquals(
+                Arrays.asList("APPLY a1", "APPLY a2", "APPLY a3", "APPLY a4"), events(0, a1, a4));
+    }
+
+    @Test
+    void testReorgOnDifferentBranchFetchesAncestors() {
+        EthBlock a1 = block("a1", 1, "a0");
+        EthBlock a2 = block("a2", 2, "a1");
+        block("b2", 2, "a1");
+        EthBlock b3 = block("b3", 3, "b2");
+
+        assertEquals(
+                Arrays.asList("APPLY a1", "APPLY a2", "REVERT a2", "APPLY b2", "APPLY b3"),
+                events(0, a1, a2, b3));
+    }
+
+    @Test
+    void testUnconfirmedBlocksAreNotEmitted() {
+        List<String> events =
+                events(
+                        2,
+                        block("a1", 1, "a0"),
+                        block("a2", 2, "a1"),
+                        block("a3", 3, "a2"),
+                        block("a4", 4, "a3"),
+                        block("b3", 3, "a2"),
+                        block("b4", 4, "b3"),
+                        block("b5", 5, "b4"));
+
+        // a3 and a4 were replaced before reaching two confirmations
+        assertEquals(Arrays.asList("APPLY a1", "APPLY a2", "APPLY b3"), events);
+    }
+
+    @Test
+    void testTooDeepReorgFails() {
+        block("x2", 2, "x1");
+        new CanonicalChainFlowable.Builder(web3j)
+                .withMaxDepth(2)
+                .withHeads(
+                        Flowable.just(
+                                block("a1", 1, "a0"),
+                                block("a2", 2, "a1"),
+                                block("a3", 3, "a2"),
+                                block("b3", 3, "x2")))
+                .build()
+                .blocks()
+                .test()
+                .assertError(IOException.class);
+    }
+
+    @Test
+    void testGapLongerThanWindowIsFetchedInOrder() {
+        EthBlock a1 = block("a1", 1, "a0");
+        blocksByHash.put("0x2", block("a2", 2, "a1"));
+        blocksByHash.put("0x3", block("a3", 3, "a2"));
+        blocksByHash.put("0x4", block("a4", 4, "a3"));
+        EthBlock a5 = block("a5", 5, "a4");
+
+        List<String> events =
+                new CanonicalChainFlowable.Builder(web3j)
+                        .withMaxDepth(2)
+                        .withHeads(Flowable.just(a1, a5))
+                        .build()
+                        .blocks()
+                        .map(event -> event.getType() + " " + event.getValue().getHash())
+                        .toList()
+                        .blockingGet();
+
+        assertEquals(
+                Arrays.asList("APPLY a1", "APPLY a2", "APPLY a3", "APPLY a4", "APPLY a5"),
+                events);
+    }
+
+    @Test
+    void testLogsAreRevertedWithTheirBlock() throws Exception {
+        when(web3jService.send(any(Request.class), eq(EthLog.class)))
+                .thenAnswer(
+                        invocation -> {
+                            Request<?, ?> request = invocation.getArgument(0);
+                            EthFilter filter = (EthFilter) request.getParams().get(0);
+                            EthLog.LogObject log = new EthLog.LogObject();
+                            log.setBlockHash(filter.getBlockHash());
+                            EthLog ethLog = new EthLog();
+                            ethLog.setResult(Collections.singletonList(log));
+                            return ethLog;
+                        });
+
+        List<String> events =
+                new CanonicalChainFlowable.Builder(web3j)
+                        .withHeads(
+                                Flowable.just(
+                                        block("a1", 1, "a0"),
+                                        block("a2", 2, "a1"),
+                                        block("b2", 2, "a1")))
+                        .build()
+                        .logs(new EthFilter())
+                        .map(event -> event.getType() + " " + event.getValue().getBlockHash())
+                        .toList()
+                        .blockingGet();
+
+        assertEquals(Arrays.asList("APPLY a1", "APPLY a2", "REVERT a2", "APPLY b2"), events);
+    }
+
+    private List<String> events(int confirmations, EthBlock... heads) {
+        return new CanonicalChainFlowable.Builder(web3j)
+                .withConfirmations(confirmations)
+                .withHeads(Flowable.fromArray(heads))
+                .build()
+                .blocks()
+                .map(event -> event.getType() + " " + event.getValue().getHash())
+                .toList()
+                .blockingGet();
+    }
+
+    private EthBlock block(String hash, long number, String parentHash) {
+        EthBlock.Block block = new EthBlock.Block();
+        block.setHash(hash);
+        block.setParentHash(parentHash);
+        block.setNumber(Numeric.encodeQuantity(BigInteger.valueOf(number)));
+        EthBlock ethBlock = new EthBlock();
+        ethBlock.setResult(block);
+        blocksByHash.put(hash, ethBlock);
+        return ethBlock;
+    }
+}
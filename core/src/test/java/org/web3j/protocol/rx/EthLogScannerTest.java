@@ -0,0 +1,238 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import io.reactivex.subscribers.TestSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EthLogScannerTest {
+
+    private static final String ADDRESS = "0x7d3a2f8b0b1e6f3c5f1d3e2a4c6b8d0e2f4a6c8e";
+
+    private Web3jService web3jService;
+    private Web3j web3j;
+    private List<long[]> queries;
+    private int resultLimit;
+    // Error returned for queries over the result limit
+    private Response.Error limitError;
+
+    @BeforeEach
+    void setUp() {
+        web3jService = mock(Web3jService.class);
+        web3j = Web3j.build(web3jService, 1000, Executors.newSingleThreadScheduledExecutor());
+        queries = Collections.synchronizedList(new ArrayList<>());
+        resultLimit = Integer.MAX_VALUE;
+        limitError = null;
+
+        // Every block has a single matching log
+        when(web3jService.sendAsync(any(Request.class), eq(EthLog.class)))
+                .thenAnswer(
+                        invocation -> {
+                            Request<?, ?> request = invocation.getArgument(0);
+                            EthFilter filter = (EthFilter) request.getParams().get(0);
+                            long from = blockNumber(filter.getFromBlock());
+                            long to = blockNumber(filter.getToBlock());
+                            queries.add(new long[] {from, to});
+                            return CompletableFuture.completedFuture(ethLog(from, to));
+                        });
+    }
+
+    @Test
+    void testLogsAreEmittedInOrder() {
+        TestSubscriber<Log> subscriber =
+                new EthLogScanner.Builder(web3j, filter(0, 99))
+                        .withInitialChunkSize(10)
+                        .withMaxChunkSize(10)
+                        .build()
+                        .flowable()
+                        .test();
+
+        subscriber.assertComplete();
+        assertEquals(range(0, 99), blockNumbers(subscriber.values()));
+        assertEquals(10, queries.size());
+        for (long[] query : queries) {
+            assertEquals(10, query[1] - query[0] + 1);
+        }
+    }
+
+    @Test
+    void testOversizedChunkIsBisected() {
+        resultLimit = 10;
+        TestSubscriber<Log> subscriber =
+                new EthLogScanner.Builder(web3j, filter(0, 99))
+                        .withInitialChunkSize(40)
+                        .withConcurrency(1)
+                        .build()
+                        .flowable()
+                        .test();
+
+        subscriber.assertComplete();
+        assertEquals(range(0, 99), blockNumbers(subscriber.values()));
+        // Once the first chunk was split, later chunks start at the smaller size
+        long[] last = queries.get(queries.size() - 1);
+        assertTrue(last[1] - last[0] + 1 <= 20);
+    }
+
+    @Test
+    void testSparseChunksGrow() {
+        TestSubscriber<Log> subscriber =
+                new EthLogScanner.Builder(web3j, filter(0, 999))
+                        .withInitialChunkSize(10)
+                        .withTargetResults(1_000)
+                        .withConcurrency(1)
+                        .build()
+                        .flowable()
+                        .test();
+
+        subscriber.assertComplete();
+        assertEquals(1_000, subscriber.valueCount());
+        long[] first = queries.get(0);
+        long[] second = queries.get(1);
+        assertEquals(10, first[1] - first[0] + 1);
+        assertEquals(20, second[1] - second[0] + 1);
+    }
+
+    @Test
+    void testSingleBlockOverLimitFailsScan() {
+        resultLimit = 0;
+        TestSubscriber<Log> subscriber =
+                new EthLogScanner.Builder(web3j, filter(0, 3))
+                        .withConcurrency(1)
+                        .build()
+                        .flowable()
+                        .test();
+
+        subscriber.assertError(IOException.class);
+    }
+
+    @Test
+    void testProviderRangeLimitIsBisected() {
+        resultLimit = 10;
+        limitError =
+                new Response.Error(
+                        -32602, "Log response size exceeded. You can make eth_getLogs requests");
+        TestSubscriber<Log> subscriber =
+                new EthLogScanner.Builder(web3j, filter(0, 99))
+                        .withInitialChunkSize(40)
+                        .withConcurrency(1)
+                        .build()
+                        .flowable()
+                        .test();
+
+        subscriber.assertComplete();
+        assertEquals(range(0, 99), blockNumbers(subscriber.values()));
+    }
+
+    @Test
+    void testUnrelatedErrorIsNotBisected() {
+        resultLimit = 10;
+        limitError = new Response.Error(-32000, "invalid block range params");
+        TestSubscriber<Log> subscriber =
+                new EthLogScanner.Builder(web3j, filter(0, 99))
+                        .withInitialChunkSize(40)
+                        .withConcurrency(1)
+                        .withMaxRetries(0)
+                        .build()
+                        .flowable()
+                        .test();
+
+        subscriber.assertError(IOException.class);
+        assertEquals(1, queries.size());
+    }
+
+    @Test
+    void testNonNumericRangeIsRejected() {
+        EthFilter filter =
+                new EthFilter(
+                        DefaultBlockParameterName.EARLIEST,
+                        DefaultBlockParameterName.LATEST,
+                        ADDRESS);
+
+        assertThrows(
+                IllegalArgumentException.class, () -> new EthLogScanner.Builder(web3j, filter));
+    }
+
+    private EthLog ethLog(long from, long to) {
+        EthLog ethLog = new EthLog();
+        if (to - from + 1 > resultLimit) {
+            ethLog.setError(
+                    limitError != null
+                            ? limitError
+                            : new Response.Error(
+                                    -32005,
+                                    "query returned more than " + resultLimit + " results"));
+            return ethLog;
+        }
+
+        List<EthLog.LogResult> logs = new ArrayList<>();
+        for (long block = from; block <= to; block++) {
+            EthLog.LogObject log = new EthLog.LogObject();
+            log.setBlockNumber(Numeric.encodeQuantity(BigInteger.valueOf(block)));
+            log.setAddress(ADDRESS);
+            logs.add(log);
+        }
+        ethLog.setResult(logs);
+        return ethLog;
+    }
+
+    private static EthFilter filter(long from, long to) {
+        return new EthFilter(
+                new DefaultBlockParameterNumber(from),
+                new DefaultBlockParameterNumber(to),
+                ADDRESS);
+    }
+
+    private static long blockNumber(Object blockParameter) {
+        return ((DefaultBlockParameterNumber) blockParameter).getBlockNumber().longValue();
+    }
+
+    private static List<Long> range(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().collect(Collectors.toList());
+    }
+
+    private static List<Long> blockNumbers(List<Log> logs) {
+        return logs.stream()
+                .map(log -> log.getBlockNumber().longValue())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import io.reactivex.Flowable;
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subscribers.TestSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthTransaction;
+import org.web3j.protocol.core.methods.response.Transaction;
+import org.web3j.protocol.websocket.events.FullPendingTransactionNotification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PendingTransactionFlowableTest {
+
+    private Web3jService web3jService;
+    private Web3j web3j;
+    private TestScheduler scheduler;
+    private PublishProcessor<String> transactionHashes;
+    private List<List<Object>> batches;
+
+    @BeforeEach
+    void setUp() {
+        web3jService = mock(Web3jService.class);
+        web3j = Web3j.build(web3jService, 1000, Executors.newSingleThreadScheduledExecutor());
+        scheduler = new TestScheduler();
+        transactionHashes = PublishProcessor.create();
+        batches = new ArrayList<>();
+
+        when(web3jService.sendBatchAsync(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest batchRequest = invocation.getArgument(0);
+                            batches.add(
+                                    batchRequest.getRequests().stream()
+                                            .map(request -> request.getParams().get(0))
+                                            .collect(Collectors.toList()));
+                            return CompletableFuture.completedFuture(
+                                    new BatchResponse(
+                                            batchRequest.getRequests(),
+                                            responsesFor(batchRequest)));
+                        });
+    }
+
+    @Test
+    void testHashesAreFetchedInBatches() {
+        TestSubscriber<Transaction> subscriber = polled().test();
+
+        transactionHashes.onNext("0x1");
+        transactionHashes.onNext("0x2");
+        transactionHashes.onNext("0x3");
+        assertEquals(Arrays.asList(Arrays.asList("0x1", "0x2")), batches);
+
+        // A partial batch is fetched once the buffer times out
+        scheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+        assertEquals(
+                Arrays.asList(Arrays.asList("0x1", "0x2"), Arrays.asList("0x3")), batches);
+        assertEquals(Arrays.asList("0x1", "0x2", "0x3"), hashes(subscriber.values()));
+    }
+
+    @Test
+    void testDuplicateHashesAreDropped() {
+        TestSubscriber<Transaction> subscriber = polled().test();
+
+        transactionHashes.onNext("0x1");
+        transactionHashes.onNext("0x1");
+        transactionHashes.onNext("0x2");
+        transactionHashes.onNext("0x1");
+        scheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+
+        assertEquals(Arrays.asList(Arrays.asList("0x1", "0x2")), batches);
+        assertEquals(Arrays.asList("0x1", "0x2"), hashes(subscriber.values()));
+    }
+
+    @Test
+    void testTransactionsNoLongerPendingAreSkipped() {
+        TestSubscriber<Transaction> subscriber = polled().test();
+
+        transactionHashes.onNext("0x1");
+        transactionHashes.onNext("missing");
+
+        assertEquals(Arrays.asList("0x1"), hashes(subscriber.values()));
+    }
+
+    @Test
+    void testTransactionErrorsDoNotEndStream() {
+        TestSubscriber<Transaction> subscriber = polled().test();
+
+        transactionHashes.onNext("0x1");
+        transactionHashes.onNext("error");
+        transactionHashes.onNext("0x2");
+        scheduler.advanceTimeBy(100, TimeUnit.MILLISECONDS);
+
+        subscriber.assertNoErrors();
+        assertEquals(Arrays.asList("0x1", "0x2"), hashes(subscriber.values()));
+    }
+
+    @Test
+    void testSubscriptionIsPreferred() throws Exception {
+        when(web3jService.subscribe(
+                        any(Request.class),
+                        anyString(),
+                        eq(FullPendingTransactionNotification.class)))
+                .thenReturn(
+                        Flowable.just(
+                                notification("0x1"), notification("0x1"), notification("0x2")));
+
+        TestSubscriber<Transaction> subscriber = builder().build().flowable().test();
+
+        assertEquals(Arrays.asList("0x1", "0x2"), hashes(subscriber.values()));
+        verify(web3jService, never()).sendBatchAsync(any(BatchRequest.class));
+    }
+
+    @Test
+    void testFallsBackToHashesWithoutSubscription() {
+        when(web3jService.subscribe(
+                        any(Request.class),
+                        anyString(),
+                        eq(FullPendingTransactionNotification.class)))
+                .thenThrow(new UnsupportedOperationException());
+
+        TestSubscriber<Transaction> subscriber = builder().build().flowable().test();
+        transactionHashes.onNext("0x1");
+        transactionHashes.onNext("0x2");
+
+        assertEquals(Arrays.asList("0x1", "0x2"), hashes(subscriber.values()));
+    }
+
+    private Flowable<Transaction> polled() {
+        return builder().withSubscription(false).build().flowable();
+    }
+
+    private PendingTransactionFlowable.Builder builder() {
+        return new PendingTransactionFlowable.Builder(web3j)
+                .withTransactionHashes(transactionHashes)
+                .withBatchSize(2)
+                .withBufferTimeout(100)
+                .withScheduler(scheduler);
+    }
+
+    private static List<Response<?>> responsesFor(BatchRequest batchRequest) {
+        List<Response<?>> responses = new ArrayList<>();
+        for (Request<?, ?> request : batchRequest.getRequests()) {
+            String hash = (String) request.getParams().get(0);
+            EthTransaction ethTransaction = new EthTransaction();
+            ethTransaction.setId(request.getId());
+            if (hash.equals("error")) {
+                ethTransaction.setError(new Response.Error(-32000, "transaction fetch failed"));
+            } else if (!hash.equals("missing")) {
+                ethTransaction.setResult(transaction(hash));
+            }
+            responses.add(ethTransaction);
+        }
+        return responses;
+    }
+
+    private static Transaction transaction(String hash) {
+        Transaction transaction = new Transaction();
+        transaction.setHash(hash);
+        return transaction;
+    }
+
+    private static FullPendingTransactionNotification notification(String hash)
+            throws Exception {
+        return ObjectMapperFactory.getObjectMapper()
+                .readValue(
+                        "{\"jsonrpc\":\"2.0\",\"method\":\"eth_subscription\",\"params\":"
+                                + "{\"subscription\":\"0x1\",\"result\":{\"hash\":\""
+                                + hash
+                                + "\"}}}",
+                        FullPendingTransactionNotification.class);
+    }
+
+    private static List<String> hashes(List<Transaction> transactions) {
+        return transactions.stream().map(Transaction::getHash).collect(Collectors.toList());
+    }
+}
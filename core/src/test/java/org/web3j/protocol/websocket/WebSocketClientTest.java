@@ -14,6 +14,8 @@ package org.web3j.protocol.websocket;
 
 import java.io.IOException;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,6 +43,14 @@ class WebSocketClientTest {
         verify(listener).onMessage("message");
     }
 
+    @Test
+    void testNotifyListenerOnBinaryMessage() throws Exception {
+        ByteBuffer message = ByteBuffer.wrap("message".getBytes(StandardCharsets.UTF_8));
+        client.onMessage(message);
+
+        verify(listener).onMessage(message);
+    }
+
     @Test
     void testNotifyListenerOnError() {
         IOException e = new IOException("123");
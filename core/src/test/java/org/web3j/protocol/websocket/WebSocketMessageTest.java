@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.websocket;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.core.methods.response.Web3ClientVersion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WebSocketMessageTest {
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+
+    @Test
+    void testReplyHeader() throws IOException {
+        WebSocketMessage.Header header =
+                header("{\"jsonrpc\":\"2.0\",\"result\":{\"a\":[1,2]},\"id\":42}");
+
+        assertEquals(WebSocketMessage.Type.REPLY, header.getType());
+        assertEquals(42, header.getId());
+    }
+
+    @Test
+    void testTextualIdHeader() throws IOException {
+        assertEquals(42, header("{\"id\":\"42\",\"result\":null}").getId());
+    }
+
+    @Test
+    void testInvalidId() {
+        assertThrows(IOException.class, () -> header("{\"id\":\"abc\"}"));
+        assertThrows(IOException.class, () -> header("{\"id\":[1]}"));
+    }
+
+    @Test
+    void testBatchReplyHeader() throws IOException {
+        assertEquals(
+                WebSocketMessage.Type.BATCH_REPLY, header("[{\"id\":1},{\"id\":2}]").getType());
+    }
+
+    @Test
+    void testSubscriptionEventHeader() throws IOException {
+        WebSocketMessage.Header header =
+                header(
+                        "{\"jsonrpc\":\"2.0\",\"method\":\"eth_subscription\","
+                                + "\"params\":{\"subscription\":\"0xab\",\"result\":{\"x\":1}}}");
+
+        assertEquals(WebSocketMessage.Type.SUBSCRIPTION_EVENT, header.getType());
+        assertEquals("0xab", header.getSubscriptionId());
+    }
+
+    @Test
+    void testSubscriptionEventHeaderWithParamsFirst() throws IOException {
+        WebSocketMessage.Header header =
+                header(
+                        "{\"params\":{\"result\":{\"x\":[{\"y\":\"}\"}]},"
+                                + "\"subscription\":\"0xab\"},"
+                                + "\"method\":\"eth_subscription\"}");
+
+        assertEquals(WebSocketMessage.Type.SUBSCRIPTION_EVENT, header.getType());
+        assertEquals("0xab", header.getSubscriptionId());
+    }
+
+    @Test
+    void testUnknownHeader() throws IOException {
+        assertEquals(WebSocketMessage.Type.UNKNOWN, header("{}").getType());
+        assertEquals(WebSocketMessage.Type.UNKNOWN, header("1").getType());
+    }
+
+    @Test
+    void testBinaryMessage() throws IOException {
+        byte[] bytes =
+                "xx{\"jsonrpc\":\"2.0\",\"id\":7,\"result\":\"geth\"}yy"
+                        .getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 2, bytes.length - 4).slice();
+        WebSocketMessage message = WebSocketMessage.of(buffer);
+
+        assertEquals(7, message.readHeader(objectMapper).getId());
+        assertEquals(
+                "geth",
+                message.readValue(objectMapper, Web3ClientVersion.class, false)
+                        .getWeb3ClientVersion());
+        assertEquals("{\"jsonrpc\":\"2.0\",\"id\":7,\"result\":\"geth\"}", message.toString());
+    }
+
+    @Test
+    void testRawResponse() throws IOException {
+        String reply = "{\"jsonrpc\":\"2.0\",\"id\":7,\"result\":\"geth\"}";
+        Web3ClientVersion version =
+                WebSocketMessage.of(reply)
+                        .readValue(
+                                ObjectMapperFactory.getObjectMapper(true),
+                                Web3ClientVersion.class,
+                                true);
+
+        assertEquals(reply, version.getRawResponse());
+    }
+
+    private WebSocketMessage.Header header(String message) throws IOException {
+        return WebSocketMessage.of(message).readHeader(objectMapper);
+    }
+}
@@ -14,23 +14,34 @@ package org.web3j.protocol.websocket;
 
 import java.io.IOException;
 import java.net.ConnectException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.reactivex.Flowable;
 import io.reactivex.disposables.Disposable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.reactivestreams.Subscriber;
+import org.mockito.ArgumentCaptor;
 import org.reactivestreams.Subscription;
 
+import org.web3j.protocol.ObjectMapperFactory;
 import org.web3j.protocol.core.BatchRequest;
 import org.web3j.protocol.core.BatchResponse;
 import org.web3j.protocol.core.DefaultIdProvider;
@@ -43,12 +54,14 @@ import org.web3j.protocol.websocket.events.NewHeadsNotification;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
@@ -278,6 +291,81 @@ class WebSocketServiceTest {
         assertEquals("geth-version", reply.get().getWeb3ClientVersion());
     }
 
+    @Test
+    void testTimeoutAfterReplyIsIgnored() throws Exception {
+        CompletableFuture<Web3ClientVersion> reply =
+                service.sendAsync(request, Web3ClientVersion.class);
+        sendGethVersionReply();
+        service.closeRequest(1, new IOException("Request with id 1 timed out"));
+
+        assertEquals("geth-version", reply.get().getWeb3ClientVersion());
+    }
+
+    @Test
+    void testConcurrentRepliesCompleteEveryRequest() throws Exception {
+        int requestCount = 2000;
+        List<CompletableFuture<Web3ClientVersion>> replies = new ArrayList<>();
+        for (int i = 0; i < requestCount; i++) {
+            Request<?, Web3ClientVersion> versionRequest =
+                    new Request<>(
+                            "web3_clientVersion",
+                            Collections.<String>emptyList(),
+                            service,
+                            Web3ClientVersion.class);
+            versionRequest.setId(REQUEST_ID + i);
+            replies.add(service.sendAsync(versionRequest, Web3ClientVersion.class));
+        }
+
+        ExecutorService repliers = Executors.newFixedThreadPool(8);
+        List<Future<?>> delivered = new ArrayList<>();
+        for (int i = 0; i < requestCount; i++) {
+            long id = REQUEST_ID + i;
+            delivered.add(
+                    repliers.submit(
+                            () -> {
+                                service.onWebSocketMessage(
+                                        "{\"jsonrpc\":\"2.0\",\"id\":"
+                                                + id
+                                                + ",\"result\":\"geth-version\"}");
+                                // Timeouts racing with replies must not fail either
+                                service.closeRequest(id, new IOException("timed out"));
+                                return null;
+                            }));
+        }
+        for (Future<?> future : delivered) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        repliers.shutdown();
+
+        for (CompletableFuture<Web3ClientVersion> reply : replies) {
+            assertEquals("geth-version", reply.get().getWeb3ClientVersion());
+        }
+    }
+
+    @Test
+    void testReceiveBinaryReply() throws Exception {
+        CompletableFuture<Web3ClientVersion> reply =
+                service.sendAsync(request, Web3ClientVersion.class);
+        service.onWebSocketMessage(
+                ByteBuffer.wrap(
+                        "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"geth-version\"}"
+                                .getBytes(StandardCharsets.UTF_8)));
+
+        assertTrue(reply.isDone());
+        assertEquals("geth-version", reply.get().getWeb3ClientVersion());
+    }
+
+    @Test
+    void testReceiveReplyWithTrailingId() throws Exception {
+        CompletableFuture<Web3ClientVersion> reply =
+                service.sendAsync(request, Web3ClientVersion.class);
+        service.onWebSocketMessage(
+                "{\"jsonrpc\":\"2.0\",\"result\":\"geth-version\",\"id\":\"1\"}");
+
+        assertTrue(reply.isDone());
+        assertEquals("geth-version", reply.get().getWeb3ClientVersion());
+    }
+
     @Test
     void testReceiveError() throws Exception {
         CompletableFuture<Web3ClientVersion> reply =
@@ -418,6 +506,20 @@ class WebSocketServiceTest {
         verifyUnsubscribed();
     }
 
+    @Test
+    void testDisposedSubscriptionIsRemoved() throws Exception {
+        AtomicReference<Disposable> disposable = new AtomicReference<>();
+        runAsync(() -> disposable.set(subscribeToEvents().subscribe()));
+        sendSubscriptionConfirmation();
+        awaitSubscribed(disposable);
+        assertEquals(1, service.getSubscriptionIdsMap().size());
+
+        disposable.get().dispose();
+
+        assertTrue(service.getSubscriptionIdsMap().isEmpty());
+        verifyUnsubscribed();
+    }
+
     @Test
     void testStopWaitingForSubscriptionReplyAfterTimeout() throws Exception {
         CountDownLatch errorReceived = new CountDownLatch(1);
@@ -527,6 +629,126 @@ class WebSocketServiceTest {
                 "Subscription request failed with error: Error message", throwable.getMessage());
     }
 
+    @Test
+    void testResubscribeAndBackfillAfterReconnect() throws Exception {
+        service.setResubscribeOnReconnect(true);
+        service.connect();
+        List<String> heads = new CopyOnWriteArrayList<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        runAsync(
+                () ->
+                        subscribeToEvents()
+                                .subscribe(
+                                        head -> heads.add(head.getParams().getResult().getNumber()),
+                                        error::set));
+        sendSubscriptionConfirmation();
+        replyTo(awaitSentRequest("eth_blockNumber", 0), "\"0x10\"");
+        sendNewHead("0xcd0c3e8af590364c09d0fa6a1210faf5", "0x11");
+
+        service.onWebSocketClose();
+        service.connect();
+
+        replyTo(awaitSentRequest("eth_subscribe", 1), "\"0xabc\"");
+        replyTo(awaitSentRequest("eth_blockNumber", 1), "\"0x14\"");
+        // Live heads received while backfilling are held back, and duplicates dropped
+        sendNewHead("0xabc", "0x14");
+        sendNewHead("0xabc", "0x15");
+
+        JsonNode batch = awaitSentRequest("eth_getBlockByNumber", 0);
+        StringBuilder reply = new StringBuilder("[");
+        for (JsonNode request : batch) {
+            String number = request.get("params").get(0).asText();
+            reply.append(reply.length() > 1 ? "," : "")
+                    .append("{\"jsonrpc\":\"2.0\",\"id\":")
+                    .append(request.get("id").asLong())
+                    .append(",\"result\":{\"number\":\"")
+                    .append(number)
+                    .append("\",\"transactions\":[]}}");
+        }
+        service.onWebSocketMessage(reply.append("]").toString());
+
+        assertEquals(3, batch.size());
+        assertEquals(Arrays.asList("0x11", "0x12", "0x13", "0x14", "0x15"), heads);
+        assertNull(error.get());
+        assertTrue(service.getSubscriptionIdsMap().containsKey("0xabc"));
+    }
+
+    @Test
+    void testDisposeSuspendedSubscription() throws Exception {
+        service.setResubscribeOnReconnect(true);
+        service.connect();
+        AtomicReference<Disposable> disposable = new AtomicReference<>();
+        runAsync(() -> disposable.set(subscribeToEvents().subscribe()));
+        sendSubscriptionConfirmation();
+        awaitSubscribed(disposable);
+
+        service.onWebSocketClose();
+        disposable.get().dispose();
+        service.connect();
+
+        assertTrue(service.getSubscriptionIdsMap().isEmpty());
+        assertEquals(1, countSentRequests("eth_subscribe"));
+    }
+
+    private static void awaitSubscribed(AtomicReference<Disposable> disposable)
+            throws InterruptedException {
+        for (int attempt = 0; attempt < 100 && disposable.get() == null; attempt++) {
+            Thread.sleep(20);
+        }
+        if (disposable.get() == null) {
+            throw new AssertionError("Subscription was not established");
+        }
+    }
+
+    private JsonNode awaitSentRequest(String method, int skip) throws Exception {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            List<JsonNode> requests = sentRequests(method);
+            if (requests.size() > skip) {
+                return requests.get(skip);
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("No " + method + " request sent");
+    }
+
+    private int countSentRequests(String method) throws IOException {
+        return sentRequests(method).size();
+    }
+
+    private List<JsonNode> sentRequests(String method) throws IOException {
+        ArgumentCaptor<String> payloads = ArgumentCaptor.forClass(String.class);
+        verify(webSocketClient, atLeastOnce()).send(payloads.capture());
+        ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+        List<JsonNode> requests = new ArrayList<>();
+        for (String payload : payloads.getAllValues()) {
+            JsonNode request = objectMapper.readTree(payload);
+            JsonNode first = request.isArray() ? request.get(0) : request;
+            if (method.equals(first.get("method").asText())) {
+                requests.add(request);
+            }
+        }
+        return requests;
+    }
+
+    private void replyTo(JsonNode request, String result) throws IOException {
+        service.onWebSocketMessage(
+                "{\"jsonrpc\":\"2.0\",\"id\":"
+                        + request.get("id").asLong()
+                        + ",\"result\":"
+                        + result
+                        + "}");
+    }
+
+    private void sendNewHead(String subscriptionId, String number) throws IOException {
+        service.onWebSocketMessage(
+                "{\"jsonrpc\":\"2.0\",\"method\":\"eth_subscription\",\"params\":{"
+                        + "\"subscription\":\""
+                        + subscriptionId
+                        + "\",\"result\":{\"number\":\""
+                        + number
+                        + "\"}}}");
+    }
+
     private void runAsync(Runnable runnable) {
         Executors.newSingleThreadExecutor().execute(runnable);
     }
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.crypto.Hash;
+import org.web3j.crypto.RawTransaction;
+import org.web3j.crypto.SampleKeys;
+import org.web3j.crypto.TransactionDecoder;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthGetTransactionCount;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import org.web3j.service.TxSignServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PipelinedTransactionManagerTest {
+
+    // Send error that fails the request itself rather than returning an error response
+    private static final String TRANSPORT_FAILURE = "transport failure";
+
+    private Web3jService web3jService;
+    private PipelinedTransactionManager transactionManager;
+    private List<RawTransaction> sentTransactions;
+    private List<BigInteger> sentNonces;
+    // Errors returned for the next sends, null for success
+    private Deque<String> sendErrors;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        web3jService = mock(Web3jService.class);
+        Web3j web3j = Web3j.build(web3jService, 1000, Executors.newSingleThreadScheduledExecutor());
+        transactionManager =
+                new PipelinedTransactionManager(
+                        web3j,
+                        new TxSignServiceImpl(SampleKeys.CREDENTIALS),
+                        ChainIdLong.NONE,
+                        Runnable::run);
+        sentTransactions = Collections.synchronizedList(new ArrayList<>());
+        sentNonces = Collections.synchronizedList(new ArrayList<>());
+        sendErrors = new ConcurrentLinkedDeque<>();
+
+        when(web3jService.send(any(Request.class), eq(EthGetTransactionCount.class)))
+                .thenReturn(transactionCount(5));
+        when(web3jService.sendAsync(any(Request.class), eq(EthSendTransaction.class)))
+                .thenAnswer(
+                        invocation -> {
+                            Request<?, ?> request = invocation.getArgument(0);
+                            String hexValue = (String) request.getParams().get(0);
+                            RawTransaction rawTransaction = TransactionDecoder.decode(hexValue);
+                            sentTransactions.add(rawTransaction);
+                            sentNonces.add(rawTransaction.getNonce());
+
+                            EthSendTransaction ethSendTransaction = new EthSendTransaction();
+                            String error = sendErrors.poll();
+                            if (TRANSPORT_FAILURE.equals(error)) {
+                                return CompletableFuture.failedFuture(
+                                        new IOException(TRANSPORT_FAILURE));
+                            } else if (error == null) {
+                                ethSendTransaction.setResult(Hash.sha3(hexValue));
+                            } else {
+                                ethSendTransaction.setError(new Response.Error(-32000, error));
+                            }
+                            return CompletableFuture.completedFuture(ethSendTransaction);
+                        });
+    }
+
+    @Test
+    void testNoncesAreHandedOutFromPendingCount() throws Exception {
+        send();
+        send();
+        send();
+
+        assertEquals(nonces(5, 6, 7), sentNonces);
+        assertEquals(BigInteger.valueOf(8), transactionManager.getCurrentNonce());
+        verify(web3jService, times(1)).send(any(Request.class), eq(EthGetTransactionCount.class));
+        assertTrue(transactionManager.getInFlightTransactions().isEmpty());
+    }
+
+    @Test
+    void testRejectedTransactionNonceIsReused() throws Exception {
+        sendErrors.add("insufficient funds for gas * price + value");
+
+        assertTrue(send().hasError());
+        assertFalse(send().hasError());
+        assertFalse(send().hasError());
+
+        assertEquals(nonces(5, 5, 6), sentNonces);
+    }
+
+    @Test
+    void testNonceTooLowResynchronises() throws Exception {
+        when(web3jService.sendAsync(any(Request.class), eq(EthGetTransactionCount.class)))
+                .thenReturn(CompletableFuture.completedFuture(transactionCount(9)));
+        sendErrors.add("nonce too low");
+
+        EthSendTransaction response = send();
+
+        assertFalse(response.hasError());
+        assertEquals(nonces(5, 9), sentNonces);
+        assertEquals(BigInteger.valueOf(10), transactionManager.getCurrentNonce());
+    }
+
+    @Test
+    void testAlreadyKnownIsTreatedAsSent() throws Exception {
+        sendErrors.add("already known");
+
+        EthSendTransaction response = send();
+
+        assertFalse(response.hasError());
+        assertEquals(66, response.getTransactionHash().length());
+        assertEquals(nonces(5), sentNonces);
+        assertEquals(BigInteger.valueOf(6), transactionManager.getCurrentNonce());
+    }
+
+    @Test
+    void testConcurrentSendsUseEveryNonceOnce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Web3j web3j =
+                    Web3j.build(web3jService, 1000, Executors.newSingleThreadScheduledExecutor());
+            PipelinedTransactionManager concurrentManager =
+                    new PipelinedTransactionManager(
+                            web3j,
+                            new TxSignServiceImpl(SampleKeys.CREDENTIALS),
+                            ChainIdLong.NONE,
+                            executor);
+            List<CompletableFuture<EthSendTransaction>> responses =
+                    Collections.synchronizedList(new ArrayList<>());
+            List<CompletableFuture<Void>> callers = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                callers.add(
+                        CompletableFuture.runAsync(
+                                () ->
+                                        responses.add(
+                                                concurrentManager.sendTransactionAsync(
+                                                        this::transaction)),
+                                executor));
+            }
+            CompletableFuture.allOf(callers.toArray(new CompletableFuture[0]))
+                    .get(10, TimeUnit.SECONDS);
+            CompletableFuture.allOf(responses.toArray(new CompletableFuture[0]))
+                    .get(10, TimeUnit.SECONDS);
+
+            assertEquals(100, sentNonces.size());
+            assertEquals(new HashSet<>(nonces(range(5, 105))), new HashSet<>(sentNonces));
+            assertEquals(BigInteger.valueOf(105), concurrentManager.getCurrentNonce());
+            assertTrue(concurrentManager.getInFlightTransactions().isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testTransportFailureNonceIsNotReusedOnceReceived() throws Exception {
+        when(web3jService.sendAsync(any(Request.class), eq(EthGetTransactionCount.class)))
+                .thenReturn(CompletableFuture.completedFuture(transactionCount(6)));
+        sendErrors.add(TRANSPORT_FAILURE);
+
+        assertThrows(IOException.class, this::send);
+        send();
+
+        assertEquals(nonces(5, 6), sentNonces);
+    }
+
+    @Test
+    void testTransportFailureNonceIsReusedWhenNotReceived() throws Exception {
+        when(web3jService.sendAsync(any(Request.class), eq(EthGetTransactionCount.class)))
+                .thenReturn(CompletableFuture.completedFuture(transactionCount(5)));
+        sendErrors.add(TRANSPORT_FAILURE);
+
+        assertThrows(IOException.class, this::send);
+        send();
+
+        assertEquals(nonces(5, 5), sentNonces);
+    }
+
+    @Test
+    void testRejectionBehindLaterNoncesIsFilled() throws Exception {
+        CompletableFuture<EthSendTransaction> rejected = new CompletableFuture<>();
+        when(web3jService.sendAsync(any(Request.class), eq(EthSendTransaction.class)))
+                .thenAnswer(
+                        invocation -> {
+                            Request<?, ?> request = invocation.getArgument(0);
+                            String hexValue = (String) request.getParams().get(0);
+                            RawTransaction rawTransaction = TransactionDecoder.decode(hexValue);
+                            sentTransactions.add(rawTransaction);
+                            sentNonces.add(rawTransaction.getNonce());
+                            if (sentNonces.size() == 1) {
+                                return rejected;
+                            }
+                            EthSendTransaction ethSendTransaction = new EthSendTransaction();
+                            ethSendTransaction.setResult(Hash.sha3(hexValue));
+                            return CompletableFuture.completedFuture(ethSendTransaction);
+                        });
+
+        CompletableFuture<EthSendTransaction> first =
+                transactionManager.sendTransactionAsync(this::transaction);
+        send();
+        send();
+        EthSendTransaction rejection = new EthSendTransaction();
+        rejection.setError(new Response.Error(-32000, "insufficient funds for gas"));
+        rejected.complete(rejection);
+
+        assertTrue(first.get().hasError());
+        assertEquals(nonces(5, 6, 7, 5), sentNonces);
+        RawTransaction gapFiller = sentTransactions.get(3);
+        assertEquals(SampleKeys.ADDRESS, gapFiller.getTo());
+        assertEquals(BigInteger.ZERO, gapFiller.getValue());
+        assertEquals(BigInteger.ONE, gapFiller.getGasPrice());
+
+        send();
+        assertEquals(BigInteger.valueOf(8), sentNonces.get(4));
+    }
+
+    private RawTransaction transaction(BigInteger nonce) {
+        return RawTransaction.createTransaction(
+                nonce, BigInteger.ONE, BigInteger.valueOf(21000), "0x0add5355", BigInteger.ONE, "");
+    }
+
+    private static long[] range(long from, long to) {
+        long[] range = new long[(int) (to - from)];
+        for (int i = 0; i < range.length; i++) {
+            range[i] = from + i;
+        }
+        return range;
+    }
+
+    private EthSendTransaction send() throws Exception {
+        return transactionManager.sendTransaction(
+                BigInteger.ONE, BigInteger.valueOf(21000), "0x0add5355", "", BigInteger.ONE);
+    }
+
+    private static List<BigInteger> nonces(long... nonces) {
+        List<BigInteger> result = new ArrayList<>();
+        for (long nonce : nonces) {
+            result.add(BigInteger.valueOf(nonce));
+        }
+        return result;
+    }
+
+    private static EthGetTransactionCount transactionCount(long count) {
+        EthGetTransactionCount ethGetTransactionCount = new EthGetTransactionCount();
+        ethGetTransactionCount.setResult("0x" + Long.toHexString(count));
+        return ethGetTransactionCount;
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.ECKeyPair;
+import org.web3j.crypto.Hash;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.filters.HeadTracker;
+import org.web3j.protocol.core.methods.response.EthGetTransactionCount;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.service.TxSignService;
+import org.web3j.service.TxSignServiceImpl;
+import org.web3j.tx.response.ReceiptTracker;
+import org.web3j.tx.response.TransactionReceiptProcessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ShardedTransactionManagerTest {
+
+    private Web3jService web3jService;
+    private Web3j web3j;
+    private HeadTracker headTracker;
+    private ReceiptTracker receiptTracker;
+    private ShardedTransactionManager transactionManager;
+    private String sendError;
+    private boolean transportFailure;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        web3jService = mock(Web3jService.class);
+        web3j = Web3j.build(web3jService, 1000, Executors.newSingleThreadScheduledExecutor());
+        headTracker = mock(HeadTracker.class);
+        receiptTracker = new ReceiptTracker(web3j, headTracker, 3, 10);
+        transactionManager = transactionManager(3);
+
+        EthGetTransactionCount ethGetTransactionCount = new EthGetTransactionCount();
+        ethGetTransactionCount.setResult("0x0");
+        when(web3jService.send(any(Request.class), eq(EthGetTransactionCount.class)))
+                .thenReturn(ethGetTransactionCount);
+        when(web3jService.sendAsync(any(Request.class), eq(EthSendTransaction.class)))
+                .thenAnswer(
+                        invocation -> {
+                            if (transportFailure) {
+                                return CompletableFuture.failedFuture(
+                                        new IOException("connection reset"));
+                            }
+                            Request<?, ?> request = invocation.getArgument(0);
+                            EthSendTransaction ethSendTransaction = new EthSendTransaction();
+                            if (sendError == null) {
+                                String hexValue = (String) request.getParams().get(0);
+                                ethSendTransaction.setResult(Hash.sha3(hexValue));
+                            } else {
+                                ethSendTransaction.setError(new Response.Error(-32000, sendError));
+                            }
+                            return CompletableFuture.completedFuture(ethSendTransaction);
+                        });
+    }
+
+    @Test
+    void testTransactionsAreSpreadAcrossAccounts() throws Exception {
+        for (int i = 0; i < 6; i++) {
+            send();
+        }
+
+        for (ShardedTransactionManager.AccountMetrics metrics :
+                transactionManager.getAccountMetrics()) {
+            assertEquals(2, metrics.getSent());
+            assertEquals(2, metrics.getPending());
+            assertEquals(0, metrics.getInFlight());
+            assertEquals(BigInteger.valueOf(2), metrics.getNextNonce());
+        }
+    }
+
+    @Test
+    void testLeastLoadedAccountIsChosen() throws Exception {
+        transactionManager = transactionManager(2);
+        send();
+        EthSendTransaction second = send();
+        transactionManager.onReceipt(second.getTransactionHash());
+
+        send();
+
+        assertEquals(Arrays.asList(1L, 2L), sent());
+        assertEquals(1, transactionManager.getAccountMetrics().get(0).getPending());
+        assertEquals(1, transactionManager.getAccountMetrics().get(1).getPending());
+    }
+
+    @Test
+    void testRejectedTransactionIsNotPending() throws Exception {
+        sendError = "insufficient funds for gas * price + value";
+
+        assertTrue(send().hasError());
+
+        ShardedTransactionManager.AccountMetrics metrics =
+                transactionManager.getAccountMetrics().get(0);
+        assertEquals(1, metrics.getFailed());
+        assertEquals(0, metrics.getSent());
+        assertEquals(0, metrics.getPending());
+    }
+
+    @Test
+    void testFailedSendIsCounted() {
+        transportFailure = true;
+
+        assertThrows(IOException.class, this::send);
+
+        ShardedTransactionManager.AccountMetrics metrics =
+                transactionManager.getAccountMetrics().get(0);
+        assertEquals(1, metrics.getFailed());
+        assertEquals(0, metrics.getInFlight());
+        assertEquals(0, metrics.getPending());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testPendingDrainsOnceMined() throws Exception {
+        when(web3jService.sendBatch(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest batchRequest = invocation.getArgument(0);
+                            List<Response<?>> responses = new ArrayList<>();
+                            for (Request<?, ?> request : batchRequest.getRequests()) {
+                                TransactionReceipt receipt = new TransactionReceipt();
+                                receipt.setTransactionHash((String) request.getParams().get(0));
+                                EthGetTransactionReceipt response = new EthGetTransactionReceipt();
+                                response.setId(request.getId());
+                                response.setResult(receipt);
+                                responses.add(response);
+                            }
+                            return new BatchResponse(batchRequest.getRequests(), responses);
+                        });
+        send();
+        send();
+        ArgumentCaptor<Consumer<BigInteger>> listener =
+                ArgumentCaptor.forClass((Class) Consumer.class);
+        verify(headTracker).addListener(listener.capture());
+
+        listener.getValue().accept(BigInteger.ONE);
+
+        for (ShardedTransactionManager.AccountMetrics metrics :
+                transactionManager.getAccountMetrics()) {
+            assertEquals(0, metrics.getPending());
+        }
+    }
+
+    @Test
+    void testCloseLeavesProvidedTrackerOpen() {
+        transactionManager.close();
+
+        assertFalse(receiptTracker.track("0x01").isDone());
+    }
+
+    @Test
+    void testCloseClosesOwnTracker() {
+        transactionManager =
+                new ShardedTransactionManager(
+                        web3j,
+                        signServices(1),
+                        ChainIdLong.NONE,
+                        mock(TransactionReceiptProcessor.class),
+                        Runnable::run);
+
+        transactionManager.close();
+
+        // The tracker following sent transactions no longer accepts them
+        assertThrows(IllegalStateException.class, this::send);
+    }
+
+    @Test
+    void testAccountsAreRequired() {
+        assertThrows(IllegalArgumentException.class, () -> transactionManager(0));
+    }
+
+    private ShardedTransactionManager transactionManager(int accounts) {
+        return new ShardedTransactionManager(
+                web3j, signServices(accounts), ChainIdLong.NONE, receiptTracker, Runnable::run);
+    }
+
+    private static List<TxSignService> signServices(int accounts) {
+        List<TxSignService> txSignServices = new ArrayList<>();
+        for (int i = 1; i <= accounts; i++) {
+            ECKeyPair keyPair = ECKeyPair.create(BigInteger.valueOf(i));
+            txSignServices.add(new TxSignServiceImpl(Credentials.create(keyPair)));
+        }
+        return txSignServices;
+    }
+
+    private EthSendTransaction send() throws Exception {
+        return transactionManager.sendTransaction(
+                BigInteger.ONE, BigInteger.valueOf(21000), "0x0add5355", "", BigInteger.ONE);
+    }
+
+    private List<Long> sent() {
+        List<Long> sent = new ArrayList<>();
+        for (ShardedTransactionManager.AccountMetrics metrics :
+                transactionManager.getAccountMetrics()) {
+            sent.add(metrics.getSent());
+        }
+        return sent;
+    }
+}
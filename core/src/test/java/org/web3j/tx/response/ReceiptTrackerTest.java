@@ -0,0 +1,247 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx.response;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.filters.HeadTracker;
+import org.web3j.protocol.core.methods.response.EthGetBlockReceipts;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReceiptTrackerTest {
+
+    private HeadTracker headTracker;
+    private ReceiptTracker receiptTracker;
+    private Map<String, TransactionReceipt> receiptsByHash;
+    private Map<BigInteger, List<TransactionReceipt>> receiptsByBlock;
+    private Response.Error blockReceiptsError;
+    // Methods of the requests in each batch sent
+    private List<List<String>> batches;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Web3jService web3jService = mock(Web3jService.class);
+        Web3j web3j = Web3j.build(web3jService, 1000, Executors.newSingleThreadScheduledExecutor());
+        headTracker = mock(HeadTracker.class);
+        receiptTracker = new ReceiptTracker(web3j, headTracker, 3, 2);
+        receiptsByHash = new HashMap<>();
+        receiptsByBlock = new HashMap<>();
+        batches = new ArrayList<>();
+
+        when(web3jService.sendBatch(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest batchRequest = invocation.getArgument(0);
+                            List<String> methods = new ArrayList<>();
+                            List<Response<?>> responses = new ArrayList<>();
+                            for (Request<?, ?> request : batchRequest.getRequests()) {
+                                methods.add(request.getMethod());
+                                Response<?> response = respond(request);
+                                response.setId(request.getId());
+                                responses.add(response);
+                            }
+                            batches.add(methods);
+                            return new BatchResponse(batchRequest.getRequests(), responses);
+                        });
+    }
+
+    @Test
+    void testNewTransactionsAreLookedUpInBatches() throws Exception {
+        TransactionReceipt first = receipt("0x01", 10);
+        TransactionReceipt second = receipt("0x02", 10);
+        CompletableFuture<TransactionReceipt> firstFuture = receiptTracker.track("0x01");
+        CompletableFuture<TransactionReceipt> secondFuture = receiptTracker.track("0x02");
+        CompletableFuture<TransactionReceipt> thirdFuture = receiptTracker.track("0x03");
+
+        receiptTracker.onHead(BigInteger.TEN);
+
+        assertSame(first, firstFuture.get());
+        assertSame(second, secondFuture.get());
+        assertFalse(thirdFuture.isDone());
+        assertEquals(2, batches.size());
+        assertEquals(1, receiptTracker.getPendingCount());
+    }
+
+    @Test
+    void testCheckedTransactionsAreMatchedAgainstNewBlocks() throws Exception {
+        CompletableFuture<TransactionReceipt> future = receiptTracker.track("0x01");
+        receiptTracker.track("0x02");
+        receiptTracker.onHead(BigInteger.TEN);
+        TransactionReceipt receipt = receipt("0x01", 11);
+
+        receiptTracker.onHead(BigInteger.valueOf(11));
+
+        assertSame(receipt, future.get());
+        assertEquals(Arrays.asList("eth_getBlockReceipts"), batches.get(1));
+    }
+
+    @Test
+    void testUnsupportedBlockReceiptsFallBackToBatches() throws Exception {
+        blockReceiptsError = new Response.Error(-32601, "the method does not exist");
+        CompletableFuture<TransactionReceipt> future = receiptTracker.track("0x01");
+        receiptTracker.track("0x02");
+        receiptTracker.onHead(BigInteger.TEN);
+        receiptTracker.onHead(BigInteger.valueOf(11));
+        TransactionReceipt receipt = receipt("0x01", 12);
+
+        receiptTracker.onHead(BigInteger.valueOf(12));
+
+        assertSame(receipt, future.get());
+        assertEquals(
+                Arrays.asList("eth_getTransactionReceipt", "eth_getTransactionReceipt"),
+                batches.get(batches.size() - 1));
+    }
+
+    @Test
+    void testTransactionWithoutReceiptTimesOut() {
+        CompletableFuture<TransactionReceipt> future = receiptTracker.track("0x01");
+
+        receiptTracker.onHead(BigInteger.TEN);
+        receiptTracker.onHead(BigInteger.valueOf(12));
+        assertFalse(future.isDone());
+        receiptTracker.onHead(BigInteger.valueOf(13));
+
+        ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertTrue(e.getCause() instanceof TransactionException);
+        assertEquals(0, receiptTracker.getPendingCount());
+    }
+
+    @Test
+    void testHeadTrackingStopsWhenIdle() {
+        receipt("0x01", 10);
+        receiptTracker.track("0x01");
+        receiptTracker.track("0x01");
+
+        receiptTracker.onHead(BigInteger.TEN);
+
+        verify(headTracker).addListener(any());
+        verify(headTracker).removeListener(any());
+    }
+
+    @Test
+    void testCloseStopsHeadTrackingAndFailsPendingTransactions() {
+        CompletableFuture<TransactionReceipt> future = receiptTracker.track("0x01");
+
+        receiptTracker.close();
+
+        verify(headTracker).removeListener(any());
+        ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertTrue(e.getCause() instanceof TransactionException);
+        assertEquals(0, receiptTracker.getPendingCount());
+        assertThrows(IllegalStateException.class, () -> receiptTracker.track("0x02"));
+    }
+
+    @Test
+    void testTrackingAgainAfterIdleCountsFromNextHead() {
+        receipt("0x01", 10);
+        receiptTracker.track("0x01");
+        receiptTracker.onHead(BigInteger.TEN);
+
+        CompletableFuture<TransactionReceipt> future = receiptTracker.track("0x02");
+        receiptTracker.onHead(BigInteger.valueOf(20));
+
+        assertFalse(future.isDone());
+        verify(headTracker, times(2)).addListener(any());
+    }
+
+    @Test
+    void testReceiptInReplacedBlockIsFoundBeforeTimeout() throws Exception {
+        CompletableFuture<TransactionReceipt> future = receiptTracker.track("0x01");
+        receiptTracker.track("0x02");
+        receiptTracker.onHead(BigInteger.TEN);
+        receiptTracker.onHead(BigInteger.valueOf(11));
+        // Included in a block replacing block 11, which has already been searched
+        TransactionReceipt receipt = receipt("0x01", 11);
+
+        receiptTracker.onHead(BigInteger.valueOf(12));
+        assertFalse(future.isDone());
+        receiptTracker.onHead(BigInteger.valueOf(13));
+
+        assertSame(receipt, future.get());
+    }
+
+    @Test
+    void testReplacedHeadIsLookedUpAgain() throws Exception {
+        CompletableFuture<TransactionReceipt> future = receiptTracker.track("0x01");
+        receiptTracker.track("0x02");
+        receiptTracker.onHead(BigInteger.TEN);
+        TransactionReceipt receipt = receipt("0x01", 10);
+
+        receiptTracker.onHead(BigInteger.TEN);
+
+        assertSame(receipt, future.get());
+        assertEquals(
+                Arrays.asList("eth_getTransactionReceipt", "eth_getTransactionReceipt"),
+                batches.get(batches.size() - 1));
+    }
+
+    private Response<?> respond(Request<?, ?> request) {
+        String param = (String) request.getParams().get(0);
+        if (request.getMethod().equals("eth_getBlockReceipts")) {
+            EthGetBlockReceipts ethGetBlockReceipts = new EthGetBlockReceipts();
+            if (blockReceiptsError != null) {
+                ethGetBlockReceipts.setError(blockReceiptsError);
+            } else {
+                ethGetBlockReceipts.setResult(
+                        receiptsByBlock.getOrDefault(
+                                Numeric.decodeQuantity(param), new ArrayList<>()));
+            }
+            return ethGetBlockReceipts;
+        }
+        EthGetTransactionReceipt ethGetTransactionReceipt = new EthGetTransactionReceipt();
+        ethGetTransactionReceipt.setResult(receiptsByHash.get(param));
+        return ethGetTransactionReceipt;
+    }
+
+    private TransactionReceipt receipt(String transactionHash, long blockNumber) {
+        TransactionReceipt receipt = new TransactionReceipt();
+        receipt.setTransactionHash(transactionHash);
+        receipt.setBlockNumber(Numeric.encodeQuantity(BigInteger.valueOf(blockNumber)));
+        receiptsByHash.put(transactionHash, receipt);
+        receiptsByBlock
+                .computeIfAbsent(BigInteger.valueOf(blockNumber), block -> new ArrayList<>())
+                .add(receipt);
+        return receipt;
+    }
+}
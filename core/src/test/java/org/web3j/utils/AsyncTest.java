@@ -13,14 +13,28 @@
 package org.web3j.utils;
 
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AsyncTest {
 
+    @AfterEach
+    void tearDown() {
+        // The executor is global, so restore it for other test classes
+        Async.reset();
+    }
+
     @Test
     void testRun() throws Exception {
         assertEquals("", Async.run(() -> "").get());
@@ -39,4 +53,62 @@ class AsyncTest {
                             .get();
                 });
     }
+
+    @Test
+    void testRunOnProvidedExecutor() throws Exception {
+        ExecutorService executorService =
+                Executors.newSingleThreadExecutor(r -> new Thread(r, "caller-supplied"));
+        try {
+            assertEquals(
+                    "caller-supplied",
+                    Async.run(() -> Thread.currentThread().getName(), executorService).get());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void testUseVirtualThreads() throws Exception {
+        Async.useVirtualThreads();
+        assertTrue(Async.run(() -> Thread.currentThread().isVirtual()).get());
+
+        ScheduledExecutorService scheduler = Async.defaultExecutorService();
+        assertTrue(
+                scheduler
+                        .schedule(() -> Thread.currentThread().isVirtual(), 1, MILLISECONDS)
+                        .get());
+        scheduler.shutdown();
+    }
+
+    @Test
+    void testCallerSuppliedExecutorResetsVirtualSchedulers() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Async.useVirtualThreads();
+            Async.setExecutorService(executorService);
+
+            ScheduledExecutorService scheduler = Async.defaultExecutorService();
+            assertFalse(
+                    scheduler
+                            .schedule(() -> Thread.currentThread().isVirtual(), 1, MILLISECONDS)
+                            .get());
+            scheduler.shutdown();
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void testCallerSuppliedExecutorIsNotShutDown() {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Async.setExecutorService(executorService);
+            assertSame(executorService, Async.getExecutorService());
+
+            Async.useBoundedThreadPool(2);
+            assertFalse(executorService.isShutdown());
+        } finally {
+            executorService.shutdown();
+        }
+    }
 }
@@ -17,11 +17,12 @@ import java.security.KeyPair;
 import java.util.Arrays;
 
 import org.bouncycastle.crypto.digests.SHA256Digest;
-import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
-import org.bouncycastle.crypto.signers.ECDSASigner;
 import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
 import org.bouncycastle.jcajce.provider.asymmetric.ec.BCECPrivateKey;
 import org.bouncycastle.jcajce.provider.asymmetric.ec.BCECPublicKey;
+import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.math.ec.FixedPointCombMultiplier;
+import org.bouncycastle.util.BigIntegers;
 
 import org.web3j.utils.Numeric;
 
@@ -50,13 +51,63 @@ public class ECKeyPair {
      * @return An {@link ECDSASignature} of the hash
      */
     public ECDSASignature sign(byte[] transactionHash) {
-        ECDSASigner signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
+        return signRecoverable(transactionHash);
+    }
 
-        ECPrivateKeyParameters privKey = new ECPrivateKeyParameters(privateKey, Sign.CURVE);
-        signer.init(true, privKey);
-        BigInteger[] components = signer.generateSignature(transactionHash);
+    /**
+     * Sign a hash with the private key of this key pair, keeping track of the recovery id.
+     *
+     * <p>The nonce is derived deterministically as per RFC 6979 and the signature is canonicalised
+     * to a low S value. The recovery id follows from the nonce point computed while signing, so
+     * unlike {@link Sign#createSignatureData(ECDSASignature, BigInteger, byte[])} no public keys
+     * have to be recovered to find it.
+     *
+     * @param messageHash the hash to sign
+     * @return A {@link RecoverableECDSASignature} of the hash
+     */
+    public RecoverableECDSASignature signRecoverable(byte[] messageHash) {
+        BigInteger n = Sign.CURVE.getN();
+        BigInteger e = calculateE(n, messageHash);
+        HMacDSAKCalculator kCalculator = new HMacDSAKCalculator(new SHA256Digest());
+        kCalculator.init(n, privateKey, messageHash);
+
+        FixedPointCombMultiplier multiplier = new FixedPointCombMultiplier();
+        while (true) {
+            BigInteger k = kCalculator.nextK();
+            ECPoint p = multiplier.multiply(Sign.CURVE.getG(), k).normalize();
+            BigInteger x = p.getAffineXCoord().toBigInteger();
+            BigInteger r = x.mod(n);
+            if (r.signum() == 0) {
+                continue;
+            }
+            // BigInteger.modInverse is not constant time, and would leak k through timing
+            BigInteger s =
+                    BigIntegers.modOddInverse(n, k).multiply(e.add(privateKey.multiply(r))).mod(n);
+            if (s.signum() == 0) {
+                continue;
+            }
+
+            // Bit 0 of the recovery id is the parity of R's y coordinate, bit 1 records whether
+            // R's x coordinate overflowed the curve order
+            int recId = (p.getAffineYCoord().testBitZero() ? 1 : 0) | (x.equals(r) ? 0 : 2);
+            if (s.compareTo(Sign.HALF_CURVE_ORDER) > 0) {
+                // Negating s is the same as negating R, which flips the parity of its y coordinate
+                s = n.subtract(s);
+                recId ^= 1;
+            }
+            return new RecoverableECDSASignature(r, s, recId);
+        }
+    }
 
-        return new ECDSASignature(components[0], components[1]).toCanonicalised();
+    private static BigInteger calculateE(BigInteger n, byte[] message) {
+        int log2n = n.bitLength();
+        int messageBitLength = message.length * 8;
+
+        BigInteger e = new BigInteger(1, message);
+        if (log2n < messageBitLength) {
+            e = e.shiftRight(messageBitLength - log2n);
+        }
+        return e;
     }
 
     public static ECKeyPair create(KeyPair keyPair) {
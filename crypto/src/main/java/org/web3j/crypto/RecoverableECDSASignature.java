@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.math.BigInteger;
+
+/**
+ * An ECDSA Signature together with its recovery id, which identifies which of the candidate public
+ * keys recovered from the signature is the signer's.
+ */
+public class RecoverableECDSASignature extends ECDSASignature {
+    private final int recId;
+
+    public RecoverableECDSASignature(BigInteger r, BigInteger s, int recId) {
+        super(r, s);
+        this.recId = recId;
+    }
+
+    /**
+     * @return the recovery id, between 0 and 3, as used by {@link
+     *     Sign#recoverFromSignature(int, ECDSASignature, byte[])}
+     */
+    public int getRecId() {
+        return recId;
+    }
+}
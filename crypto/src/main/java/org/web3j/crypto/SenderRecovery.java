@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.math.BigInteger;
+import java.security.SignatureException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.bouncycastle.math.ec.ECPoint;
+
+import org.web3j.utils.Numeric;
+
+/**
+ * Recovers the senders of many signed transactions or messages at once.
+ *
+ * <p>Recoveries are split across a {@link ForkJoinPool}, the common pool unless another is given.
+ * Senders are returned as raw 20 byte addresses, and are derived straight from the recovered
+ * public key point without going through {@link BigInteger} or hex strings. A signature that
+ * cannot be recovered yields a {@code null} address rather than failing the whole batch.
+ *
+ * <pre>{@code
+ * List<SignedRawTransaction> transactions = ...;
+ * byte[][] senders = SenderRecovery.recoverSenders(transactions);
+ * }</pre>
+ */
+public class SenderRecovery {
+
+    // Recoveries per fork-join task, below which a range is recovered sequentially
+    private static final int THRESHOLD = 16;
+
+    private SenderRecovery() {}
+
+    /**
+     * Recover the sender address of each transaction, as per {@link
+     * SignatureDataOperations#getFrom()}.
+     *
+     * @param transactions signed transactions, such as those returned by {@link
+     *     TransactionDecoder#decode(String)}
+     * @return the 20 byte sender address of each transaction, or null if it could not be recovered
+     */
+    public static byte[][] recoverSenders(List<? extends SignatureDataOperations> transactions) {
+        return recoverSenders(transactions, ForkJoinPool.commonPool());
+    }
+
+    public static byte[][] recoverSenders(
+            List<? extends SignatureDataOperations> transactions, ForkJoinPool pool) {
+        byte[][] senders = new byte[transactions.size()][];
+        pool.invoke(
+                new RecoveryTask(
+                        0,
+                        senders.length,
+                        i -> senders[i] = recoverSender(transactions.get(i))));
+        return senders;
+    }
+
+    /**
+     * Recover the signer address of each message hash and its signature, as per {@link
+     * Sign#signedMessageHashToKey(byte[], Sign.SignatureData)}.
+     *
+     * @param messageHashes hashes of the signed messages
+     * @param signatures signatures of the message hashes, in the same order
+     * @return the 20 byte signer address of each message, or null if it could not be recovered
+     */
+    public static byte[][] recoverAddresses(
+            List<byte[]> messageHashes, List<Sign.SignatureData> signatures) {
+        return recoverAddresses(messageHashes, signatures, ForkJoinPool.commonPool());
+    }
+
+    public static byte[][] recoverAddresses(
+            List<byte[]> messageHashes, List<Sign.SignatureData> signatures, ForkJoinPool pool) {
+        if (messageHashes.size() != signatures.size()) {
+            throw new IllegalArgumentException(
+                    "Message hashes and signatures must be of the same size");
+        }
+        byte[][] addresses = new byte[messageHashes.size()][];
+        pool.invoke(
+                new RecoveryTask(
+                        0,
+                        addresses.length,
+                        i ->
+                                addresses[i] =
+                                        recoverAddress(messageHashes.get(i), signatures.get(i))));
+        return addresses;
+    }
+
+    private static byte[] recoverSender(SignatureDataOperations transaction) {
+        byte[] messageHash;
+        Sign.SignatureData signatureData;
+        try {
+            Sign.SignatureData transactionSignature = transaction.getSignatureData();
+            messageHash = Hash.sha3(transaction.getEncodedTransaction(transaction.getChainId()));
+            byte v = transaction.getRealV(Numeric.toBigInt(transactionSignature.getV()));
+            signatureData =
+                    new Sign.SignatureData(
+                            v, transactionSignature.getR(), transactionSignature.getS());
+        } catch (RuntimeException e) {
+            return null;
+        }
+        return recoverAddress(messageHash, signatureData);
+    }
+
+    private static byte[] recoverAddress(byte[] messageHash, Sign.SignatureData signatureData) {
+        try {
+            return addressOf(Sign.signedMessageHashToPoint(messageHash, signatureData));
+        } catch (SignatureException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    // Method visible for unit-tests
+    static byte[] addressOf(ECPoint publicKey) {
+        if (publicKey.isInfinity()) {
+            return null;
+        }
+        byte[] encoded = publicKey.getEncoded(false);
+        if (encoded.length != 65) {
+            return null;
+        }
+        // Skip the 0x04 prefix of the uncompressed encoding
+        byte[] hash = Hash.sha3(encoded, 1, 64);
+        return Arrays.copyOfRange(hash, hash.length - 20, hash.length);
+    }
+
+    private interface Recovery {
+        void recover(int index);
+    }
+
+    private static class RecoveryTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final Recovery recovery;
+
+        RecoveryTask(int from, int to, Recovery recovery) {
+            this.from = from;
+            this.to = to;
+            this.recovery = recovery;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    recovery.recover(i);
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(
+                        new RecoveryTask(from, middle, recovery),
+                        new RecoveryTask(middle, to, recovery));
+            }
+        }
+    }
+}
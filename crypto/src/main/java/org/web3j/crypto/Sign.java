@@ -91,7 +91,6 @@ public class Sign {
     }
 
     public static SignatureData signMessage(byte[] message, ECKeyPair keyPair, boolean needToHash) {
-        BigInteger publicKey = keyPair.getPublicKey();
         byte[] messageHash;
         if (needToHash) {
             messageHash = Hash.sha3(message);
@@ -99,9 +98,17 @@ public class Sign {
             messageHash = message;
         }
 
-        ECDSASignature sig = keyPair.sign(messageHash);
+        RecoverableECDSASignature sig = keyPair.signRecoverable(messageHash);
 
-        return createSignatureData(sig, publicKey, messageHash);
+        return createSignatureData(sig);
+    }
+
+    /**
+     * Signature without EIP-155 (Simple replay attack protection), using the recovery id
+     * computed while signing.
+     */
+    public static Sign.SignatureData createSignatureData(RecoverableECDSASignature sig) {
+        return createSignatureData(sig.getRecId(), sig);
     }
 
     /**
@@ -125,6 +132,10 @@ public class Sign {
                     "Could not construct a recoverable key. Are your credentials valid?");
         }
 
+        return createSignatureData(recId, sig);
+    }
+
+    private static Sign.SignatureData createSignatureData(int recId, ECDSASignature sig) {
         int headerByte = recId + 27;
 
         // 1 header + 32 bytes for R + 32 bytes for S
@@ -194,6 +205,21 @@ public class Sign {
      * @return An ECKey containing only the public part, or null if recovery wasn't possible.
      */
     public static BigInteger recoverFromSignature(int recId, ECDSASignature sig, byte[] message) {
+        ECPoint q = recoverPointFromSignature(recId, sig, message);
+        if (q == null) {
+            return null;
+        }
+
+        byte[] qBytes = q.getEncoded(false);
+        // We remove the prefix
+        return new BigInteger(1, Arrays.copyOfRange(qBytes, 1, qBytes.length));
+    }
+
+    /**
+     * As per {@link #recoverFromSignature(int, ECDSASignature, byte[])}, but returns the public key
+     * point, or null if recovery wasn't possible.
+     */
+    static ECPoint recoverPointFromSignature(int recId, ECDSASignature sig, byte[] message) {
         verifyPrecondition(recId >= 0 && recId <= 3, "recId must be in the range of [0, 3]");
         verifyPrecondition(sig.r.signum() >= 0, "r must be positive");
         verifyPrecondition(sig.s.signum() >= 0, "s must be positive");
@@ -221,7 +247,10 @@ public class Sign {
         ECPoint R = decompressKey(x, (recId & 1) == 1);
         //   1.4. If nR != point at infinity, then do another iteration of Step 1 (callers
         //        responsibility).
-        if (!R.multiply(n).isInfinity()) {
+        //
+        // The cofactor of secp256k1 is 1, so every point on the curve has order n and the check
+        // would cost a full point multiplication for nothing.
+        if (!CURVE.getH().equals(BigInteger.ONE) && !R.multiply(n).isInfinity()) {
             return null;
         }
         //   1.5. Compute e from M using Steps 2 and 3 of ECDSA signature verification.
@@ -244,11 +273,7 @@ public class Sign {
         BigInteger rInv = sig.r.modInverse(n);
         BigInteger srInv = rInv.multiply(sig.s).mod(n);
         BigInteger eInvrInv = rInv.multiply(eInv).mod(n);
-        ECPoint q = ECAlgorithms.sumOfTwoMultiplies(CURVE.getG(), eInvrInv, R, srInv);
-
-        byte[] qBytes = q.getEncoded(false);
-        // We remove the prefix
-        return new BigInteger(1, Arrays.copyOfRange(qBytes, 1, qBytes.length));
+        return ECAlgorithms.sumOfTwoMultiplies(CURVE.getG(), eInvrInv, R, srInv);
     }
 
     /** Decompress a compressed public key (x co-ord and low-bit of y-coord). */
@@ -304,6 +329,17 @@ public class Sign {
      */
     public static BigInteger signedMessageHashToKey(byte[] messageHash, SignatureData signatureData)
             throws SignatureException {
+        byte[] qBytes = signedMessageHashToPoint(messageHash, signatureData).getEncoded(false);
+        // We remove the prefix
+        return new BigInteger(1, Arrays.copyOfRange(qBytes, 1, qBytes.length));
+    }
+
+    /**
+     * As per {@link #signedMessageHashToKey(byte[], SignatureData)}, but returns the public key
+     * point.
+     */
+    static ECPoint signedMessageHashToPoint(byte[] messageHash, SignatureData signatureData)
+            throws SignatureException {
 
         byte[] r = signatureData.getR();
         byte[] s = signatureData.getS();
@@ -323,7 +359,7 @@ public class Sign {
                         new BigInteger(1, signatureData.getS()));
 
         int recId = header - 27;
-        BigInteger key = recoverFromSignature(recId, sig, messageHash);
+        ECPoint key = recoverPointFromSignature(recId, sig, messageHash);
         if (key == null) {
             throw new SignatureException("Could not recover public key from signature");
         }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SenderRecoveryTest {
+
+    private static final byte[] ADDRESS = Numeric.hexStringToByteArray(SampleKeys.ADDRESS);
+
+    @Test
+    public void testRecoverSenders() throws Exception {
+        List<SignedRawTransaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            RawTransaction rawTransaction =
+                    RawTransaction.createEtherTransaction(
+                            BigInteger.valueOf(i),
+                            BigInteger.ONE,
+                            BigInteger.TEN,
+                            "0x0add5355",
+                            BigInteger.valueOf(i));
+            byte[] signed =
+                    i % 2 == 0
+                            ? TransactionEncoder.signMessage(rawTransaction, SampleKeys.CREDENTIALS)
+                            : TransactionEncoder.signMessage(
+                                    rawTransaction, 1L, SampleKeys.CREDENTIALS);
+            transactions.add(
+                    (SignedRawTransaction) TransactionDecoder.decode(Numeric.toHexString(signed)));
+        }
+
+        byte[][] senders = SenderRecovery.recoverSenders(transactions);
+
+        assertEquals(transactions.size(), senders.length);
+        for (int i = 0; i < senders.length; i++) {
+            assertArrayEquals(ADDRESS, senders[i]);
+            assertEquals(transactions.get(i).getFrom(), Numeric.toHexString(senders[i]));
+        }
+    }
+
+    @Test
+    public void testRecoverAddresses() {
+        List<byte[]> messageHashes = new ArrayList<>();
+        List<Sign.SignatureData> signatures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            byte[] messageHash = Hash.sha3(("message " + i).getBytes());
+            messageHashes.add(messageHash);
+            signatures.add(Sign.signMessage(messageHash, SampleKeys.KEY_PAIR, false));
+        }
+        // An invalid signature only fails its own entry
+        signatures.set(7, new Sign.SignatureData((byte) 27, new byte[32], new byte[32]));
+
+        byte[][] addresses = SenderRecovery.recoverAddresses(messageHashes, signatures);
+
+        for (int i = 0; i < addresses.length; i++) {
+            if (i == 7) {
+                assertNull(addresses[i]);
+            } else {
+                assertArrayEquals(ADDRESS, addresses[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testFailingTransactionOnlyFailsItsOwnEntry() throws Exception {
+        RawTransaction rawTransaction =
+                RawTransaction.createEtherTransaction(
+                        BigInteger.ONE,
+                        BigInteger.ONE,
+                        BigInteger.TEN,
+                        "0x0add5355",
+                        BigInteger.ONE);
+        SignedRawTransaction transaction =
+                (SignedRawTransaction)
+                        TransactionDecoder.decode(
+                                Numeric.toHexString(
+                                        TransactionEncoder.signMessage(
+                                                rawTransaction, SampleKeys.CREDENTIALS)));
+        SignatureDataOperations failing =
+                new SignatureDataOperations() {
+                    @Override
+                    public Sign.SignatureData getSignatureData() {
+                        return transaction.getSignatureData();
+                    }
+
+                    @Override
+                    public byte[] getEncodedTransaction(Long chainId) {
+                        throw new IllegalStateException("Cannot encode transaction");
+                    }
+                };
+
+        byte[][] senders = SenderRecovery.recoverSenders(Arrays.asList(transaction, failing));
+
+        assertArrayEquals(ADDRESS, senders[0]);
+        assertNull(senders[1]);
+    }
+
+    @Test
+    public void testPointAtInfinityHasNoAddress() {
+        assertNull(SenderRecovery.addressOf(Sign.CURVE.getCurve().getInfinity()));
+    }
+
+    @Test
+    public void testMismatchedSizesAreRejected() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        SenderRecovery.recoverAddresses(
+                                Arrays.asList(new byte[32], new byte[32]),
+                                Arrays.asList(
+                                        new Sign.SignatureData(
+                                                (byte) 27, new byte[32], new byte[32]))));
+    }
+}
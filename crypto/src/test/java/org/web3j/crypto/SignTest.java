@@ -29,6 +29,7 @@ import org.web3j.utils.Numeric;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.web3j.crypto.Sign.CHAIN_ID_INC;
 import static org.web3j.crypto.Sign.LOWER_REAL_V;
 import static org.web3j.crypto.Sign.REPLAY_PROTECTED_V_MIN;
@@ -53,6 +54,19 @@ public class SignTest {
         assertEquals(signatureData, (expected));
     }
 
+    @Test
+    public void testSignRecoverableMatchesRecoveredRecId() {
+        for (int i = 0; i < 256; i++) {
+            byte[] messageHash = Hash.sha3(("message " + i).getBytes());
+            RecoverableECDSASignature sig = SampleKeys.KEY_PAIR.signRecoverable(messageHash);
+
+            Sign.SignatureData expected =
+                    Sign.createSignatureData(sig, SampleKeys.PUBLIC_KEY, messageHash);
+            assertEquals(expected, Sign.createSignatureData(sig));
+            assertTrue(sig.isCanonical());
+        }
+    }
+
     @Test
     public void testSignedMessageToKey() throws SignatureException {
         Sign.SignatureData signatureData =